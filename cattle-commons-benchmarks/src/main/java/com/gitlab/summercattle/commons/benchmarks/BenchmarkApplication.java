@@ -0,0 +1,30 @@
+/*
+ * Copyright (C) 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gitlab.summercattle.commons.benchmarks;
+
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+
+import com.gitlab.summercattle.commons.utils.guice.annotation.EnableGuiceModules;
+
+/**
+ * 数据访问基准测试的Spring Boot启动类
+ */
+@SpringBootConfiguration
+@EnableAutoConfiguration
+@EnableGuiceModules
+public class BenchmarkApplication {
+}
\ No newline at end of file
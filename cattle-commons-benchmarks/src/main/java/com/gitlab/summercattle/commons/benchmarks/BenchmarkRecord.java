@@ -0,0 +1,85 @@
+/*
+ * Copyright (C) 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gitlab.summercattle.commons.benchmarks;
+
+import java.math.BigDecimal;
+
+import com.gitlab.summercattle.commons.db.annotation.FixedField;
+import com.gitlab.summercattle.commons.db.annotation.Primary;
+import com.gitlab.summercattle.commons.db.annotation.Table;
+import com.gitlab.summercattle.commons.db.constants.DataType;
+
+/**
+ * 数据访问基准测试使用的数据表
+ */
+@Table(name = "B_BENCHMARK_RECORD", alias = "BenchmarkRecord", comment = "基准测试记录")
+public class BenchmarkRecord {
+
+	@Primary
+	private String id;
+
+	@FixedField(name = "NAME", type = DataType.String, length = 100, comment = "名称")
+	private String name;
+
+	@FixedField(name = "AMOUNT", type = DataType.Number, length = 18, scale = 2, comment = "金额")
+	private BigDecimal amount;
+
+	@FixedField(name = "QUANTITY", type = DataType.Number, length = 10, comment = "数量")
+	private Integer quantity;
+
+	@FixedField(name = "REMARK", type = DataType.String, length = 500, comment = "备注")
+	private String remark;
+
+	public String getId() {
+		return id;
+	}
+
+	public void setId(String id) {
+		this.id = id;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public void setName(String name) {
+		this.name = name;
+	}
+
+	public BigDecimal getAmount() {
+		return amount;
+	}
+
+	public void setAmount(BigDecimal amount) {
+		this.amount = amount;
+	}
+
+	public Integer getQuantity() {
+		return quantity;
+	}
+
+	public void setQuantity(Integer quantity) {
+		this.quantity = quantity;
+	}
+
+	public String getRemark() {
+		return remark;
+	}
+
+	public void setRemark(String remark) {
+		this.remark = remark;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,65 @@
+/*
+ * Copyright (C) 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gitlab.summercattle.commons.benchmarks;
+
+import java.io.IOException;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * 基准测试入口,参数与JMH命令行一致,未指定结果格式时以JSON输出到jmh-result-版本号.json,便于不同版本间对比
+ */
+public class BenchmarkRunner {
+
+	public static void main(String[] args) throws CommandLineOptionException, RunnerException, IOException {
+		CommandLineOptions cmdOptions = new CommandLineOptions(args);
+		if (cmdOptions.shouldHelp()) {
+			cmdOptions.showHelp();
+			return;
+		}
+		if (cmdOptions.shouldList()) {
+			new Runner(cmdOptions).list();
+			return;
+		}
+		if (cmdOptions.shouldListWithParams()) {
+			new Runner(cmdOptions).listWithParams(cmdOptions);
+			return;
+		}
+		if (cmdOptions.shouldListProfilers()) {
+			cmdOptions.listProfilers();
+			return;
+		}
+		if (cmdOptions.shouldListResultFormats()) {
+			cmdOptions.listResultFormats();
+			return;
+		}
+		ChainedOptionsBuilder builder = new OptionsBuilder().parent(cmdOptions);
+		if (!cmdOptions.getResultFormat().hasValue()) {
+			builder.resultFormat(ResultFormatType.JSON);
+		}
+		if (!cmdOptions.getResult().hasValue()) {
+			String version = BenchmarkRunner.class.getPackage().getImplementationVersion();
+			builder.result("jmh-result-" + (null != version ? version : "dev") + ".json");
+		}
+		new Runner(builder.build()).run();
+	}
+}
\ No newline at end of file
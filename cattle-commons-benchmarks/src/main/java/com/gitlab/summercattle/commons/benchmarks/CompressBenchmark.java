@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gitlab.summercattle.commons.benchmarks;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.compress.compressors.CompressorStreamFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.gitlab.summercattle.commons.exception.CommonException;
+import com.gitlab.summercattle.commons.utils.auxiliary.CompressUtils;
+
+/**
+ * 压缩与解压缩
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CompressBenchmark {
+
+	@Param({ CompressorStreamFactory.GZIP, CompressorStreamFactory.LZ4_BLOCK })
+	private String name;
+
+	@Param({ "1024", "65536" })
+	private int size;
+
+	private byte[] datas;
+
+	private byte[] compressed;
+
+	@Setup(Level.Trial)
+	public void setup() throws CommonException {
+		StringBuilder sb = new StringBuilder(size);
+		int i = 0;
+		while (sb.length() < size) {
+			sb.append("{\"id\":").append(i).append(",\"name\":\"name").append(i % 97).append("\"},");
+			i++;
+		}
+		datas = sb.substring(0, size).getBytes(StandardCharsets.UTF_8);
+		compressed = CompressUtils.compress(name, datas);
+	}
+
+	@Benchmark
+	public byte[] compress() throws CommonException {
+		return CompressUtils.compress(name, datas);
+	}
+
+	@Benchmark
+	public byte[] decompress() throws CommonException {
+		return CompressUtils.decompress(name, compressed);
+	}
+}
\ No newline at end of file
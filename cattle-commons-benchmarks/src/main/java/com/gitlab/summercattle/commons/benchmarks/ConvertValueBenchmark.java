@@ -0,0 +1,100 @@
+/*
+ * Copyright (C) 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gitlab.summercattle.commons.benchmarks;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.gitlab.summercattle.commons.exception.CommonException;
+import com.gitlab.summercattle.commons.utils.reflect.ClassType;
+import com.gitlab.summercattle.commons.utils.reflect.ReflectUtils;
+
+/**
+ * 类型转换,覆盖查询结果映射对象时常见的转换组合
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConvertValueBenchmark {
+
+	private BigDecimal decimalValue;
+
+	private Timestamp timestampValue;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		decimalValue = new BigDecimal("12345.67");
+		timestampValue = new Timestamp(System.currentTimeMillis());
+	}
+
+	@Benchmark
+	public void sameType(Blackhole bh) throws CommonException {
+		bh.consume(ReflectUtils.convertValue(ClassType.String, "名称"));
+		bh.consume(ReflectUtils.convertValue(ClassType.BigDecimal, decimalValue));
+	}
+
+	@Benchmark
+	public void decimalToNumber(Blackhole bh) throws CommonException {
+		bh.consume(ReflectUtils.convertValue(ClassType.Long, decimalValue));
+		bh.consume(ReflectUtils.convertValue(ClassType.Int, decimalValue));
+		bh.consume(ReflectUtils.convertValue(ClassType.Double, decimalValue));
+	}
+
+	@Benchmark
+	public void decimalToPrimitive(Blackhole bh) throws CommonException {
+		bh.consume(ReflectUtils.convertLong(decimalValue));
+		bh.consume(ReflectUtils.convertInt(decimalValue));
+		bh.consume(ReflectUtils.convertDouble(decimalValue));
+	}
+
+	@Benchmark
+	public void stringToNumber(Blackhole bh) throws CommonException {
+		bh.consume(ReflectUtils.convertValue(ClassType.Long, "123456"));
+		bh.consume(ReflectUtils.convertValue(ClassType.Int, "123"));
+		bh.consume(ReflectUtils.convertValue(ClassType.BigDecimal, "12345.67"));
+	}
+
+	@Benchmark
+	public void timestampToDate(Blackhole bh) throws CommonException {
+		bh.consume(ReflectUtils.convertValue(ClassType.Date, timestampValue));
+		bh.consume(ReflectUtils.convertValue(ClassType.String, timestampValue));
+	}
+
+	@Benchmark
+	public void classType(Blackhole bh) {
+		bh.consume(ReflectUtils.getClassType(String.class));
+		bh.consume(ReflectUtils.getClassType(BigDecimal.class));
+		bh.consume(ReflectUtils.getClassType(Timestamp.class));
+		bh.consume(ReflectUtils.getClassType(Object.class));
+	}
+}
\ No newline at end of file
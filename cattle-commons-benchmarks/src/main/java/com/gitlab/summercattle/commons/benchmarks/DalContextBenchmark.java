@@ -0,0 +1,147 @@
+/*
+ * Copyright (C) 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gitlab.summercattle.commons.benchmarks;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.gitlab.summercattle.commons.db.DbUtils;
+import com.gitlab.summercattle.commons.db.object.DataTable;
+import com.gitlab.summercattle.commons.exception.CommonException;
+
+/**
+ * 数据访问上下文的查询与保存,缺省使用内存数据库H2,可通过系统属性cattle.benchmark.jdbc-url、cattle.benchmark.jdbc-username、
+ * cattle.benchmark.jdbc-password指向其他数据库
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DalContextBenchmark {
+
+	private static final String TABLE_NAME = "B_BENCHMARK_RECORD";
+
+	@Param({ "1000" })
+	private int rows;
+
+	private ConfigurableApplicationContext context;
+
+	private String[] ids;
+
+	@Setup(Level.Trial)
+	public void setup() throws CommonException {
+		context = new SpringApplicationBuilder(BenchmarkApplication.class).web(WebApplicationType.NONE)
+				.properties("spring.datasource.url=" + System.getProperty("cattle.benchmark.jdbc-url", "jdbc:h2:mem:dal_benchmark;DB_CLOSE_DELAY=-1"),
+						"spring.datasource.username=" + System.getProperty("cattle.benchmark.jdbc-username", "sa"),
+						"spring.datasource.password=" + System.getProperty("cattle.benchmark.jdbc-password", ""))
+				.run();
+		ids = DbUtils.getDbTransaction().doDal(ctx -> {
+			ctx.delete(TABLE_NAME, "1=1", null);
+			DataTable dataTable = ctx.create(TABLE_NAME);
+			String[] result = new String[rows];
+			for (int i = 0; i < rows; i++) {
+				dataTable.insert();
+				fill(dataTable, i);
+				result[i] = dataTable.getPrimaryValue().toString();
+			}
+			ctx.save(dataTable);
+			return result;
+		});
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		if (null != context) {
+			context.close();
+		}
+	}
+
+	@TearDown(Level.Iteration)
+	public void cleanInserted() throws CommonException {
+		DbUtils.getDbTransaction().doDal(ctx -> {
+			ctx.delete(TABLE_NAME, "QUANTITY < ?", new Object[] { 0 });
+			return null;
+		});
+	}
+
+	private static void fill(DataTable dataTable, int i) throws CommonException {
+		dataTable.setString("NAME", "名称" + i);
+		dataTable.setBigDecimal("AMOUNT", BigDecimal.valueOf(i * 100L + 99, 2));
+		dataTable.setInt("QUANTITY", i);
+		dataTable.setString("REMARK", i % 3 == 0 ? null : "备注信息" + i);
+	}
+
+	@Benchmark
+	public DataTable selectByPrimary() throws CommonException {
+		String id = ids[ThreadLocalRandom.current().nextInt(ids.length)];
+		return DbUtils.getDbTransaction().doDal(ctx -> ctx.select(TABLE_NAME, id));
+	}
+
+	@Benchmark
+	public DataTable selectByCondition() throws CommonException {
+		return DbUtils.getDbTransaction().doDal(ctx -> ctx.select(TABLE_NAME, "QUANTITY < ?", new Object[] { 100 }));
+	}
+
+	@Benchmark
+	public List<BenchmarkRecord> selectBeans() throws CommonException {
+		return DbUtils.getDbTransaction().doDal(ctx -> ctx.select(BenchmarkRecord.class, null, "QUANTITY < ?", new Object[] { 100 }, false));
+	}
+
+	@Benchmark
+	public void saveRow() throws CommonException {
+		DbUtils.getDbTransaction().doDal(ctx -> {
+			DataTable dataTable = ctx.create(TABLE_NAME);
+			dataTable.insert();
+			fill(dataTable, -1);
+			ctx.save(dataTable);
+			return null;
+		});
+	}
+
+	@Benchmark
+	public void saveRows() throws CommonException {
+		DbUtils.getDbTransaction().doDal(ctx -> {
+			DataTable dataTable = ctx.create(TABLE_NAME);
+			for (int i = 1; i <= 100; i++) {
+				dataTable.insert();
+				fill(dataTable, -i);
+			}
+			ctx.save(dataTable);
+			return null;
+		});
+	}
+}
\ No newline at end of file
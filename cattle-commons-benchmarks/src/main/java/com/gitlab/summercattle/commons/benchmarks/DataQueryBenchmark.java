@@ -0,0 +1,155 @@
+/*
+ * Copyright (C) 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gitlab.summercattle.commons.benchmarks;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.gitlab.summercattle.commons.db.object.DataQuery;
+import com.gitlab.summercattle.commons.db.object.impl.DataQueryImpl;
+import com.gitlab.summercattle.commons.exception.CommonException;
+
+/**
+ * 查询结果集装载及按类型读取字段值,数据由内存数据库H2提供,不依赖Spring环境
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DataQueryBenchmark {
+
+	private static final String SELECT_SQL = "select ID,NAME,AMOUNT,QUANTITY,CREATED,REMARK from B_QUERY_RECORD where QUANTITY < ?";
+
+	@Param({ "100", "1000" })
+	private int rows;
+
+	private Connection conn;
+
+	private DataQuery dataQuery;
+
+	@Setup(Level.Trial)
+	public void setup() throws SQLException, CommonException {
+		conn = DriverManager.getConnection("jdbc:h2:mem:query_benchmark;DB_CLOSE_DELAY=-1", "sa", "");
+		try (Statement st = conn.createStatement()) {
+			st.execute("drop table if exists B_QUERY_RECORD");
+			st.execute(
+					"create table B_QUERY_RECORD (ID varchar(36) primary key,NAME varchar(100),AMOUNT decimal(18,2),QUANTITY integer,CREATED timestamp,REMARK varchar(500))");
+		}
+		try (PreparedStatement ps = conn.prepareStatement("insert into B_QUERY_RECORD values (?,?,?,?,?,?)")) {
+			long now = System.currentTimeMillis();
+			for (int i = 0; i < rows; i++) {
+				ps.setString(1, String.format("%036d", i));
+				ps.setString(2, "名称" + i);
+				ps.setBigDecimal(3, BigDecimal.valueOf(i * 100L + 99, 2));
+				ps.setInt(4, i);
+				ps.setTimestamp(5, new Timestamp(now - i * 1000L));
+				ps.setString(6, i % 3 == 0 ? null : "备注信息" + i);
+				ps.addBatch();
+			}
+			ps.executeBatch();
+		}
+		dataQuery = load();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws SQLException {
+		conn.close();
+	}
+
+	/**
+	 * 数据查询对象构造时不使用方言,这里直接以结果集构造
+	 */
+	private DataQuery load() throws SQLException, CommonException {
+		try (PreparedStatement ps = conn.prepareStatement(SELECT_SQL)) {
+			ps.setInt(1, rows);
+			try (ResultSet rs = ps.executeQuery()) {
+				return new DataQueryImpl(null, rs);
+			}
+		}
+	}
+
+	@Benchmark
+	public void resultSet(Blackhole bh) throws SQLException {
+		try (PreparedStatement ps = conn.prepareStatement(SELECT_SQL)) {
+			ps.setInt(1, rows);
+			try (ResultSet rs = ps.executeQuery()) {
+				while (rs.next()) {
+					bh.consume(rs.getString(1));
+					bh.consume(rs.getString(2));
+					bh.consume(rs.getBigDecimal(3));
+					bh.consume(rs.getInt(4));
+					bh.consume(rs.getTimestamp(5));
+					bh.consume(rs.getString(6));
+				}
+			}
+		}
+	}
+
+	@Benchmark
+	public DataQuery construct() throws SQLException, CommonException {
+		return load();
+	}
+
+	@Benchmark
+	public void getByName(Blackhole bh) throws CommonException {
+		dataQuery.beforeFirst();
+		while (dataQuery.next()) {
+			bh.consume(dataQuery.getString("ID"));
+			bh.consume(dataQuery.getString("NAME"));
+			bh.consume(dataQuery.getBigDecimal("AMOUNT"));
+			bh.consume(dataQuery.getInt("QUANTITY"));
+			bh.consume(dataQuery.getTimestamp("CREATED"));
+			bh.consume(dataQuery.getString("REMARK"));
+		}
+	}
+
+	@Benchmark
+	public void getByIndex(Blackhole bh) throws CommonException {
+		dataQuery.beforeFirst();
+		while (dataQuery.next()) {
+			bh.consume(dataQuery.getString(1));
+			bh.consume(dataQuery.getString(2));
+			bh.consume(dataQuery.getBigDecimal(3));
+			bh.consume(dataQuery.getInt(4));
+			bh.consume(dataQuery.getTimestamp(5));
+			bh.consume(dataQuery.getString(6));
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,104 @@
+/*
+ * Copyright (C) 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gitlab.summercattle.commons.benchmarks;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+
+import com.alibaba.fastjson.JSONArray;
+import com.alibaba.fastjson.JSONObject;
+import com.gitlab.summercattle.commons.webflux.codec.FastJsonDecoder;
+import com.gitlab.summercattle.commons.webflux.codec.FastJsonEncoder;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * WebFlux的FastJson编码与解码
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FastJsonCodecBenchmark {
+
+	private static final ResolvableType OBJECT_TYPE = ResolvableType.forClass(JSONObject.class);
+
+	private final FastJsonEncoder encoder = new FastJsonEncoder();
+
+	private final FastJsonDecoder decoder = new FastJsonDecoder();
+
+	private final DataBufferFactory bufferFactory = new DefaultDataBufferFactory();
+
+	private JSONObject value;
+
+	private byte[] bytes;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		value = new JSONObject();
+		List<Object> items = new ArrayList<Object>();
+		for (int i = 0; i < 50; i++) {
+			JSONObject item = new JSONObject();
+			item.put("id", (long) i);
+			item.put("name", "名称" + i);
+			item.put("amount", BigDecimal.valueOf(i * 100L + 99, 2));
+			item.put("enabled", i % 2 == 0);
+			items.add(item);
+		}
+		value.put("items", new JSONArray(items));
+		value.put("total", items.size());
+		bytes = value.toJSONString().getBytes(StandardCharsets.UTF_8);
+	}
+
+	@Benchmark
+	public int encode() {
+		DataBuffer buffer = encoder.encodeValue(value, bufferFactory, OBJECT_TYPE, MediaType.APPLICATION_JSON, null);
+		try {
+			return buffer.readableByteCount();
+		}
+		finally {
+			DataBufferUtils.release(buffer);
+		}
+	}
+
+	@Benchmark
+	public Object decode() {
+		return decoder.decodeToMono(Mono.just(bufferFactory.wrap(bytes)), OBJECT_TYPE, MediaType.APPLICATION_JSON, null).block();
+	}
+}
\ No newline at end of file
@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gitlab.summercattle.commons.benchmarks;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.gitlab.summercattle.commons.db.utils.JdbcUtils;
+import com.gitlab.summercattle.commons.db.utils.SqlStatement;
+import com.gitlab.summercattle.commons.exception.CommonException;
+
+/**
+ * 关闭调试日志时语句执行信息的开销,配合-prof gc比较直接执行、预先格式化、传入SQL语句及参数值与创建执行信息对象的分配量
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JdbcLoggingBenchmark {
+
+	private static final String SELECT_SQL = "select ID,NAME from B_LOG_RECORD where ID = ? and NAME = ?";
+
+	private final Object[] params = new Object[] { 1, "名称1" };
+
+	private Connection conn;
+
+	private PreparedStatement ps;
+
+	@Setup(Level.Trial)
+	public void setup() throws SQLException {
+		conn = DriverManager.getConnection("jdbc:h2:mem:logging_benchmark;DB_CLOSE_DELAY=-1", "sa", "");
+		try (Statement st = conn.createStatement()) {
+			st.execute("drop table if exists B_LOG_RECORD");
+			st.execute("create table B_LOG_RECORD (ID integer primary key,NAME varchar(100))");
+			st.execute("insert into B_LOG_RECORD values (1,'名称1')");
+		}
+		ps = conn.prepareStatement(SELECT_SQL);
+		ps.setInt(1, 1);
+		ps.setString(2, "名称1");
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws SQLException {
+		ps.close();
+		conn.close();
+	}
+
+	@Benchmark
+	public boolean direct() throws SQLException {
+		try (ResultSet rs = ps.executeQuery()) {
+			return rs.next();
+		}
+	}
+
+	@Benchmark
+	public boolean formattedInfo(Blackhole blackhole) throws CommonException, SQLException {
+		blackhole.consume("执行SQL语句:" + SELECT_SQL + ",参数值:" + Arrays.toString(params));
+		try (ResultSet rs = JdbcUtils.executeQuery(ps, SELECT_SQL, params)) {
+			return rs.next();
+		}
+	}
+
+	@Benchmark
+	public boolean sqlParams() throws CommonException, SQLException {
+		try (ResultSet rs = JdbcUtils.executeQuery(ps, SELECT_SQL, params)) {
+			return rs.next();
+		}
+	}
+
+	@Benchmark
+	public boolean sqlStatement() throws CommonException, SQLException {
+		try (ResultSet rs = JdbcUtils.executeQuery(ps, new SqlStatement(SELECT_SQL, params))) {
+			return rs.next();
+		}
+	}
+}
\ No newline at end of file
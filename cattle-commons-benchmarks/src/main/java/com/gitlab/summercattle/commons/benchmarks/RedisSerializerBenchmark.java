@@ -0,0 +1,98 @@
+/*
+ * Copyright (C) 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gitlab.summercattle.commons.benchmarks;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.gitlab.summercattle.commons.utils.redis.BinaryRedisSerializer;
+import com.gitlab.summercattle.commons.utils.redis.CustomRedisSerializer;
+
+/**
+ * Redis值序列化与反序列化
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RedisSerializerBenchmark {
+
+	private final CustomRedisSerializer customSerializer = new CustomRedisSerializer();
+
+	private final BinaryRedisSerializer binarySerializer = new BinaryRedisSerializer();
+
+	private Map<String, Object> value;
+
+	private byte[] customBytes;
+
+	private byte[] binaryBytes;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		value = new HashMap<String, Object>();
+		List<Object> items = new ArrayList<Object>();
+		for (int i = 0; i < 50; i++) {
+			Map<String, Object> item = new HashMap<String, Object>();
+			item.put("id", (long) i);
+			item.put("name", "名称" + i);
+			item.put("amount", BigDecimal.valueOf(i * 100L + 99, 2));
+			item.put("enabled", i % 2 == 0);
+			items.add(item);
+		}
+		value.put("items", items);
+		value.put("total", items.size());
+		customBytes = customSerializer.serialize(value);
+		binaryBytes = binarySerializer.serialize(value);
+	}
+
+	@Benchmark
+	public byte[] customSerialize() {
+		return customSerializer.serialize(value);
+	}
+
+	@Benchmark
+	public Object customDeserialize() {
+		return customSerializer.deserialize(customBytes);
+	}
+
+	@Benchmark
+	public byte[] binarySerialize() {
+		return binarySerializer.serialize(value);
+	}
+
+	@Benchmark
+	public Object binaryDeserialize() {
+		return binarySerializer.deserialize(binaryBytes);
+	}
+}
\ No newline at end of file
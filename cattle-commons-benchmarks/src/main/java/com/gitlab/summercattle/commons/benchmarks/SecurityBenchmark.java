@@ -0,0 +1,130 @@
+/*
+ * Copyright (C) 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gitlab.summercattle.commons.benchmarks;
+
+import java.nio.charset.StandardCharsets;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.gitlab.summercattle.commons.exception.CommonException;
+import com.gitlab.summercattle.commons.utils.security.BCrypt;
+import com.gitlab.summercattle.commons.utils.security.CommonEncryptUtils;
+import com.gitlab.summercattle.commons.utils.security.RSAUtils;
+import com.gitlab.summercattle.commons.utils.security.constants.CommonEncryptType;
+import com.gitlab.summercattle.commons.utils.security.constants.PaddingType;
+
+/**
+ * 对称加密、RSA签名与加密、BCrypt密码散列
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SecurityBenchmark {
+
+	private static final String PASSWORD = "cattle-benchmark-password";
+
+	private byte[] data;
+
+	private byte[] aesKey;
+
+	private byte[] aesIv;
+
+	private byte[] aesEncrypted;
+
+	private RSAPublicKey publicKey;
+
+	private RSAPrivateKey privateKey;
+
+	private byte[] rsaSign;
+
+	private byte[] rsaEncrypted;
+
+	private String hashed;
+
+	@Setup(Level.Trial)
+	public void setup() throws CommonException {
+		StringBuilder sb = new StringBuilder();
+		while (sb.length() < 1024) {
+			sb.append("基准测试数据benchmark data,");
+		}
+		data = sb.toString().getBytes(StandardCharsets.UTF_8);
+		aesKey = CommonEncryptUtils.getEncryptKey(CommonEncryptType.AES, 128);
+		aesIv = new byte[16];
+		aesEncrypted = CommonEncryptUtils.encryptCBC(CommonEncryptType.AES, data, aesKey, aesIv, PaddingType.PKCS5Padding);
+		byte[][] rsaKeys = RSAUtils.getEncryptKey(1024);
+		publicKey = RSAUtils.getPublicKey(rsaKeys[0]);
+		privateKey = RSAUtils.getPrivateKey(rsaKeys[1]);
+		rsaSign = RSAUtils.sign(data, privateKey);
+		rsaEncrypted = RSAUtils.encryptByPublicKey(data, publicKey);
+		hashed = BCrypt.hashpw(PASSWORD, BCrypt.gensalt(4));
+	}
+
+	@Benchmark
+	public byte[] aesEncrypt() throws CommonException {
+		return CommonEncryptUtils.encryptCBC(CommonEncryptType.AES, data, aesKey, aesIv, PaddingType.PKCS5Padding);
+	}
+
+	@Benchmark
+	public byte[] aesDecrypt() throws CommonException {
+		return CommonEncryptUtils.decyrptCBC(CommonEncryptType.AES, aesEncrypted, aesKey, aesIv, PaddingType.PKCS5Padding);
+	}
+
+	@Benchmark
+	public byte[] rsaSign() throws CommonException {
+		return RSAUtils.sign(data, privateKey);
+	}
+
+	@Benchmark
+	public boolean rsaVerify() throws CommonException {
+		return RSAUtils.verify(data, publicKey, rsaSign);
+	}
+
+	@Benchmark
+	public byte[] rsaEncrypt() throws CommonException {
+		return RSAUtils.encryptByPublicKey(data, publicKey);
+	}
+
+	@Benchmark
+	public byte[] rsaDecrypt() throws CommonException {
+		return RSAUtils.decryptByPrivateKey(rsaEncrypted, privateKey);
+	}
+
+	@Benchmark
+	public String bcryptHash() {
+		return BCrypt.hashpw(PASSWORD, BCrypt.gensalt(4));
+	}
+
+	@Benchmark
+	public boolean bcryptCheck() {
+		return BCrypt.checkpw(PASSWORD, hashed);
+	}
+}
\ No newline at end of file
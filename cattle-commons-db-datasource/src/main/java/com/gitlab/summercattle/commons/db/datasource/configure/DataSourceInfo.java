@@ -29,6 +29,11 @@ public class DataSourceInfo {
 
 	private Map<String, String> props;
 
+	/**
+	 * 权重,作为从库时参与负载均衡
+	 */
+	private int weight = 1;
+
 	public String getName() {
 		return name;
 	}
@@ -68,4 +73,12 @@ public class DataSourceInfo {
 	public void setProps(Map<String, String> props) {
 		this.props = props;
 	}
+
+	public int getWeight() {
+		return weight;
+	}
+
+	public void setWeight(int weight) {
+		this.weight = weight;
+	}
 }
\ No newline at end of file
@@ -15,9 +15,12 @@
  */
 package com.gitlab.summercattle.commons.db.datasource.configure;
 
+import java.util.List;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 import com.gitlab.summercattle.commons.db.datasource.constants.DataSourceConstants;
+import com.gitlab.summercattle.commons.db.datasource.constants.ReplicaBalanceMode;
 
 @ConfigurationProperties(DataSourceConstants.PROPERTY_PREFIX)
 public class DataSourceProperties {
@@ -26,6 +29,31 @@ public class DataSourceProperties {
 
 	private DataSourceInfo dataSource;
 
+	/**
+	 * 从库数据源,只读事务的连接取自从库
+	 */
+	private List<DataSourceInfo> replicas;
+
+	/**
+	 * 从库负载均衡方式
+	 */
+	private ReplicaBalanceMode replicaBalanceMode = ReplicaBalanceMode.Weighted;
+
+	/**
+	 * 从库允许的最大复制延迟(秒),超过时读取回退到主库,0为不检查
+	 */
+	private int replicaMaxLag = 0;
+
+	/**
+	 * 查询从库复制延迟(秒)的语句,结果取第一行第一列
+	 */
+	private String replicaLagQuery;
+
+	/**
+	 * 从库复制延迟检查间隔(毫秒)
+	 */
+	private long replicaLagCheckInterval = 5000;
+
 	public String getDriverClassName() {
 		return driverClassName;
 	}
@@ -41,4 +69,44 @@ public class DataSourceProperties {
 	public void setDataSource(DataSourceInfo dataSource) {
 		this.dataSource = dataSource;
 	}
+
+	public List<DataSourceInfo> getReplicas() {
+		return replicas;
+	}
+
+	public void setReplicas(List<DataSourceInfo> replicas) {
+		this.replicas = replicas;
+	}
+
+	public ReplicaBalanceMode getReplicaBalanceMode() {
+		return replicaBalanceMode;
+	}
+
+	public void setReplicaBalanceMode(ReplicaBalanceMode replicaBalanceMode) {
+		this.replicaBalanceMode = replicaBalanceMode;
+	}
+
+	public int getReplicaMaxLag() {
+		return replicaMaxLag;
+	}
+
+	public void setReplicaMaxLag(int replicaMaxLag) {
+		this.replicaMaxLag = replicaMaxLag;
+	}
+
+	public String getReplicaLagQuery() {
+		return replicaLagQuery;
+	}
+
+	public void setReplicaLagQuery(String replicaLagQuery) {
+		this.replicaLagQuery = replicaLagQuery;
+	}
+
+	public long getReplicaLagCheckInterval() {
+		return replicaLagCheckInterval;
+	}
+
+	public void setReplicaLagCheckInterval(long replicaLagCheckInterval) {
+		this.replicaLagCheckInterval = replicaLagCheckInterval;
+	}
 }
\ No newline at end of file
@@ -15,12 +15,18 @@
  */
 package com.gitlab.summercattle.commons.db.datasource.impl;
 
+import java.util.List;
+import java.util.Vector;
+
 import javax.sql.DataSource;
 
 import org.apache.commons.lang3.StringUtils;
 
 import com.gitlab.summercattle.commons.db.datasource.DataSourceHandler;
+import com.gitlab.summercattle.commons.db.datasource.configure.DataSourceInfo;
 import com.gitlab.summercattle.commons.db.datasource.configure.DataSourceProperties;
+import com.gitlab.summercattle.commons.db.datasource.routing.ReadWriteDataSource;
+import com.gitlab.summercattle.commons.db.datasource.routing.ReplicaRoutingDataSource;
 import com.gitlab.summercattle.commons.db.datasource.utils.DataSourceUtils;
 import com.gitlab.summercattle.commons.exception.CommonException;
 import com.gitlab.summercattle.commons.utils.spring.SpringContext;
@@ -34,6 +40,24 @@ public class DefaultDataSourceHandler implements DataSourceHandler {
 		if (StringUtils.isBlank(driverClassName)) {
 			throw new CommonException("数据源驱动程序类名为空");
 		}
-		return DataSourceUtils.getDataSource(driverClassName, dataSourceProperties.getDataSource(), 0);
+		DataSource dataSource = DataSourceUtils.getDataSource(driverClassName, dataSourceProperties.getDataSource(), 0);
+		List<DataSourceInfo> replicaInfos = dataSourceProperties.getReplicas();
+		if (null == replicaInfos || replicaInfos.size() == 0) {
+			return dataSource;
+		}
+		if (dataSourceProperties.getReplicaMaxLag() > 0 && StringUtils.isBlank(dataSourceProperties.getReplicaLagQuery())) {
+			throw new CommonException("从库复制延迟查询语句为空");
+		}
+		List<DataSource> replicaDataSources = new Vector<DataSource>();
+		for (int i = 0; i < replicaInfos.size(); i++) {
+			replicaDataSources.add(DataSourceUtils.getDataSource(driverClassName, replicaInfos.get(i), i + 1));
+		}
+		ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(dataSource, replicaInfos, replicaDataSources,
+				dataSourceProperties.getReplicaBalanceMode());
+		if (dataSourceProperties.getReplicaMaxLag() > 0) {
+			routingDataSource.startLagCheck(dataSourceProperties.getReplicaLagQuery(), dataSourceProperties.getReplicaMaxLag(),
+					dataSourceProperties.getReplicaLagCheckInterval());
+		}
+		return new ReadWriteDataSource(routingDataSource);
 	}
 }
\ No newline at end of file
@@ -0,0 +1,37 @@
+/*
+ * Copyright (C) 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gitlab.summercattle.commons.db.datasource.routing;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * 读写分离数据源,语句执行时才向路由数据源取连接,
+ * 使事务管理器开启事务时设置的只读标识在选择主从库时已生效
+ */
+public class ReadWriteDataSource extends LazyConnectionDataSourceProxy implements Closeable {
+
+	public ReadWriteDataSource(ReplicaRoutingDataSource routingDataSource) {
+		super(routingDataSource);
+	}
+
+	@Override
+	public void close() throws IOException {
+		((ReplicaRoutingDataSource) getTargetDataSource()).close();
+	}
+}
\ No newline at end of file
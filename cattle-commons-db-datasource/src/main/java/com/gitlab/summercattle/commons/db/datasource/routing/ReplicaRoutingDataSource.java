@@ -0,0 +1,272 @@
+/*
+ * Copyright (C) 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gitlab.summercattle.commons.db.datasource.routing;
+
+import java.io.Closeable;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.gitlab.summercattle.commons.db.datasource.configure.DataSourceInfo;
+import com.gitlab.summercattle.commons.db.datasource.constants.ReplicaBalanceMode;
+
+/**
+ * 读写分离路由数据源,只读事务中取连接时按负载均衡方式选择从库,
+ * 从库不可用或复制延迟超过阈值时回退到主库
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource implements Closeable {
+
+	private static final Logger logger = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+	private final DataSource primary;
+
+	private final Replica[] replicas;
+
+	private final ReplicaBalanceMode balanceMode;
+
+	private ScheduledExecutorService lagChecker;
+
+	/**
+	 * @param primary 主库数据源
+	 * @param replicaInfos 从库信息,与从库数据源一一对应
+	 * @param replicaDataSources 从库数据源
+	 * @param balanceMode 从库负载均衡方式
+	 */
+	public ReplicaRoutingDataSource(DataSource primary, List<DataSourceInfo> replicaInfos, List<DataSource> replicaDataSources,
+			ReplicaBalanceMode balanceMode) {
+		this.primary = primary;
+		this.balanceMode = null != balanceMode ? balanceMode : ReplicaBalanceMode.Weighted;
+		replicas = new Replica[replicaDataSources.size()];
+		for (int i = 0; i < replicas.length; i++) {
+			DataSourceInfo replicaInfo = replicaInfos.get(i);
+			String name = StringUtils.isNotBlank(replicaInfo.getName()) ? replicaInfo.getName() : replicaInfo.getJdbcUrl();
+			replicas[i] = new Replica(name, replicaDataSources.get(i), Math.max(replicaInfo.getWeight(), 1));
+		}
+	}
+
+	/**
+	 * 启动从库复制延迟检查,首次检查完成前读取使用主库
+	 * @param lagQuery 查询复制延迟(秒)的语句
+	 * @param maxLag 允许的最大复制延迟(秒)
+	 * @param interval 检查间隔(毫秒)
+	 */
+	public synchronized void startLagCheck(String lagQuery, int maxLag, long interval) {
+		if (null != lagChecker) {
+			return;
+		}
+		for (Replica replica : replicas) {
+			replica.available = false;
+		}
+		lagChecker = Executors.newSingleThreadScheduledExecutor(r -> {
+			Thread thread = new Thread(r, "cattle-db-replica-lag");
+			thread.setDaemon(true);
+			return thread;
+		});
+		lagChecker.scheduleWithFixedDelay(() -> {
+			for (Replica replica : replicas) {
+				checkLag(replica, lagQuery, maxLag);
+			}
+		}, 0, interval, TimeUnit.MILLISECONDS);
+	}
+
+	private void checkLag(Replica replica, String lagQuery, int maxLag) {
+		boolean available = false;
+		try (Connection conn = replica.dataSource.getConnection(); Statement stmt = conn.createStatement(); ResultSet rs = stmt.executeQuery(lagQuery)) {
+			if (rs.next()) {
+				double lag = rs.getDouble(1);
+				if (!rs.wasNull()) {
+					available = lag <= maxLag;
+					if (!available && replica.available) {
+						logger.warn("从库'" + replica.name + "'复制延迟" + lag + "秒,超过" + maxLag + "秒,读取回退到主库");
+					}
+				}
+			}
+		}
+		catch (Throwable e) {
+			if (replica.available) {
+				logger.warn("从库'" + replica.name + "'复制延迟检查失败,读取回退到主库:" + e.getMessage());
+			}
+		}
+		if (available && !replica.available) {
+			logger.info("从库'" + replica.name + "'恢复读取");
+		}
+		replica.available = available;
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		return getConnection(null, null);
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		if (replicas.length > 0 && TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+			Replica replica = selectReplica();
+			if (null != replica) {
+				try {
+					Connection conn = getConnection(replica.dataSource, username, password);
+					if (balanceMode == ReplicaBalanceMode.LeastInFlight) {
+						replica.inFlight.incrementAndGet();
+						conn = (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class< ? >[] { Connection.class },
+								new InFlightHandler(conn, replica.inFlight));
+					}
+					return conn;
+				}
+				catch (SQLException e) {
+					logger.warn("从库'" + replica.name + "'获取连接失败,读取回退到主库:" + e.getMessage());
+				}
+			}
+		}
+		return getConnection(primary, username, password);
+	}
+
+	private Connection getConnection(DataSource dataSource, String username, String password) throws SQLException {
+		return null != username ? dataSource.getConnection(username, password) : dataSource.getConnection();
+	}
+
+	private Replica selectReplica() {
+		int start = replicas.length > 1 ? ThreadLocalRandom.current().nextInt(replicas.length) : 0;
+		if (balanceMode == ReplicaBalanceMode.LeastInFlight) {
+			Replica selected = null;
+			for (int i = 0; i < replicas.length; i++) {
+				Replica replica = replicas[(start + i) % replicas.length];
+				if (replica.available && (null == selected
+						|| (long) replica.inFlight.get() * selected.weight < (long) selected.inFlight.get() * replica.weight)) {
+					selected = replica;
+				}
+			}
+			return selected;
+		}
+		int totalWeight = 0;
+		for (Replica replica : replicas) {
+			if (replica.available) {
+				totalWeight += replica.weight;
+			}
+		}
+		if (totalWeight == 0) {
+			return null;
+		}
+		int value = ThreadLocalRandom.current().nextInt(totalWeight);
+		for (Replica replica : replicas) {
+			if (replica.available) {
+				value -= replica.weight;
+				if (value < 0) {
+					return replica;
+				}
+			}
+		}
+		return null;
+	}
+
+	@Override
+	public synchronized void close() {
+		if (null != lagChecker) {
+			lagChecker.shutdownNow();
+			lagChecker = null;
+		}
+		closeDataSource(primary);
+		for (Replica replica : replicas) {
+			closeDataSource(replica.dataSource);
+		}
+	}
+
+	private void closeDataSource(DataSource dataSource) {
+		if (dataSource instanceof AutoCloseable) {
+			try {
+				((AutoCloseable) dataSource).close();
+			}
+			catch (Exception e) {
+				logger.warn("数据源关闭失败:" + e.getMessage());
+			}
+		}
+	}
+
+	private static class Replica {
+
+		private final String name;
+
+		private final DataSource dataSource;
+
+		private final int weight;
+
+		private final AtomicInteger inFlight = new AtomicInteger();
+
+		private volatile boolean available = true;
+
+		Replica(String name, DataSource dataSource, int weight) {
+			this.name = name;
+			this.dataSource = dataSource;
+			this.weight = weight;
+		}
+	}
+
+	/**
+	 * 连接关闭时减少从库进行中连接数
+	 */
+	private static class InFlightHandler implements InvocationHandler {
+
+		private final Connection target;
+
+		private final AtomicInteger inFlight;
+
+		private final AtomicBoolean closed = new AtomicBoolean(false);
+
+		InFlightHandler(Connection target, AtomicInteger inFlight) {
+			this.target = target;
+			this.inFlight = inFlight;
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			String methodName = method.getName();
+			if (methodName.equals("equals")) {
+				return proxy == args[0];
+			}
+			else if (methodName.equals("hashCode")) {
+				return System.identityHashCode(proxy);
+			}
+			else if (methodName.equals("close") && closed.compareAndSet(false, true)) {
+				inFlight.decrementAndGet();
+			}
+			try {
+				return method.invoke(target, args);
+			}
+			catch (InvocationTargetException e) {
+				throw e.getTargetException();
+			}
+		}
+	}
+}
\ No newline at end of file
@@ -17,6 +17,7 @@ package com.gitlab.summercattle.commons.db;
 
 import com.gitlab.summercattle.commons.db.handle.DbMetaModel;
 import com.gitlab.summercattle.commons.db.handle.DbSecurityKey;
+import com.gitlab.summercattle.commons.db.handle.DbSelectCache;
 import com.gitlab.summercattle.commons.db.handle.DbStruct;
 import com.gitlab.summercattle.commons.db.handle.DbTool;
 import com.gitlab.summercattle.commons.db.handle.DbTransaction;
@@ -57,6 +58,14 @@ public class DbUtils {
 		return dbStruct;
 	}
 
+	public static DbSelectCache getDbSelectCache() throws CommonException {
+		DbSelectCache dbSelectCache = GuiceUtils.getInstance(DbSelectCache.class);
+		if (null == dbSelectCache) {
+			throw new CommonException("数据查询缓存实现类为空");
+		}
+		return dbSelectCache;
+	}
+
 	public static DbTool getDbTool() throws CommonException {
 		DbTool dbTool = GuiceUtils.getInstance(DbTool.class);
 		if (null == dbTool) {
@@ -20,6 +20,7 @@ import java.sql.Connection;
 import javax.sql.DataSource;
 
 import org.springframework.boot.autoconfigure.AutoConfigureBefore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
@@ -30,6 +31,7 @@ import org.springframework.jdbc.datasource.DataSourceUtils;
 
 import com.gitlab.summercattle.commons.db.dialect.Dialect;
 import com.gitlab.summercattle.commons.db.dialect.DialectFactory;
+import com.gitlab.summercattle.commons.db.utils.JdbcMetrics;
 import com.gitlab.summercattle.commons.exception.CommonException;
 import com.gitlab.summercattle.commons.utils.exception.ExceptionWrapUtils;
 
@@ -40,6 +42,10 @@ import com.gitlab.summercattle.commons.utils.exception.ExceptionWrapUtils;
 @ComponentScan(basePackageClasses = DbBeanPostProcessor.class)
 public class DbAutoConfiguration {
 
+	public DbAutoConfiguration(DbProperties dbProperties) {
+		JdbcMetrics.configure(dbProperties.isStatementMetrics(), dbProperties.getSlowQueryThreshold());
+	}
+
 	@Bean
 	@DependsOn("dataSource")
 	public Dialect dialect(DataSource dataSource) {
@@ -55,4 +61,14 @@ public class DbAutoConfiguration {
 			DataSourceUtils.releaseConnection(conn, dataSource);
 		}
 	}
+
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnClass(name = "io.micrometer.core.instrument.binder.MeterBinder")
+	static class JdbcMeterBinderConfiguration {
+
+		@Bean
+		public JdbcMeterBinder jdbcMeterBinder(DbProperties dbProperties) {
+			return new JdbcMeterBinder(dbProperties.isStatementMetricsSqlTag(), dbProperties.isStatementMetricsHistogram());
+		}
+	}
 }
\ No newline at end of file
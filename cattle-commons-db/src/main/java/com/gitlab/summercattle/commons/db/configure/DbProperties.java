@@ -20,6 +20,7 @@ import java.util.Map;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 import com.gitlab.summercattle.commons.db.constants.DataConstants;
+import com.gitlab.summercattle.commons.db.constants.PrimaryKeyGenerator;
 
 @ConfigurationProperties(prefix = DataConstants.PROPERTY_PREFIX)
 public class DbProperties {
@@ -40,6 +41,30 @@ public class DbProperties {
 
 	private String storageEngine;
 
+	private int sequenceBlockSize;
+
+	private double sequencePrefetchRatio;
+
+	private boolean columnarQuery;
+
+	private boolean lazyLob;
+
+	private PrimaryKeyGenerator primaryKeyGenerator;
+
+	private boolean compactPrimaryKey;
+
+	private int bulkInsertBatchSize;
+
+	private int bulkInsertMaxBytes;
+
+	private boolean statementMetrics;
+
+	private long slowQueryThreshold;
+
+	private boolean statementMetricsSqlTag;
+
+	private boolean statementMetricsHistogram;
+
 	public String getPrimaryField() {
 		return null != primaryField ? primaryField.toUpperCase() : null;
 	}
@@ -103,4 +128,100 @@ public class DbProperties {
 	public void setStorageEngine(String storageEngine) {
 		this.storageEngine = storageEngine;
 	}
+
+	public int getSequenceBlockSize() {
+		return sequenceBlockSize;
+	}
+
+	public void setSequenceBlockSize(int sequenceBlockSize) {
+		this.sequenceBlockSize = sequenceBlockSize;
+	}
+
+	public double getSequencePrefetchRatio() {
+		return sequencePrefetchRatio;
+	}
+
+	public void setSequencePrefetchRatio(double sequencePrefetchRatio) {
+		this.sequencePrefetchRatio = sequencePrefetchRatio;
+	}
+
+	public boolean isColumnarQuery() {
+		return columnarQuery;
+	}
+
+	public void setColumnarQuery(boolean columnarQuery) {
+		this.columnarQuery = columnarQuery;
+	}
+
+	public boolean isLazyLob() {
+		return lazyLob;
+	}
+
+	public void setLazyLob(boolean lazyLob) {
+		this.lazyLob = lazyLob;
+	}
+
+	public PrimaryKeyGenerator getPrimaryKeyGenerator() {
+		return primaryKeyGenerator;
+	}
+
+	public void setPrimaryKeyGenerator(PrimaryKeyGenerator primaryKeyGenerator) {
+		this.primaryKeyGenerator = primaryKeyGenerator;
+	}
+
+	public boolean isCompactPrimaryKey() {
+		return compactPrimaryKey;
+	}
+
+	public void setCompactPrimaryKey(boolean compactPrimaryKey) {
+		this.compactPrimaryKey = compactPrimaryKey;
+	}
+
+	public int getBulkInsertBatchSize() {
+		return bulkInsertBatchSize;
+	}
+
+	public void setBulkInsertBatchSize(int bulkInsertBatchSize) {
+		this.bulkInsertBatchSize = bulkInsertBatchSize;
+	}
+
+	public int getBulkInsertMaxBytes() {
+		return bulkInsertMaxBytes;
+	}
+
+	public void setBulkInsertMaxBytes(int bulkInsertMaxBytes) {
+		this.bulkInsertMaxBytes = bulkInsertMaxBytes;
+	}
+
+	public boolean isStatementMetrics() {
+		return statementMetrics;
+	}
+
+	public void setStatementMetrics(boolean statementMetrics) {
+		this.statementMetrics = statementMetrics;
+	}
+
+	public long getSlowQueryThreshold() {
+		return slowQueryThreshold;
+	}
+
+	public void setSlowQueryThreshold(long slowQueryThreshold) {
+		this.slowQueryThreshold = slowQueryThreshold;
+	}
+
+	public boolean isStatementMetricsSqlTag() {
+		return statementMetricsSqlTag;
+	}
+
+	public void setStatementMetricsSqlTag(boolean statementMetricsSqlTag) {
+		this.statementMetricsSqlTag = statementMetricsSqlTag;
+	}
+
+	public boolean isStatementMetricsHistogram() {
+		return statementMetricsHistogram;
+	}
+
+	public void setStatementMetricsHistogram(boolean statementMetricsHistogram) {
+		this.statementMetricsHistogram = statementMetricsHistogram;
+	}
 }
\ No newline at end of file
@@ -0,0 +1,103 @@
+/*
+ * Copyright (C) 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gitlab.summercattle.commons.db.configure;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import com.gitlab.summercattle.commons.db.utils.JdbcMetrics;
+import com.gitlab.summercattle.commons.db.utils.JdbcMetrics.StatementType;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * SQL语句执行统计输出到Micrometer,计时器cattle.db.statement以type、outcome为标签,
+ * 开启SQL标签时增加规范化后的SQL语句为sql标签,各标签组合的指标只注册一次
+ */
+public class JdbcMeterBinder implements MeterBinder {
+
+	private final boolean sqlTag;
+
+	private final boolean histogram;
+
+	private final ConcurrentMap<String, StatementMeters> meters = new ConcurrentHashMap<String, StatementMeters>();
+
+	/**
+	 * 构造
+	 * @param sqlTag 是否以规范化后的SQL语句为标签,标签值个数受SQL语句执行统计的上限约束
+	 * @param histogram 执行时间是否输出百分位直方图
+	 */
+	public JdbcMeterBinder(boolean sqlTag, boolean histogram) {
+		this.sqlTag = sqlTag;
+		this.histogram = histogram;
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		JdbcMetrics.addListener((type, sql, nanos, rows, batchSize, error) -> {
+			String key = type.name() + (error ? ":error:" : ":success:") + (sqlTag ? sql : "");
+			StatementMeters statementMeters = meters.get(key);
+			if (null == statementMeters) {
+				statementMeters = meters.computeIfAbsent(key, k -> new StatementMeters(registry, type, sql, error));
+			}
+			statementMeters.timer.record(nanos, TimeUnit.NANOSECONDS);
+			if (rows > 0 && null != statementMeters.rows) {
+				statementMeters.rows.record(rows);
+			}
+			if (null != statementMeters.errors) {
+				statementMeters.errors.increment();
+			}
+			if (batchSize > 0 && null != statementMeters.batchSize) {
+				statementMeters.batchSize.record(batchSize);
+			}
+		});
+	}
+
+	private class StatementMeters {
+
+		private final Timer timer;
+
+		private final DistributionSummary rows;
+
+		private final DistributionSummary batchSize;
+
+		private final Counter errors;
+
+		StatementMeters(MeterRegistry registry, StatementType type, String sql, boolean error) {
+			Tags tags = sqlTag ? Tags.of("sql", sql, "type", type.name()) : Tags.of("type", type.name());
+			Timer.Builder timerBuilder = Timer.builder("cattle.db.statement").description("SQL语句执行时间").tags(tags).tag("outcome",
+					error ? "error" : "success");
+			if (histogram) {
+				timerBuilder.publishPercentileHistogram();
+			}
+			timer = timerBuilder.register(registry);
+			rows = type != StatementType.Query
+					? DistributionSummary.builder("cattle.db.statement.rows").description("SQL语句处理的记录数").tags(tags).register(registry)
+					: null;
+			batchSize = type == StatementType.Batch
+					? DistributionSummary.builder("cattle.db.statement.batch.size").description("批处理的语句数").tags(tags).register(registry)
+					: null;
+			errors = error ? Counter.builder("cattle.db.statement.errors").description("SQL语句异常次数").tag("type", type.name()).register(registry)
+					: null;
+		}
+	}
+}
\ No newline at end of file
@@ -25,6 +25,12 @@ public class DataConstants {
 
 	public static final String CAFFEINE_SELECT = "Select";
 
+	public static final String CAFFEINE_TABLE_EXIST = "TableExist";
+
+	public static final String CAFFEINE_VIEW_EXIST = "ViewExist";
+
+	public static final String CAFFEINE_PARSED_SQL = "ParsedSQL";
+
 	public static final String SEQUENCE_TABLE_NAME = "E_SEQUENCE";
 
 	public static final String SEQUENCE_FIELD_NAME = "SEQUENCE_NAME";
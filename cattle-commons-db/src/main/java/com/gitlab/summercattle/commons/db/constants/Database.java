@@ -17,6 +17,7 @@ package com.gitlab.summercattle.commons.db.constants;
 
 import com.gitlab.summercattle.commons.db.dialect.Dialect;
 import com.gitlab.summercattle.commons.db.dialect.DialectResolutionInfo;
+import com.gitlab.summercattle.commons.db.dialect.impl.H2Dialect;
 import com.gitlab.summercattle.commons.db.dialect.impl.MySQL55Dialect;
 import com.gitlab.summercattle.commons.db.dialect.impl.MySQL57Dialect;
 import com.gitlab.summercattle.commons.db.dialect.impl.MySQL5Dialect;
@@ -104,6 +105,24 @@ public enum Database {
 			}
 			return null;
 		}
+	},
+	/**
+	* H2数据库
+	*/
+	H2 {
+
+		@Override
+		public Class< ? extends Dialect> latestDialect() {
+			return H2Dialect.class;
+		}
+
+		@Override
+		public Dialect resolveDialect(DialectResolutionInfo info) {
+			if ("H2".equals(info.getDatabaseName())) {
+				return new H2Dialect();
+			}
+			return null;
+		}
 	};
 
 	public abstract Class< ? extends Dialect> latestDialect();
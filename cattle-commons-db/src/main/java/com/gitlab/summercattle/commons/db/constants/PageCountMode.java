@@ -0,0 +1,35 @@
+/*
+ * Copyright (C) 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gitlab.summercattle.commons.db.constants;
+
+/**
+ * 分页查询总记录数的计算方式
+ */
+public enum PageCountMode {
+
+	/**
+	 * 不计算
+	 */
+	None,
+	/**
+	 * 精确计算
+	 */
+	Exact,
+	/**
+	 * 单表查询时取表统计信息中的估计记录数(不考虑查询条件),不支持时精确计算
+	 */
+	Approximate
+}
\ No newline at end of file
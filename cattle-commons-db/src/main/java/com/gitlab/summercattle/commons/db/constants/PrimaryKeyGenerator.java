@@ -0,0 +1,35 @@
+/*
+ * Copyright (C) 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gitlab.summercattle.commons.db.constants;
+
+/**
+ * 字符型主键的生成方式
+ */
+public enum PrimaryKeyGenerator {
+
+	/**
+	 * 随机UUID,32位
+	 */
+	UUID,
+	/**
+	 * 按时间递增的UUID(版本7),32位,插入集中在索引末端
+	 */
+	UUIDv7,
+	/**
+	 * 按时间递增的ULID,26位,插入集中在索引末端
+	 */
+	ULID
+}
\ No newline at end of file
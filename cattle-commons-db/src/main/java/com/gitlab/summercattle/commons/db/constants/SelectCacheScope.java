@@ -0,0 +1,39 @@
+/*
+ * Copyright (C) 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gitlab.summercattle.commons.db.constants;
+
+/**
+ * 查询缓存的范围
+ */
+public enum SelectCacheScope {
+
+	/**
+	 * 按主键查询
+	 */
+	Key,
+	/**
+	 * 无条件查询
+	 */
+	All,
+	/**
+	 * 按条件查询
+	 */
+	Condition,
+	/**
+	 * 按条件查询,包含标识删除的记录
+	 */
+	ConditionIncludeDeleted
+}
\ No newline at end of file
@@ -112,6 +112,23 @@ public abstract class Dialect {
 		throw new CommonRuntimeException(getClass().getName() + "不支持序列");
 	}
 
+	/**
+	 * 是否支持一次查询多个序列值
+	 * @return 是否支持一次查询多个序列值
+	 */
+	public boolean supportsSequenceNextValues() {
+		return false;
+	}
+
+	/**
+	 * 一次查询多个序列值语句,查询个数以参数绑定
+	 * @param sequenceName 序列名
+	 * @return 一次查询多个序列值语句
+	 */
+	public String getSequenceNextValuesString(String sequenceName) {
+		throw new CommonRuntimeException(getClass().getName() + "不支持一次查询多个序列值");
+	}
+
 	/**
 	 * 创建序列语句
 	 * @param sequenceName 序列名
@@ -269,6 +286,30 @@ public abstract class Dialect {
 		return "null";
 	}
 
+	/**
+	 * 由统计信息查询表估计记录数的语句,表名以参数绑定
+	 * @return 查询语句,不支持时为null
+	 */
+	public String getApproximateCountCommand() {
+		return null;
+	}
+
+	/**
+	 * 是否支持一条插入语句插入多行(insert into ... values (...),(...))
+	 * @return 是否支持多行插入
+	 */
+	public boolean supportsMultiRowInsert() {
+		return false;
+	}
+
+	/**
+	 * 一条语句允许绑定的最大参数个数,0为不限制
+	 * @return 最大参数个数
+	 */
+	public int getMaxBindParameters() {
+		return 0;
+	}
+
 	public int getInExpressionCountLimit() {
 		return 0;
 	}
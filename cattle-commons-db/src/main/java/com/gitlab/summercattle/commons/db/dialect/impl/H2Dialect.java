@@ -0,0 +1,214 @@
+/*
+ * Copyright (C) 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gitlab.summercattle.commons.db.dialect.impl;
+
+import org.apache.commons.lang3.StringUtils;
+
+import com.gitlab.summercattle.commons.db.constants.DataType;
+import com.gitlab.summercattle.commons.db.dialect.Dialect;
+import com.gitlab.summercattle.commons.db.dialect.StructHandler;
+import com.gitlab.summercattle.commons.db.dialect.pagination.AbstractLimitHandler;
+import com.gitlab.summercattle.commons.db.dialect.pagination.LimitHandler;
+import com.gitlab.summercattle.commons.db.dialect.struct.H2StructHandler;
+import com.gitlab.summercattle.commons.exception.CommonException;
+
+/**
+ * H2数据库方言,用于内嵌数据库下的测试与基准测试
+ */
+public class H2Dialect extends Dialect {
+
+	private final StructHandler structHandler;
+
+	private static final LimitHandler LIMIT_HANDLER = new AbstractLimitHandler() {
+
+		@Override
+		public String processSql(String sql, int startRow) {
+			boolean hasOffset = startRow > 0;
+			return sql + (hasOffset ? " limit ? offset ?" : " limit ?");
+		}
+
+		@Override
+		public boolean bindLimitParametersInReverseOrder() {
+			return true;
+		}
+	};
+
+	public H2Dialect() {
+		super();
+		registerColumnType(DataType.Boolean, "boolean");
+		registerColumnType(DataType.String, "varchar", "varchar($l)");
+		registerColumnType(DataType.NString, "varchar", "varchar($l)");
+		registerColumnType(DataType.LongString, "clob");
+		registerColumnType(DataType.Binary, "varbinary", "varbinary($l)");
+		registerColumnType(DataType.LongBinary, "blob");
+		registerColumnType(DataType.Clob, "clob");
+		registerColumnType(DataType.NClob, "clob");
+		registerColumnType(DataType.Blob, "blob");
+		registerColumnType(DataType.Date, "date");
+		registerColumnType(DataType.Time, "time");
+		registerColumnType(DataType.Timestamp, "timestamp");
+		registerColumnType(DataType.Number, "decimal", "decimal($l,$s)");
+		registerColumnType(DataType.Double, "double");
+		structHandler = new H2StructHandler(this);
+	}
+
+	@Override
+	public String getCurrentSchemaCommand() {
+		return "select schema()";
+	}
+
+	@Override
+	public boolean supportsSequences() {
+		return true;
+	}
+
+	@Override
+	public boolean supportsPooledSequences() {
+		return true;
+	}
+
+	@Override
+	public String getSequenceNextValString(String sequenceName) {
+		return "select " + getSelectSequenceNextValString(sequenceName);
+	}
+
+	@Override
+	public String getSelectSequenceNextValString(String sequenceName) {
+		return "next value for " + sequenceName;
+	}
+
+	@Override
+	public boolean supportsSequenceNextValues() {
+		return true;
+	}
+
+	@Override
+	public String getSequenceNextValuesString(String sequenceName) {
+		return "select " + getSelectSequenceNextValString(sequenceName) + " from system_range(1, ?)";
+	}
+
+	@Override
+	public String getCreateSequenceCommand(String sequenceName) {
+		return "create sequence " + sequenceName;
+	}
+
+	@Override
+	public String getQuerySequencesCommand() {
+		return "select SEQUENCE_NAME from INFORMATION_SCHEMA.SEQUENCES where SEQUENCE_SCHEMA = schema()";
+	}
+
+	@Override
+	public String getSelectGUIDString() {
+		return "select random_uuid()";
+	}
+
+	@Override
+	public boolean supportsLimit() {
+		return true;
+	}
+
+	@Override
+	public LimitHandler getLimitHandler() {
+		return LIMIT_HANDLER;
+	}
+
+	@Override
+	public boolean supportsMultiRowInsert() {
+		return true;
+	}
+
+	@Override
+	public String getApproximateCountCommand() {
+		return "select ROW_COUNT_ESTIMATE from INFORMATION_SCHEMA.TABLES where TABLE_SCHEMA = schema() and TABLE_NAME = upper(?)";
+	}
+
+	@Override
+	public boolean supportsUnionAll() {
+		return true;
+	}
+
+	@Override
+	public boolean supportsCommentOn() {
+		return true;
+	}
+
+	@Override
+	public boolean supportsCurrentTimestampSelection() {
+		return true;
+	}
+
+	@Override
+	public boolean isCurrentTimestampSelectStringCallable() {
+		return false;
+	}
+
+	@Override
+	public String getCurrentTimestampSelectString() {
+		return "select current_timestamp()";
+	}
+
+	@Override
+	public String getAddColumnString() {
+		return "add column";
+	}
+
+	@Override
+	public String getDropPrimaryKeyString(String constraintName) {
+		return " drop primary key";
+	}
+
+	@Override
+	public StructHandler getStructHandler() {
+		return structHandler;
+	}
+
+	@Override
+	public String getModifyColumnString() {
+		return "alter column";
+	}
+
+	@Override
+	public String getModifyColumnDataTypeCommand(String tableName, String fieldName, DataType dataType, int length, int scale, boolean allowNull,
+			String defaultValue, String comment) throws CommonException {
+		return getAlterTableString(tableName) + " " + getModifyColumnString() + " " + quote(fieldName) + " set data type "
+				+ getTypeName(dataType, length, scale);
+	}
+
+	@Override
+	public String getModifyColumnNullCommand(String tableName, String fieldName, DataType dataType, int length, int scale, boolean allowNull,
+			String defaultValue, String comment) throws CommonException {
+		return getAlterTableString(tableName) + " " + getModifyColumnString() + " " + quote(fieldName) + (allowNull ? " set null" : " set not null");
+	}
+
+	@Override
+	public String getModifyColumnDefaultCommand(String tableName, String fieldName, DataType dataType, String defaultValue) {
+		String sql = getAlterTableString(tableName) + " " + getModifyColumnString() + " " + quote(fieldName);
+		if (StringUtils.isNotBlank(defaultValue)) {
+			sql += " set default ";
+			if (dataType == DataType.String || dataType == DataType.NString || dataType == DataType.LongString || dataType == DataType.Clob
+					|| dataType == DataType.NClob) {
+				sql += "'" + defaultValue + "'";
+			}
+			else {
+				sql += defaultValue;
+			}
+		}
+		else {
+			sql += " drop default";
+		}
+		return sql;
+	}
+}
\ No newline at end of file
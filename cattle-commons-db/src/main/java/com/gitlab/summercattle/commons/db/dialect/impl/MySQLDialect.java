@@ -40,6 +40,29 @@ public class MySQLDialect extends Dialect {
 			boolean hasOffset = startRow > 0;
 			return sql + (hasOffset ? " limit ?, ?" : " limit ?");
 		}
+
+		@Override
+		public String getSeekCondition(String[] keyFields, boolean desc) {
+			if (keyFields.length == 1) {
+				return keyFields[0] + (desc ? " < ?" : " > ?");
+			}
+			StringBuilder condition = new StringBuilder("(");
+			StringBuilder values = new StringBuilder("(");
+			for (int i = 0; i < keyFields.length; i++) {
+				if (i > 0) {
+					condition.append(", ");
+					values.append(", ");
+				}
+				condition.append(keyFields[i]);
+				values.append("?");
+			}
+			return condition.append(desc ? ") < " : ") > ").append(values).append(")").toString();
+		}
+
+		@Override
+		public Object[] getSeekParameters(Object[] lastKeys) {
+			return lastKeys;
+		}
 	};
 
 	public MySQLDialect() {
@@ -99,6 +122,21 @@ public class MySQLDialect extends Dialect {
 		return LIMIT_HANDLER;
 	}
 
+	@Override
+	public boolean supportsMultiRowInsert() {
+		return true;
+	}
+
+	@Override
+	public int getMaxBindParameters() {
+		return 65535;
+	}
+
+	@Override
+	public String getApproximateCountCommand() {
+		return "select table_rows from information_schema.tables where table_schema = database() and table_name = ?";
+	}
+
 	@Override
 	public char openQuote() {
 		return '`';
@@ -121,6 +121,11 @@ public class Oracle8iDialect extends Dialect {
 		return LIMIT_HANDLER;
 	}
 
+	@Override
+	public String getApproximateCountCommand() {
+		return "select num_rows from user_tables where table_name = upper(?)";
+	}
+
 	public String getBasicSelectClauseNullString(int sqlType) {
 		return super.getSelectClauseNullString(sqlType);
 	}
@@ -165,6 +170,16 @@ public class Oracle8iDialect extends Dialect {
 		return sequenceName + ".nextval";
 	}
 
+	@Override
+	public boolean supportsSequenceNextValues() {
+		return true;
+	}
+
+	@Override
+	public String getSequenceNextValuesString(String sequenceName) {
+		return "select " + getSelectSequenceNextValString(sequenceName) + " from dual connect by level <= ?";
+	}
+
 	@Override
 	public String getCreateSequenceCommand(String sequenceName) {
 		//starts with 1, implicitly
@@ -40,4 +40,42 @@ public interface LimitHandler {
 	int bindLimitParametersAtEndOfQuery(int startRow, int perPageRows, PreparedStatement statement, int index) throws CommonException;
 
 	Object[] getOutputParameters(Object[] params, int startRow, int perPageRows);
+
+	/**
+	 * 键集分页条件,缺省展开为(k1 &gt; ?) or (k1 = ? and k2 &gt; ?)...的形式
+	 * @param keyFields 键字段
+	 * @param desc 是否降序
+	 * @return 键集分页条件
+	 */
+	default String getSeekCondition(String[] keyFields, boolean desc) {
+		String operator = desc ? " < ?" : " > ?";
+		StringBuilder condition = new StringBuilder("(");
+		for (int i = 0; i < keyFields.length; i++) {
+			if (i > 0) {
+				condition.append(" or ");
+			}
+			condition.append("(");
+			for (int j = 0; j < i; j++) {
+				condition.append(keyFields[j]).append(" = ? and ");
+			}
+			condition.append(keyFields[i]).append(operator).append(")");
+		}
+		return condition.append(")").toString();
+	}
+
+	/**
+	 * 键集分页条件的参数,顺序与{@link #getSeekCondition(String[], boolean)}对应
+	 * @param lastKeys 上一页最后一条记录的键字段值
+	 * @return 参数
+	 */
+	default Object[] getSeekParameters(Object[] lastKeys) {
+		Object[] params = new Object[lastKeys.length * (lastKeys.length + 1) / 2];
+		int index = 0;
+		for (int i = 0; i < lastKeys.length; i++) {
+			for (int j = 0; j <= i; j++) {
+				params[index++] = lastKeys[j];
+			}
+		}
+		return params;
+	}
 }
\ No newline at end of file
@@ -0,0 +1,315 @@
+/*
+ * Copyright (C) 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gitlab.summercattle.commons.db.dialect.struct;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.apache.commons.lang3.StringUtils;
+
+import com.gitlab.summercattle.commons.db.dialect.Dialect;
+import com.gitlab.summercattle.commons.db.dialect.StructHandler;
+import com.gitlab.summercattle.commons.db.struct.FieldStruct;
+import com.gitlab.summercattle.commons.db.struct.TableIndexStruct;
+import com.gitlab.summercattle.commons.db.struct.TableObjectStruct;
+import com.gitlab.summercattle.commons.db.struct.TablePrimaryKeyStruct;
+import com.gitlab.summercattle.commons.db.struct.ViewObjectStruct;
+import com.gitlab.summercattle.commons.db.struct.impl.FieldStructImpl;
+import com.gitlab.summercattle.commons.db.struct.impl.TableFieldStructImpl;
+import com.gitlab.summercattle.commons.db.struct.impl.TableIndexStructImpl;
+import com.gitlab.summercattle.commons.db.struct.impl.TableObjectStructImpl;
+import com.gitlab.summercattle.commons.db.struct.impl.TablePrimaryKeyStructImpl;
+import com.gitlab.summercattle.commons.db.struct.impl.ViewObjectStructImpl;
+import com.gitlab.summercattle.commons.db.utils.JdbcUtils;
+import com.gitlab.summercattle.commons.exception.CommonException;
+import com.gitlab.summercattle.commons.utils.exception.ExceptionWrapUtils;
+
+/**
+ * H2数据结构查询,基于1.4版本的INFORMATION_SCHEMA,未加引号的表名按大写存储
+ */
+public class H2StructHandler implements StructHandler {
+
+	private final Dialect dialect;
+
+	public H2StructHandler(Dialect dialect) {
+		this.dialect = dialect;
+	}
+
+	@Override
+	public boolean existTable(Connection conn, String name) throws CommonException {
+		PreparedStatement ps = null;
+		ResultSet rs = null;
+		try {
+			String tableType = "TABLE";
+			String sql = "select count(*) from INFORMATION_SCHEMA.TABLES where TABLE_SCHEMA=? and TABLE_TYPE=? and TABLE_NAME=?";
+			ps = conn.prepareStatement(sql);
+			ps.setString(1, dialect.getSchema());
+			ps.setString(2, tableType);
+			ps.setString(3, name.toUpperCase());
+			rs = JdbcUtils.executeQuery(ps, sql, new Object[] { dialect.getSchema(), tableType, name.toUpperCase() });
+			rs.next();
+			return rs.getInt(1) > 0;
+		}
+		catch (SQLException e) {
+			throw ExceptionWrapUtils.wrap(e);
+		}
+		finally {
+			JdbcUtils.closeResultSet(rs);
+			JdbcUtils.closeStatement(ps);
+		}
+	}
+
+	@Override
+	public TableObjectStruct getTable(Connection conn, String name) throws CommonException {
+		//表
+		String tableType = "TABLE";
+		String tableComment;
+		PreparedStatement tablePs = null;
+		ResultSet tableRs = null;
+		try {
+			String sql = "select REMARKS from INFORMATION_SCHEMA.TABLES where TABLE_SCHEMA=? and TABLE_TYPE=? and TABLE_NAME=?";
+			tablePs = conn.prepareStatement(sql);
+			tablePs.setString(1, dialect.getSchema());
+			tablePs.setString(2, tableType);
+			tablePs.setString(3, name.toUpperCase());
+			tableRs = JdbcUtils.executeQuery(tablePs, sql, new Object[] { dialect.getSchema(), tableType, name.toUpperCase() });
+			if (!tableRs.next()) {
+				throw new CommonException("表'" + name + "'不存在");
+			}
+			tableComment = tableRs.getString("REMARKS");
+		}
+		catch (SQLException e) {
+			throw ExceptionWrapUtils.wrap(e);
+		}
+		finally {
+			JdbcUtils.closeResultSet(tableRs);
+			JdbcUtils.closeStatement(tablePs);
+		}
+		//字段
+		ConcurrentMap<String, FieldStruct> fields = new ConcurrentHashMap<String, FieldStruct>();
+		PreparedStatement columnPs = null;
+		ResultSet columnRs = null;
+		try {
+			String sql = "select COLUMN_NAME,DATA_TYPE,TYPE_NAME,IS_NULLABLE,COLUMN_DEFAULT,CHARACTER_MAXIMUM_LENGTH,NUMERIC_PRECISION,NUMERIC_SCALE,REMARKS from "
+					+ "INFORMATION_SCHEMA.COLUMNS where TABLE_SCHEMA=? and TABLE_NAME=? order by ORDINAL_POSITION";
+			columnPs = conn.prepareStatement(sql);
+			columnPs.setString(1, dialect.getSchema());
+			columnPs.setString(2, name.toUpperCase());
+			columnRs = JdbcUtils.executeQuery(columnPs, sql, new Object[] { dialect.getSchema(), name.toUpperCase() });
+			while (columnRs.next()) {
+				String columnName = columnRs.getString("COLUMN_NAME");
+				int jdbcDataType = columnRs.getInt("DATA_TYPE");
+				String typeName = columnRs.getString("TYPE_NAME");
+				boolean isNullable = columnRs.getString("IS_NULLABLE").equalsIgnoreCase("YES");
+				String columnDefault = getDefaultValue(columnRs.getString("COLUMN_DEFAULT"));
+				long columnSize = 0;
+				int decimalDigits = 0;
+				if (jdbcDataType == Types.VARCHAR || jdbcDataType == Types.VARBINARY) {
+					columnSize = columnRs.getLong("CHARACTER_MAXIMUM_LENGTH");
+				}
+				else if (jdbcDataType == Types.DECIMAL || jdbcDataType == Types.NUMERIC) {
+					columnSize = columnRs.getLong("NUMERIC_PRECISION");
+					decimalDigits = columnRs.getInt("NUMERIC_SCALE");
+				}
+				fields.put(columnName.toUpperCase(), new TableFieldStructImpl(columnName, jdbcDataType, typeName, isNullable, columnSize,
+						decimalDigits, columnDefault, columnRs.getString("REMARKS")));
+			}
+		}
+		catch (SQLException e) {
+			throw ExceptionWrapUtils.wrap(e);
+		}
+		finally {
+			JdbcUtils.closeResultSet(columnRs);
+			JdbcUtils.closeStatement(columnPs);
+		}
+		if (fields.size() == 0) {
+			throw new CommonException("表'" + name + "'没有字段");
+		}
+		//主键
+		TablePrimaryKeyStruct primaryKey = null;
+		PreparedStatement primaryKeyPs = null;
+		ResultSet primaryKeyRs = null;
+		try {
+			String sql = "select INDEX_NAME,COLUMN_NAME from INFORMATION_SCHEMA.INDEXES where TABLE_SCHEMA=? and TABLE_NAME=? and PRIMARY_KEY=true order by "
+					+ "ORDINAL_POSITION";
+			primaryKeyPs = conn.prepareStatement(sql);
+			primaryKeyPs.setString(1, dialect.getSchema());
+			primaryKeyPs.setString(2, name.toUpperCase());
+			primaryKeyRs = JdbcUtils.executeQuery(primaryKeyPs, sql, new Object[] { dialect.getSchema(), name.toUpperCase() });
+			String primaryKeyName = null;
+			String primaryKeyFields = "";
+			while (primaryKeyRs.next()) {
+				primaryKeyName = primaryKeyRs.getString("INDEX_NAME");
+				if (primaryKeyFields.length() > 0) {
+					primaryKeyFields += ",";
+				}
+				primaryKeyFields += primaryKeyRs.getString("COLUMN_NAME");
+			}
+			if (StringUtils.isNotBlank(primaryKeyFields)) {
+				primaryKey = new TablePrimaryKeyStructImpl(primaryKeyName, primaryKeyFields);
+			}
+		}
+		catch (SQLException e) {
+			throw ExceptionWrapUtils.wrap(e);
+		}
+		finally {
+			JdbcUtils.closeResultSet(primaryKeyRs);
+			JdbcUtils.closeStatement(primaryKeyPs);
+		}
+		//索引
+		ConcurrentMap<String, TableIndexStruct> indexes = new ConcurrentHashMap<String, TableIndexStruct>();
+		PreparedStatement indexPs = null;
+		ResultSet indexRs = null;
+		try {
+			String sql = "select INDEX_NAME,NON_UNIQUE,COLUMN_NAME,ASC_OR_DESC from INFORMATION_SCHEMA.INDEXES where TABLE_SCHEMA=? and TABLE_NAME=? and PRIMARY_KEY=false "
+					+ "order by INDEX_NAME,ORDINAL_POSITION";
+			indexPs = conn.prepareStatement(sql);
+			indexPs.setString(1, dialect.getSchema());
+			indexPs.setString(2, name.toUpperCase());
+			indexRs = JdbcUtils.executeQuery(indexPs, sql, new Object[] { dialect.getSchema(), name.toUpperCase() });
+			String lIndexName = null;
+			boolean unique = false;
+			String indexField = "";
+			while (indexRs.next()) {
+				String indexName = indexRs.getString("INDEX_NAME");
+				if (StringUtils.isNotBlank(lIndexName)) {
+					if (!lIndexName.equals(indexName)) {
+						indexes.put(lIndexName.toUpperCase(), new TableIndexStructImpl(lIndexName, unique, indexField));
+						indexField = "";
+					}
+				}
+				lIndexName = indexName;
+				unique = !indexRs.getBoolean("NON_UNIQUE");
+				if (indexField.length() > 0) {
+					indexField += ",";
+				}
+				indexField += indexRs.getString("COLUMN_NAME");
+				indexField += "D".equalsIgnoreCase(indexRs.getString("ASC_OR_DESC")) ? ":desc" : ":asc";
+			}
+			if (StringUtils.isNotBlank(indexField)) {
+				indexes.put(lIndexName.toUpperCase(), new TableIndexStructImpl(lIndexName, unique, indexField));
+			}
+		}
+		catch (SQLException e) {
+			throw ExceptionWrapUtils.wrap(e);
+		}
+		finally {
+			JdbcUtils.closeResultSet(indexRs);
+			JdbcUtils.closeStatement(indexPs);
+		}
+		return new TableObjectStructImpl(name, tableComment, fields, primaryKey, indexes);
+	}
+
+	/**
+	 * 缺省值为表达式文本,字符串常量去掉两端的单引号
+	 */
+	private String getDefaultValue(String columnDefault) {
+		if (null != columnDefault && columnDefault.length() >= 2 && columnDefault.startsWith("'") && columnDefault.endsWith("'")) {
+			return columnDefault.substring(1, columnDefault.length() - 1).replace("''", "'");
+		}
+		return columnDefault;
+	}
+
+	@Override
+	public boolean existView(Connection conn, String name) throws CommonException {
+		PreparedStatement ps = null;
+		ResultSet rs = null;
+		try {
+			String sql = "select count(*) from INFORMATION_SCHEMA.VIEWS where TABLE_SCHEMA=? and TABLE_NAME=?";
+			ps = conn.prepareStatement(sql);
+			ps.setString(1, dialect.getSchema());
+			ps.setString(2, name.toUpperCase());
+			rs = JdbcUtils.executeQuery(ps, sql, new Object[] { dialect.getSchema(), name.toUpperCase() });
+			rs.next();
+			return rs.getInt(1) > 0;
+		}
+		catch (SQLException e) {
+			throw ExceptionWrapUtils.wrap(e);
+		}
+		finally {
+			JdbcUtils.closeResultSet(rs);
+			JdbcUtils.closeStatement(ps);
+		}
+	}
+
+	@Override
+	public ViewObjectStruct getView(Connection conn, String name) throws CommonException {
+		String definition;
+		PreparedStatement tablePs = null;
+		ResultSet tableRs = null;
+		try {
+			String sql = "select VIEW_DEFINITION from INFORMATION_SCHEMA.VIEWS where TABLE_SCHEMA=? and TABLE_NAME=?";
+			tablePs = conn.prepareStatement(sql);
+			tablePs.setString(1, dialect.getSchema());
+			tablePs.setString(2, name.toUpperCase());
+			tableRs = JdbcUtils.executeQuery(tablePs, sql, new Object[] { dialect.getSchema(), name.toUpperCase() });
+			if (!tableRs.next()) {
+				throw new CommonException("视图'" + name + "'不存在");
+			}
+			definition = tableRs.getString("VIEW_DEFINITION");
+		}
+		catch (SQLException e) {
+			throw ExceptionWrapUtils.wrap(e);
+		}
+		finally {
+			JdbcUtils.closeResultSet(tableRs);
+			JdbcUtils.closeStatement(tablePs);
+		}
+		//字段
+		ConcurrentMap<String, FieldStruct> fields = new ConcurrentHashMap<String, FieldStruct>();
+		PreparedStatement columnPs = null;
+		ResultSet columnRs = null;
+		try {
+			String sql = "select COLUMN_NAME,DATA_TYPE,TYPE_NAME,CHARACTER_MAXIMUM_LENGTH,NUMERIC_PRECISION,NUMERIC_SCALE from INFORMATION_SCHEMA.COLUMNS where TABLE_SCHEMA=? "
+					+ "and TABLE_NAME=? order by ORDINAL_POSITION";
+			columnPs = conn.prepareStatement(sql);
+			columnPs.setString(1, dialect.getSchema());
+			columnPs.setString(2, name.toUpperCase());
+			columnRs = JdbcUtils.executeQuery(columnPs, sql, new Object[] { dialect.getSchema(), name.toUpperCase() });
+			while (columnRs.next()) {
+				String columnName = columnRs.getString("COLUMN_NAME");
+				int jdbcDataType = columnRs.getInt("DATA_TYPE");
+				String typeName = columnRs.getString("TYPE_NAME");
+				long columnSize = 0;
+				int decimalDigits = 0;
+				if (jdbcDataType == Types.VARCHAR || jdbcDataType == Types.VARBINARY) {
+					columnSize = columnRs.getLong("CHARACTER_MAXIMUM_LENGTH");
+				}
+				else if (jdbcDataType == Types.DECIMAL || jdbcDataType == Types.NUMERIC) {
+					columnSize = columnRs.getLong("NUMERIC_PRECISION");
+					decimalDigits = columnRs.getInt("NUMERIC_SCALE");
+				}
+				fields.put(columnName.toUpperCase(), new FieldStructImpl(columnName, jdbcDataType, typeName, columnSize, decimalDigits));
+			}
+		}
+		catch (SQLException e) {
+			throw ExceptionWrapUtils.wrap(e);
+		}
+		finally {
+			JdbcUtils.closeResultSet(columnRs);
+			JdbcUtils.closeStatement(columnPs);
+		}
+		if (fields.size() == 0) {
+			throw new CommonException("视图'" + name + "'没有字段");
+		}
+		return new ViewObjectStructImpl(name, definition, fields);
+	}
+}
\ No newline at end of file
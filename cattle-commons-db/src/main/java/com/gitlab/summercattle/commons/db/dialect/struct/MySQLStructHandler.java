@@ -40,7 +40,6 @@ import com.gitlab.summercattle.commons.db.struct.impl.TablePrimaryKeyStructImpl;
 import com.gitlab.summercattle.commons.db.struct.impl.ViewObjectStructImpl;
 import com.gitlab.summercattle.commons.db.utils.JdbcUtils;
 import com.gitlab.summercattle.commons.exception.CommonException;
-import com.gitlab.summercattle.commons.utils.auxiliary.ArrayUtils;
 import com.gitlab.summercattle.commons.utils.exception.ExceptionWrapUtils;
 
 public class MySQLStructHandler implements StructHandler {
@@ -62,8 +61,7 @@ public class MySQLStructHandler implements StructHandler {
 			ps.setString(1, dialect.getSchema());
 			ps.setString(2, tableType);
 			ps.setString(3, name.toLowerCase());
-			rs = JdbcUtils.executeQuery(ps,
-					"执行SQL语句:" + sql + ",参数值:" + ArrayUtils.toString(new Object[] { dialect.getSchema(), tableType, name.toLowerCase() }));
+			rs = JdbcUtils.executeQuery(ps, sql, new Object[] { dialect.getSchema(), tableType, name.toLowerCase() });
 			rs.next();
 			return rs.getInt(1) > 0;
 		}
@@ -89,8 +87,7 @@ public class MySQLStructHandler implements StructHandler {
 			tablePs.setString(1, dialect.getSchema());
 			tablePs.setString(2, tableType);
 			tablePs.setString(3, name.toLowerCase());
-			tableRs = JdbcUtils.executeQuery(tablePs,
-					"执行SQL语句:" + sql + ",参数值:" + ArrayUtils.toString(new Object[] { dialect.getSchema(), tableType, name.toLowerCase() }));
+			tableRs = JdbcUtils.executeQuery(tablePs, sql, new Object[] { dialect.getSchema(), tableType, name.toLowerCase() });
 			if (!tableRs.next()) {
 				throw new CommonException("表'" + name + "'不存在");
 			}
@@ -113,8 +110,7 @@ public class MySQLStructHandler implements StructHandler {
 			columnPs = conn.prepareStatement(sql);
 			columnPs.setString(1, dialect.getSchema());
 			columnPs.setString(2, name.toLowerCase());
-			columnRs = JdbcUtils.executeQuery(columnPs,
-					"执行SQL语句:" + sql + ",参数值:" + ArrayUtils.toString(new Object[] { dialect.getSchema(), name.toLowerCase() }));
+			columnRs = JdbcUtils.executeQuery(columnPs, sql, new Object[] { dialect.getSchema(), name.toLowerCase() });
 			while (columnRs.next()) {
 				String columnName = columnRs.getString("COLUMN_NAME");
 				String typeName = columnRs.getString("DATA_TYPE");
@@ -171,8 +167,7 @@ public class MySQLStructHandler implements StructHandler {
 			primaryKeyPs.setString(1, dialect.getSchema());
 			primaryKeyPs.setString(2, name.toLowerCase());
 			primaryKeyPs.setString(3, "PRIMARY");
-			primaryKeyRs = JdbcUtils.executeQuery(primaryKeyPs,
-					"执行SQL语句:" + sql + ",参数值:" + ArrayUtils.toString(new Object[] { dialect.getSchema(), name.toLowerCase(), "PRIMARY" }));
+			primaryKeyRs = JdbcUtils.executeQuery(primaryKeyPs, sql, new Object[] { dialect.getSchema(), name.toLowerCase(), "PRIMARY" });
 			String primaryKeyFields = "";
 			while (primaryKeyRs.next()) {
 				if (primaryKeyFields.length() > 0) {
@@ -202,8 +197,7 @@ public class MySQLStructHandler implements StructHandler {
 			indexPs.setString(1, dialect.getSchema());
 			indexPs.setString(2, name.toLowerCase());
 			indexPs.setString(3, "PRIMARY");
-			indexRs = JdbcUtils.executeQuery(indexPs,
-					"执行SQL语句:" + sql + ",参数值:" + ArrayUtils.toString(new Object[] { dialect.getSchema(), name.toLowerCase(), "PRIMARY" }));
+			indexRs = JdbcUtils.executeQuery(indexPs, sql, new Object[] { dialect.getSchema(), name.toLowerCase(), "PRIMARY" });
 			String lIndexName = null;
 			boolean unique = false;
 			String indexField = "";
@@ -263,8 +257,7 @@ public class MySQLStructHandler implements StructHandler {
 			ps = conn.prepareStatement(sql);
 			ps.setString(1, dialect.getSchema());
 			ps.setString(2, name.toLowerCase());
-			rs = JdbcUtils.executeQuery(ps,
-					"执行SQL语句:" + sql + ",参数值:" + ArrayUtils.toString(new Object[] { dialect.getSchema(), name.toLowerCase() }));
+			rs = JdbcUtils.executeQuery(ps, sql, new Object[] { dialect.getSchema(), name.toLowerCase() });
 			rs.next();
 			return rs.getInt(1) > 0;
 		}
@@ -287,8 +280,7 @@ public class MySQLStructHandler implements StructHandler {
 			tablePs = conn.prepareStatement(sql);
 			tablePs.setString(1, dialect.getSchema());
 			tablePs.setString(2, name.toLowerCase());
-			tableRs = JdbcUtils.executeQuery(tablePs,
-					"执行SQL语句:" + sql + ",参数值:" + ArrayUtils.toString(new Object[] { dialect.getSchema(), name.toLowerCase() }));
+			tableRs = JdbcUtils.executeQuery(tablePs, sql, new Object[] { dialect.getSchema(), name.toLowerCase() });
 			if (!tableRs.next()) {
 				throw new CommonException("视图'" + name + "'不存在");
 			}
@@ -311,8 +303,7 @@ public class MySQLStructHandler implements StructHandler {
 			columnPs = conn.prepareStatement(sql);
 			columnPs.setString(1, dialect.getSchema());
 			columnPs.setString(2, name.toLowerCase());
-			columnRs = JdbcUtils.executeQuery(columnPs,
-					"执行SQL语句:" + sql + ",参数值:" + ArrayUtils.toString(new Object[] { dialect.getSchema(), name.toLowerCase() }));
+			columnRs = JdbcUtils.executeQuery(columnPs, sql, new Object[] { dialect.getSchema(), name.toLowerCase() });
 			while (columnRs.next()) {
 				String columnName = columnRs.getString("COLUMN_NAME");
 				String typeName = columnRs.getString("DATA_TYPE");
@@ -39,7 +39,6 @@ import com.gitlab.summercattle.commons.db.struct.impl.TablePrimaryKeyStructImpl;
 import com.gitlab.summercattle.commons.db.struct.impl.ViewObjectStructImpl;
 import com.gitlab.summercattle.commons.db.utils.JdbcUtils;
 import com.gitlab.summercattle.commons.exception.CommonException;
-import com.gitlab.summercattle.commons.utils.auxiliary.ArrayUtils;
 import com.gitlab.summercattle.commons.utils.exception.ExceptionWrapUtils;
 
 public class OracleStructHandler implements StructHandler {
@@ -54,7 +53,7 @@ public class OracleStructHandler implements StructHandler {
 			String sql = "select count(*) FROM USER_TABLES where TABLE_NAME=?";
 			ps = conn.prepareStatement(sql);
 			ps.setString(1, name.toUpperCase());
-			rs = JdbcUtils.executeQuery(ps, "执行SQL语句:" + sql + ",参数值:" + ArrayUtils.toString(new Object[] { name.toUpperCase() }));
+			rs = JdbcUtils.executeQuery(ps, sql, new Object[] { name.toUpperCase() });
 			rs.next();
 			return rs.getInt(1) > 0;
 		}
@@ -77,7 +76,7 @@ public class OracleStructHandler implements StructHandler {
 			String sql = "select COMMENTS from USER_TAB_COMMENTS where TABLE_NAME=?";
 			tablePs = conn.prepareStatement(sql);
 			tablePs.setString(1, name.toUpperCase());
-			tableRs = JdbcUtils.executeQuery(tablePs, "执行SQL语句:" + sql + ",参数值:" + ArrayUtils.toString(new Object[] { name.toUpperCase() }));
+			tableRs = JdbcUtils.executeQuery(tablePs, sql, new Object[] { name.toUpperCase() });
 			if (!tableRs.next()) {
 				throw new CommonException("表'" + name + "'不存在");
 			}
@@ -98,7 +97,7 @@ public class OracleStructHandler implements StructHandler {
 			String sql = "select COLUMN_NAME,DATA_TYPE,NULLABLE,DATA_DEFAULT,CHAR_LENGTH,DATA_PRECISION,DATA_SCALE from USER_TAB_COLUMNS where TABLE_NAME=? order by COLUMN_ID";
 			columnPs = conn.prepareStatement(sql);
 			columnPs.setString(1, name.toUpperCase());
-			columnRs = JdbcUtils.executeQuery(columnPs, "执行SQL语句:" + sql + ",参数值:" + ArrayUtils.toString(new Object[] { name.toUpperCase() }));
+			columnRs = JdbcUtils.executeQuery(columnPs, sql, new Object[] { name.toUpperCase() });
 			while (columnRs.next()) {
 				String columnName = columnRs.getString("COLUMN_NAME");
 				String typeName = columnRs.getString("DATA_TYPE");
@@ -157,8 +156,7 @@ public class OracleStructHandler implements StructHandler {
 			primaryKeyPs = conn.prepareStatement(sql);
 			primaryKeyPs.setString(1, name.toUpperCase());
 			primaryKeyPs.setString(2, "P");
-			primaryKeyRs = JdbcUtils.executeQuery(primaryKeyPs,
-					"执行SQL语句:" + sql + ",参数值:" + ArrayUtils.toString(new Object[] { name.toUpperCase(), "P" }));
+			primaryKeyRs = JdbcUtils.executeQuery(primaryKeyPs, sql, new Object[] { name.toUpperCase(), "P" });
 			if (primaryKeyRs.next()) {
 				String constraintName = primaryKeyRs.getString("CONSTRAINT_NAME");
 				primaryKeyIndexName = primaryKeyRs.getString("INDEX_NAME");
@@ -169,8 +167,7 @@ public class OracleStructHandler implements StructHandler {
 					primaryKeyColumnPs = conn.prepareStatement(sql);
 					primaryKeyColumnPs.setString(1, name.toUpperCase());
 					primaryKeyColumnPs.setString(2, constraintName);
-					primaryKeyColumnRs = JdbcUtils.executeQuery(primaryKeyColumnPs,
-							"执行SQL语句:" + sql + ",参数值:" + ArrayUtils.toString(new Object[] { name.toUpperCase(), constraintName }));
+					primaryKeyColumnRs = JdbcUtils.executeQuery(primaryKeyColumnPs, sql, new Object[] { name.toUpperCase(), constraintName });
 					String primaryKeyFields = "";
 					while (primaryKeyColumnRs.next()) {
 						if (primaryKeyFields.length() > 0) {
@@ -207,11 +204,8 @@ public class OracleStructHandler implements StructHandler {
 			if (StringUtils.isNotBlank(primaryKeyIndexName)) {
 				indexPs.setString(2, primaryKeyIndexName);
 			}
-			indexRs = JdbcUtils.executeQuery(indexPs,
-					"执行SQL语句:" + sql + ",参数值:"
-							+ ArrayUtils
-									.toString(StringUtils.isNotBlank(primaryKeyIndexName) ? new Object[] { name.toUpperCase(), primaryKeyIndexName }
-											: new Object[] { name.toUpperCase() }));
+			indexRs = JdbcUtils.executeQuery(indexPs, sql, StringUtils.isNotBlank(primaryKeyIndexName)
+					? new Object[] { name.toUpperCase(), primaryKeyIndexName } : new Object[] { name.toUpperCase() });
 			while (indexRs.next()) {
 				String indexName = indexRs.getString("INDEX_NAME");
 				String uniqueness = indexRs.getString("UNIQUENESS");
@@ -229,8 +223,7 @@ public class OracleStructHandler implements StructHandler {
 					indexColumnPs = conn.prepareStatement(sql);
 					indexColumnPs.setString(1, name.toUpperCase());
 					indexColumnPs.setString(2, indexName);
-					indexColumnRs = JdbcUtils.executeQuery(indexColumnPs,
-							"执行SQL语句:" + sql + ",参数值:" + ArrayUtils.toString(new Object[] { name.toUpperCase(), indexName }));
+					indexColumnRs = JdbcUtils.executeQuery(indexColumnPs, sql, new Object[] { name.toUpperCase(), indexName });
 					String indexField = "";
 					while (indexColumnRs.next()) {
 						if (indexField.length() > 0) {
@@ -282,7 +275,7 @@ public class OracleStructHandler implements StructHandler {
 			String sql = "select count(*) FROM USER_VIEWS where VIEW_NAME=?";
 			ps = conn.prepareStatement(sql);
 			ps.setString(1, name.toUpperCase());
-			rs = JdbcUtils.executeQuery(ps, "执行SQL语句:" + sql + ",参数值:" + ArrayUtils.toString(new Object[] { name.toUpperCase() }));
+			rs = JdbcUtils.executeQuery(ps, sql, new Object[] { name.toUpperCase() });
 			rs.next();
 			return rs.getInt(1) > 0;
 		}
@@ -304,7 +297,7 @@ public class OracleStructHandler implements StructHandler {
 			String sql = "select TEXT from USER_VIEWS where VIEW_NAME=?";
 			tablePs = conn.prepareStatement(sql);
 			tablePs.setString(1, name.toUpperCase());
-			tableRs = JdbcUtils.executeQuery(tablePs, "执行SQL语句:" + sql + ",参数值:" + ArrayUtils.toString(new Object[] { name.toUpperCase() }));
+			tableRs = JdbcUtils.executeQuery(tablePs, sql, new Object[] { name.toUpperCase() });
 			if (!tableRs.next()) {
 				throw new CommonException("视图'" + name + "'不存在");
 			}
@@ -325,7 +318,7 @@ public class OracleStructHandler implements StructHandler {
 			String sql = "select COLUMN_NAME,DATA_TYPE,CHAR_LENGTH,DATA_PRECISION,DATA_SCALE from USER_TAB_COLUMNS where TABLE_NAME=? order by COLUMN_ID";
 			columnPs = conn.prepareStatement(sql);
 			columnPs.setString(1, name.toUpperCase());
-			columnRs = JdbcUtils.executeQuery(columnPs, "执行SQL语句:" + sql + ",参数值:" + ArrayUtils.toString(new Object[] { name.toUpperCase() }));
+			columnRs = JdbcUtils.executeQuery(columnPs, sql, new Object[] { name.toUpperCase() });
 			while (columnRs.next()) {
 				String columnName = columnRs.getString("COLUMN_NAME");
 				String typeName = columnRs.getString("DATA_TYPE");
@@ -367,7 +360,7 @@ public class OracleStructHandler implements StructHandler {
 			ps = conn.prepareStatement(sql);
 			ps.setString(1, tableName);
 			ps.setString(2, fieldName);
-			rs = JdbcUtils.executeQuery(ps, "执行SQL语句:" + sql + ",参数值:" + ArrayUtils.toString(new Object[] { tableName, fieldName }));
+			rs = JdbcUtils.executeQuery(ps, sql, new Object[] { tableName, fieldName });
 			if (rs.next()) {
 				return rs.getString("COMMENTS");
 			}
@@ -391,8 +384,7 @@ public class OracleStructHandler implements StructHandler {
 			ps.setString(1, tableName.toUpperCase());
 			ps.setString(2, indexName);
 			ps.setInt(3, columnPosition);
-			rs = JdbcUtils.executeQuery(ps,
-					"执行SQL语句:" + sql + ",参数值:" + ArrayUtils.toString(new Object[] { tableName.toUpperCase(), indexName, columnPosition }));
+			rs = JdbcUtils.executeQuery(ps, sql, new Object[] { tableName.toUpperCase(), indexName, columnPosition });
 			String expression = null;
 			if (rs.next()) {
 				expression = rs.getString("COLUMN_EXPRESSION");
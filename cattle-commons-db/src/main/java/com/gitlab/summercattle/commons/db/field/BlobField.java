@@ -15,6 +15,8 @@
  */
 package com.gitlab.summercattle.commons.db.field;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.sql.Blob;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -22,11 +24,10 @@ import java.sql.SQLException;
 import java.sql.Types;
 
 import com.gitlab.summercattle.commons.db.dialect.Dialect;
-import com.gitlab.summercattle.commons.db.field.impl.BlobImpl;
 import com.gitlab.summercattle.commons.exception.CommonException;
 import com.gitlab.summercattle.commons.utils.exception.ExceptionWrapUtils;
 
-public class BlobField extends AbstractField {
+public class BlobField extends AbstractField implements LobField {
 
 	@Override
 	public String getName() {
@@ -70,6 +71,31 @@ public class BlobField extends AbstractField {
 		}
 	}
 
+	@Override
+	public Object getLocator(ResultSet rs, String name) throws CommonException {
+		try {
+			return rs.getBlob(name);
+		}
+		catch (SQLException e) {
+			throw ExceptionWrapUtils.wrap(e);
+		}
+	}
+
+	@Override
+	public Object getLocator(ResultSet rs, int columnIndex) throws CommonException {
+		try {
+			return rs.getBlob(columnIndex);
+		}
+		catch (SQLException e) {
+			throw ExceptionWrapUtils.wrap(e);
+		}
+	}
+
+	@Override
+	public Object load(Object value) throws CommonException {
+		return value instanceof Blob ? get((Blob) value) : value;
+	}
+
 	private Object get(Blob value) throws CommonException {
 		try {
 			return (value == null) ? null : value.getBytes(1, (int) value.length());
@@ -81,9 +107,18 @@ public class BlobField extends AbstractField {
 
 	@Override
 	public void set(Dialect dialect, PreparedStatement ps, int index, Object value) throws CommonException {
-		BlobImpl blob = new BlobImpl((byte[]) value);
 		try {
-			ps.setBinaryStream(index, blob.getBinaryStream(), (int) blob.length());
+			if (value instanceof InputStream) {
+				ps.setBinaryStream(index, (InputStream) value);
+			}
+			else if (value instanceof Blob) {
+				Blob blob = (Blob) value;
+				ps.setBinaryStream(index, blob.getBinaryStream(), blob.length());
+			}
+			else {
+				byte[] bytes = (byte[]) value;
+				ps.setBinaryStream(index, new ByteArrayInputStream(bytes), bytes.length);
+			}
 		}
 		catch (SQLException e) {
 			throw ExceptionWrapUtils.wrap(e);
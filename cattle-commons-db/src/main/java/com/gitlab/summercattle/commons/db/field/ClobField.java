@@ -17,6 +17,8 @@ package com.gitlab.summercattle.commons.db.field;
 
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
 import java.sql.Clob;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -24,11 +26,10 @@ import java.sql.SQLException;
 import java.sql.Types;
 
 import com.gitlab.summercattle.commons.db.dialect.Dialect;
-import com.gitlab.summercattle.commons.db.field.impl.ClobImpl;
 import com.gitlab.summercattle.commons.exception.CommonException;
 import com.gitlab.summercattle.commons.utils.exception.ExceptionWrapUtils;
 
-public class ClobField extends AbstractField {
+public class ClobField extends AbstractField implements LobField {
 
 	@Override
 	public String getName() {
@@ -72,6 +73,31 @@ public class ClobField extends AbstractField {
 		}
 	}
 
+	@Override
+	public Object getLocator(ResultSet rs, String name) throws CommonException {
+		try {
+			return rs.getClob(name);
+		}
+		catch (SQLException e) {
+			throw ExceptionWrapUtils.wrap(e);
+		}
+	}
+
+	@Override
+	public Object getLocator(ResultSet rs, int columnIndex) throws CommonException {
+		try {
+			return rs.getClob(columnIndex);
+		}
+		catch (SQLException e) {
+			throw ExceptionWrapUtils.wrap(e);
+		}
+	}
+
+	@Override
+	public Object load(Object value) throws CommonException {
+		return value instanceof Clob ? get((Clob) value) : value;
+	}
+
 	private Object get(Clob value) throws CommonException {
 		if (value == null) {
 			return null;
@@ -91,9 +117,18 @@ public class ClobField extends AbstractField {
 
 	@Override
 	public void set(Dialect dialect, PreparedStatement ps, int index, Object value) throws CommonException {
-		ClobImpl clob = new ClobImpl((String) value);
 		try {
-			ps.setCharacterStream(index, clob.getCharacterStream(), (int) clob.length());
+			if (value instanceof Reader) {
+				ps.setCharacterStream(index, (Reader) value);
+			}
+			else if (value instanceof Clob) {
+				Clob clob = (Clob) value;
+				ps.setCharacterStream(index, clob.getCharacterStream(), clob.length());
+			}
+			else {
+				String str = (String) value;
+				ps.setCharacterStream(index, new StringReader(str), str.length());
+			}
 		}
 		catch (SQLException e) {
 			throw ExceptionWrapUtils.wrap(e);
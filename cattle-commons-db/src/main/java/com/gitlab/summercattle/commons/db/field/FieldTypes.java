@@ -63,7 +63,7 @@ public class FieldTypes {
 		else if (code == Types.BINARY || code == Types.VARBINARY || code == Types.LONGVARBINARY) {
 			fieldType = FieldTypes.BINARY;
 		}
-		else if (code == Types.BIT) {
+		else if (code == Types.BIT || code == Types.BOOLEAN) {
 			fieldType = FieldTypes.BOOLEAN;
 		}
 		else if (code == Types.CHAR || code == Types.NCHAR) {
@@ -0,0 +1,52 @@
+/*
+ * Copyright (C) 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gitlab.summercattle.commons.db.field;
+
+import java.sql.ResultSet;
+
+import com.gitlab.summercattle.commons.exception.CommonException;
+
+/**
+ * 大字段类型,支持延迟读取
+ */
+public interface LobField {
+
+	/**
+	 * 得到大字段句柄,不读取内容,句柄仅在当前事务内有效
+	 * @param rs 结果集
+	 * @param name 字段名
+	 * @return 大字段句柄
+	 * @throws CommonException 异常
+	 */
+	Object getLocator(ResultSet rs, String name) throws CommonException;
+
+	/**
+	 * 得到大字段句柄,不读取内容,句柄仅在当前事务内有效
+	 * @param rs 结果集
+	 * @param columnIndex 字段序号
+	 * @return 大字段句柄
+	 * @throws CommonException 异常
+	 */
+	Object getLocator(ResultSet rs, int columnIndex) throws CommonException;
+
+	/**
+	 * 读取大字段句柄的内容,非句柄值原样返回
+	 * @param value 字段值
+	 * @return 字段内容
+	 * @throws CommonException 异常
+	 */
+	Object load(Object value) throws CommonException;
+}
\ No newline at end of file
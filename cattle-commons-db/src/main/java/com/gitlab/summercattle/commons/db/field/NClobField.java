@@ -17,6 +17,8 @@ package com.gitlab.summercattle.commons.db.field;
 
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
 import java.sql.NClob;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -24,11 +26,10 @@ import java.sql.SQLException;
 import java.sql.Types;
 
 import com.gitlab.summercattle.commons.db.dialect.Dialect;
-import com.gitlab.summercattle.commons.db.field.impl.NClobImpl;
 import com.gitlab.summercattle.commons.exception.CommonException;
 import com.gitlab.summercattle.commons.utils.exception.ExceptionWrapUtils;
 
-public class NClobField extends AbstractField {
+public class NClobField extends AbstractField implements LobField {
 
 	@Override
 	public String getName() {
@@ -72,6 +73,31 @@ public class NClobField extends AbstractField {
 		}
 	}
 
+	@Override
+	public Object getLocator(ResultSet rs, String name) throws CommonException {
+		try {
+			return rs.getNClob(name);
+		}
+		catch (SQLException e) {
+			throw ExceptionWrapUtils.wrap(e);
+		}
+	}
+
+	@Override
+	public Object getLocator(ResultSet rs, int columnIndex) throws CommonException {
+		try {
+			return rs.getNClob(columnIndex);
+		}
+		catch (SQLException e) {
+			throw ExceptionWrapUtils.wrap(e);
+		}
+	}
+
+	@Override
+	public Object load(Object value) throws CommonException {
+		return value instanceof NClob ? get((NClob) value) : value;
+	}
+
 	private Object get(NClob value) throws CommonException {
 		if (value == null) {
 			return null;
@@ -91,9 +117,18 @@ public class NClobField extends AbstractField {
 
 	@Override
 	public void set(Dialect dialect, PreparedStatement ps, int index, Object value) throws CommonException {
-		NClobImpl nclob = new NClobImpl((String) value);
 		try {
-			ps.setNCharacterStream(index, nclob.getCharacterStream(), (int) nclob.length());
+			if (value instanceof Reader) {
+				ps.setNCharacterStream(index, (Reader) value);
+			}
+			else if (value instanceof NClob) {
+				NClob nclob = (NClob) value;
+				ps.setNCharacterStream(index, nclob.getCharacterStream(), nclob.length());
+			}
+			else {
+				String str = (String) value;
+				ps.setNCharacterStream(index, new StringReader(str), str.length());
+			}
 		}
 		catch (SQLException e) {
 			throw ExceptionWrapUtils.wrap(e);
@@ -17,6 +17,7 @@ package com.gitlab.summercattle.commons.db.guice;
 
 import com.gitlab.summercattle.commons.db.handle.DbMetaModel;
 import com.gitlab.summercattle.commons.db.handle.DbSecurityKey;
+import com.gitlab.summercattle.commons.db.handle.DbSelectCache;
 import com.gitlab.summercattle.commons.db.handle.DbStruct;
 import com.gitlab.summercattle.commons.db.handle.DbTool;
 import com.gitlab.summercattle.commons.db.handle.DbTransaction;
@@ -34,6 +35,7 @@ public class DbModule extends GuiceAbstractModule {
 		bindClass(DbStruct.class);
 		bindClass(DbTool.class);
 		bindClass(DbSecurityKey.class);
+		bindClass(DbSelectCache.class);
 		bindMultiClass(TableMetaParser.class);
 	}
 }
\ No newline at end of file
@@ -17,10 +17,13 @@ package com.gitlab.summercattle.commons.db.handle;
 
 import java.util.List;
 
+import com.gitlab.summercattle.commons.db.constants.PageCountMode;
+import com.gitlab.summercattle.commons.db.object.DataCursor;
 import com.gitlab.summercattle.commons.db.object.DataQuery;
 import com.gitlab.summercattle.commons.db.object.DataTable;
 import com.gitlab.summercattle.commons.db.object.DynamicPageDataQuery;
 import com.gitlab.summercattle.commons.db.object.PageDataQuery;
+import com.gitlab.summercattle.commons.db.object.SeekPageDataQuery;
 import com.gitlab.summercattle.commons.exception.CommonException;
 
 /**
@@ -37,6 +40,17 @@ public interface DalContext extends AbstractDalContext {
 	 */
 	DataQuery query(String sql, Object[] params) throws CommonException;
 
+	/**
+	 * 游标查询,记录在读取时才从数据库获取,只能在当前事务中使用,使用后必须关闭
+	 * (MySQL需要在连接参数中设置useCursorFetch=true才能按fetchSize分批获取)
+	 * @param sql SQL语句
+	 * @param params 参数
+	 * @param fetchSize 每次从数据库获取的记录数,小于等于0时使用驱动缺省值
+	 * @return 数据游标
+	 * @throws CommonException 异常
+	 */
+	DataCursor queryStream(String sql, Object[] params, int fetchSize) throws CommonException;
+
 	/**
 	 * 分页查询
 	 * @param sql SQL语句
@@ -59,6 +73,37 @@ public interface DalContext extends AbstractDalContext {
 	 */
 	DynamicPageDataQuery queryDynamicPage(String sql, Object[] params, int perPageSize, int page) throws CommonException;
 
+	/**
+	 * 键集分页查询,按键字段排序并从上一页最后一条记录之后开始读取,不使用偏移量
+	 * (键字段必须是查询结果中的列,组合后唯一且不为空,SQL语句中不需要排序)
+	 * @param sql SQL语句
+	 * @param params 参数
+	 * @param keyFields 键字段
+	 * @param desc 是否降序
+	 * @param lastKeys 上一页最后一条记录的键字段值,查询第一页时为null
+	 * @param perPageSize 每页大小
+	 * @param countMode 总记录数的计算方式
+	 * @return 键集分页数据结果集
+	 * @throws CommonException 异常
+	 */
+	SeekPageDataQuery querySeekPage(String sql, Object[] params, String[] keyFields, boolean desc, Object[] lastKeys, int perPageSize,
+			PageCountMode countMode) throws CommonException;
+
+	/**
+	 * 键集分页查询,以上一页返回的续查标记继续读取
+	 * @param sql SQL语句
+	 * @param params 参数
+	 * @param keyFields 键字段
+	 * @param desc 是否降序
+	 * @param continuationToken 续查标记,查询第一页时为null
+	 * @param perPageSize 每页大小
+	 * @param countMode 总记录数的计算方式
+	 * @return 键集分页数据结果集
+	 * @throws CommonException 异常
+	 */
+	SeekPageDataQuery querySeekPageByToken(String sql, Object[] params, String[] keyFields, boolean desc, String continuationToken, int perPageSize,
+			PageCountMode countMode) throws CommonException;
+
 	/**
 	 * 查询
 	 * @param name 表名
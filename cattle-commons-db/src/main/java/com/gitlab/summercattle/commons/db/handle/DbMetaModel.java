@@ -15,6 +15,9 @@
  */
 package com.gitlab.summercattle.commons.db.handle;
 
+import java.util.List;
+
+import com.gitlab.summercattle.commons.db.meta.ReferencedFieldInfo;
 import com.gitlab.summercattle.commons.db.meta.TableMeta;
 import com.gitlab.summercattle.commons.db.meta.annotation.AnnotatedTableMeta;
 import com.gitlab.summercattle.commons.exception.CommonException;
@@ -62,4 +65,12 @@ public interface DbMetaModel {
 	 * @throws CommonException 异常
 	 */
 	TableMeta[] getTables() throws CommonException;
+
+	/**
+	 * 得到引用指定数据表的其他数据表字段
+	 * @param name 数据表名或别名
+	 * @return 引用数据表的字段信息
+	 * @throws CommonException 异常
+	 */
+	List<ReferencedFieldInfo> getReferencedFieldInfos(String name) throws CommonException;
 }
\ No newline at end of file
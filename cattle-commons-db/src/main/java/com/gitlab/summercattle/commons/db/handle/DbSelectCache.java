@@ -0,0 +1,83 @@
+/*
+ * Copyright (C) 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gitlab.summercattle.commons.db.handle;
+
+import java.util.Collection;
+import java.util.Map;
+
+import com.gitlab.summercattle.commons.db.configure.DbProperties;
+import com.gitlab.summercattle.commons.db.constants.SelectCacheScope;
+import com.gitlab.summercattle.commons.db.object.DataTable;
+import com.gitlab.summercattle.commons.exception.CommonException;
+
+/**
+ * 数据表查询缓存,记录每个缓存条目包含的主键值,写入时只失效相关条目
+ */
+public interface DbSelectCache {
+
+	/**
+	 * 读取缓存
+	 * @param dbProperties 数据配置
+	 * @param tableName 表名
+	 * @param cacheKey 缓存Key
+	 * @return 缓存的数据表,不存在时为空
+	 * @throws CommonException 异常
+	 */
+	DataTable get(DbProperties dbProperties, String tableName, String cacheKey) throws CommonException;
+
+	/**
+	 * 存入缓存
+	 * @param dbProperties 数据配置
+	 * @param tableName 表名
+	 * @param cacheKey 缓存Key
+	 * @param dataTable 数据表
+	 * @param scope 查询范围
+	 * @throws CommonException 异常
+	 */
+	void put(DbProperties dbProperties, String tableName, String cacheKey, DataTable dataTable, SelectCacheScope scope) throws CommonException;
+
+	/**
+	 * 失效包含指定主键值的缓存条目及可能受影响的条件查询条目
+	 * @param dbProperties 数据配置
+	 * @param tableName 表名
+	 * @param modifiedIds 修改的主键值
+	 * @param deletedIds 删除的主键值
+	 * @param inserted 是否有新增记录
+	 * @throws CommonException 异常
+	 */
+	void evict(DbProperties dbProperties, String tableName, Collection<Object> modifiedIds, Collection<Object> deletedIds, boolean inserted)
+			throws CommonException;
+
+	/**
+	 * 清除表的所有缓存条目
+	 * @param tableName 表名
+	 * @throws CommonException 异常
+	 */
+	void clear(String tableName) throws CommonException;
+
+	/**
+	 * 得到表的缓存统计
+	 * @param tableName 表名
+	 * @return 缓存统计
+	 */
+	SelectCacheStats getStats(String tableName);
+
+	/**
+	 * 得到所有表的缓存统计
+	 * @return 缓存统计,Key为表名(大写)
+	 */
+	Map<String, SelectCacheStats> getStats();
+}
\ No newline at end of file
@@ -73,4 +73,10 @@ public interface DbStruct {
 	 * @throws CommonException 异常
 	 */
 	void check(DbProperties dbProperties) throws CommonException;
+
+	/**
+	 * 清空表、视图的存在及结构缓存和SQL解析缓存,在外部修改数据结构后调用
+	 * @throws CommonException 异常
+	 */
+	void clearCache() throws CommonException;
 }
\ No newline at end of file
@@ -30,9 +30,25 @@ public interface DbTransaction {
 
 	<T> T doDal(TransactionLevel transactionLevel, IsolationLevel isolationLevel, int timeout, Dal<T> dal) throws CommonException;
 
+	/**
+	 * 只读事务中执行,配置从库时新开启的只读事务连接取自从库,加入已有写事务时仍使用主库连接
+	 * @param <T> 结果类型
+	 * @param dal 数据访问
+	 * @return 结果
+	 * @throws CommonException 异常
+	 */
+	<T> T doReadOnlyDal(Dal<T> dal) throws CommonException;
+
+	<T> T doDal(TransactionLevel transactionLevel, IsolationLevel isolationLevel, int timeout, boolean readOnly, Dal<T> dal) throws CommonException;
+
 	<T> T doSimpleDal(SimpleDal<T> dal) throws CommonException;
 
 	<T> T doSimpleDal(TransactionLevel transactionLevel, SimpleDal<T> dal) throws CommonException;
 
 	<T> T doSimpleDal(TransactionLevel transactionLevel, IsolationLevel isolationLevel, int timeout, SimpleDal<T> dal) throws CommonException;
+
+	<T> T doReadOnlySimpleDal(SimpleDal<T> dal) throws CommonException;
+
+	<T> T doSimpleDal(TransactionLevel transactionLevel, IsolationLevel isolationLevel, int timeout, boolean readOnly, SimpleDal<T> dal)
+			throws CommonException;
 }
\ No newline at end of file
@@ -0,0 +1,58 @@
+/*
+ * Copyright (C) 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gitlab.summercattle.commons.db.handle;
+
+/**
+ * 查询缓存统计
+ */
+public interface SelectCacheStats {
+
+	/**
+	 * 命中次数
+	 * @return 命中次数
+	 */
+	long getHitCount();
+
+	/**
+	 * 未命中次数
+	 * @return 未命中次数
+	 */
+	long getMissCount();
+
+	/**
+	 * 命中率
+	 * @return 命中率
+	 */
+	double getHitRate();
+
+	/**
+	 * 存入次数
+	 * @return 存入次数
+	 */
+	long getPutCount();
+
+	/**
+	 * 失效的缓存条目数
+	 * @return 失效的缓存条目数
+	 */
+	long getEvictionCount();
+
+	/**
+	 * 整表清除次数
+	 * @return 整表清除次数
+	 */
+	long getClearCount();
+}
\ No newline at end of file
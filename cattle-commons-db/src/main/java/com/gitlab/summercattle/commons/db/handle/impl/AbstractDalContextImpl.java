@@ -19,21 +19,27 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.Date;
+import java.util.LinkedHashSet;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.gitlab.summercattle.commons.db.constants.DataConstants;
 import com.gitlab.summercattle.commons.db.dialect.Dialect;
 import com.gitlab.summercattle.commons.db.handle.AbstractDalContext;
+import com.gitlab.summercattle.commons.db.sqlparser.ParsedSQL;
 import com.gitlab.summercattle.commons.db.sqlparser.StatementVisitorImpl;
 import com.gitlab.summercattle.commons.db.utils.JdbcUtils;
+import com.gitlab.summercattle.commons.db.utils.SqlStatement;
 import com.gitlab.summercattle.commons.exception.CommonException;
-import com.gitlab.summercattle.commons.utils.auxiliary.ArrayUtils;
+import com.gitlab.summercattle.commons.utils.Utils;
+import com.gitlab.summercattle.commons.utils.cache.Cache;
 import com.gitlab.summercattle.commons.utils.exception.ExceptionWrapUtils;
 
 import net.sf.jsqlparser.JSQLParserException;
 import net.sf.jsqlparser.parser.CCJSqlParserUtil;
 import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.util.TablesNamesFinder;
 
 public class AbstractDalContextImpl implements AbstractDalContext {
 
@@ -59,11 +65,10 @@ public class AbstractDalContextImpl implements AbstractDalContext {
 		PreparedStatement ps = null;
 		try {
 			ps = conn.prepareStatement(sql);
-			String info = "执行SQL语句:" + sql + ",参数值:" + (params != null && params.length > 0 ? ArrayUtils.toString(params) : "无");
 			if (params != null && params.length > 0) {
-				setParams(ps, 1, params, info);
+				setParams(ps, 1, params, sql);
 			}
-			JdbcUtils.executeUpdate(ps, info);
+			JdbcUtils.executeUpdate(ps, sql, params);
 		}
 		catch (SQLException e) {
 			throw ExceptionWrapUtils.wrap(e);
@@ -87,7 +92,7 @@ public class AbstractDalContextImpl implements AbstractDalContext {
 		}
 	}
 
-	protected int setParams(PreparedStatement ps, int index, Object[] params, String info) throws CommonException {
+	protected int setParams(PreparedStatement ps, int index, Object[] params, String sql) throws CommonException {
 		try {
 			int lIndex = index;
 			for (int i = 0; i < params.length; i++) {
@@ -97,7 +102,7 @@ public class AbstractDalContextImpl implements AbstractDalContext {
 			return lIndex;
 		}
 		catch (CommonException e) {
-			logger.warn(info + ",出现异常:" + e.getMessage());
+			logger.warn(SqlStatement.format(sql, params) + ",出现异常:" + e.getMessage());
 			throw ExceptionWrapUtils.wrap(e);
 		}
 	}
@@ -117,7 +122,23 @@ public class AbstractDalContextImpl implements AbstractDalContext {
 	}
 
 	protected String parserSQL(String sql) throws CommonException {
-		Statement statement = parser(sql);
-		return statement.toString();
+		return getParsedSQL(sql).getSql();
+	}
+
+	/**
+	 * 解析SQL语句,结果按原始语句缓存,表结构检查后缓存清空
+	 * @param sql SQL语句
+	 * @return 解析后的SQL语句
+	 * @throws CommonException 异常
+	 */
+	protected ParsedSQL getParsedSQL(String sql) throws CommonException {
+		Cache cache = Utils.getCacheManager().getCache(DataConstants.CAFFEINE_PARSED_SQL);
+		ParsedSQL parsedSQL = (ParsedSQL) cache.get(sql);
+		if (null == parsedSQL) {
+			Statement statement = parser(sql);
+			parsedSQL = new ParsedSQL(statement.toString(), new LinkedHashSet<String>(new TablesNamesFinder().getTableList(statement)));
+			cache.put(sql, parsedSQL);
+		}
+		return parsedSQL;
 	}
 }
\ No newline at end of file
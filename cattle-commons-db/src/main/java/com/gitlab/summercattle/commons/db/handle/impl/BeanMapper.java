@@ -0,0 +1,239 @@
+/*
+ * Copyright (C) 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gitlab.summercattle.commons.db.handle.impl;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.apache.commons.lang3.ClassUtils;
+import org.objenesis.instantiator.ObjectInstantiator;
+
+import com.gitlab.summercattle.commons.db.configure.DbProperties;
+import com.gitlab.summercattle.commons.db.meta.FieldMeta;
+import com.gitlab.summercattle.commons.db.meta.FieldMetaMode;
+import com.gitlab.summercattle.commons.db.meta.annotation.AnnotatedFixedFieldMeta;
+import com.gitlab.summercattle.commons.db.meta.annotation.AnnotatedReferenceFieldMeta;
+import com.gitlab.summercattle.commons.db.meta.annotation.AnnotatedSystemFieldMeta;
+import com.gitlab.summercattle.commons.db.meta.annotation.AnnotatedTableMeta;
+import com.gitlab.summercattle.commons.db.object.DataTable;
+import com.gitlab.summercattle.commons.exception.CommonException;
+import com.gitlab.summercattle.commons.utils.exception.ExceptionWrapUtils;
+import com.gitlab.summercattle.commons.utils.reflect.ClassType;
+import com.gitlab.summercattle.commons.utils.reflect.ReflectUtils;
+
+/**
+ * 数据类与数据表行之间的映射,按数据类编译一次,字段以MethodHandle读写
+ */
+class BeanMapper<T> {
+
+	private static final ConcurrentMap<Class< ? >, BeanMapper< ? >> mappers = new ConcurrentHashMap<Class< ? >, BeanMapper< ? >>();
+
+	private static final int SYSTEM_PRIMARY = 0;
+
+	private static final int SYSTEM_CREATE_TIME = 1;
+
+	private static final int SYSTEM_UPDATE_TIME = 2;
+
+	private static final int SYSTEM_VERSION = 3;
+
+	private static final int SYSTEM_DELETED = 4;
+
+	private final ObjectInstantiator<T> instantiator;
+
+	private final String[] fieldNames;
+
+	private final Accessor[] fieldAccessors;
+
+	private final int[] systemFieldKinds;
+
+	private final Accessor[] systemFieldAccessors;
+
+	private final Accessor primaryAccessor;
+
+	@SuppressWarnings("unchecked")
+	static <T> BeanMapper<T> getMapper(DbProperties dbProperties, AnnotatedTableMeta tableMeta, Class<T> beanType) throws CommonException {
+		BeanMapper<T> mapper = (BeanMapper<T>) mappers.get(beanType);
+		if (null == mapper) {
+			mapper = new BeanMapper<T>(dbProperties, tableMeta, beanType);
+			BeanMapper<T> existMapper = (BeanMapper<T>) mappers.putIfAbsent(beanType, mapper);
+			if (null != existMapper) {
+				mapper = existMapper;
+			}
+		}
+		return mapper;
+	}
+
+	private BeanMapper(DbProperties dbProperties, AnnotatedTableMeta tableMeta, Class<T> beanType) throws CommonException {
+		instantiator = com.gitlab.summercattle.commons.utils.reflect.ClassUtils.getInstantiator(beanType);
+		FieldMeta[] fieldMetas = tableMeta.getFields();
+		fieldNames = new String[fieldMetas.length];
+		fieldAccessors = new Accessor[fieldMetas.length];
+		for (int i = 0; i < fieldMetas.length; i++) {
+			FieldMeta fieldMeta = fieldMetas[i];
+			FieldMetaMode mode = fieldMeta.getMode();
+			String classFieldName;
+			if (FieldMetaMode.Fixed.equals(mode)) {
+				classFieldName = ((AnnotatedFixedFieldMeta) fieldMeta).getClassFieldName();
+			}
+			else if (FieldMetaMode.Reference.equals(mode)) {
+				classFieldName = ((AnnotatedReferenceFieldMeta) fieldMeta).getClassFieldName();
+			}
+			else {
+				throw new CommonException("表'" + tableMeta.getName() + "'的字段'" + fieldMeta.getName() + "'模式'" + fieldMeta.getMode().toString() + "'不支持");
+			}
+			fieldNames[i] = fieldMeta.getName();
+			fieldAccessors[i] = new Accessor(ReflectUtils.getField(beanType, classFieldName));
+		}
+		AnnotatedSystemFieldMeta[] systemFields = tableMeta.getSystemFields();
+		systemFieldKinds = new int[systemFields.length];
+		systemFieldAccessors = new Accessor[systemFields.length];
+		for (int i = 0; i < systemFields.length; i++) {
+			systemFieldKinds[i] = getSystemFieldKind(dbProperties, tableMeta.getName(), systemFields[i].getSystemFieldName());
+			systemFieldAccessors[i] = new Accessor(ReflectUtils.getField(beanType, systemFields[i].getClassFieldName()));
+		}
+		AnnotatedSystemFieldMeta primaryField = tableMeta.getPrimaryField();
+		primaryAccessor = null != primaryField ? new Accessor(ReflectUtils.getField(beanType, primaryField.getClassFieldName())) : null;
+	}
+
+	private int getSystemFieldKind(DbProperties dbProperties, String tableName, String fieldName) throws CommonException {
+		if (dbProperties.getPrimaryField().equals(fieldName)) {
+			return SYSTEM_PRIMARY;
+		}
+		else if (dbProperties.getCreateTimeField().equals(fieldName)) {
+			return SYSTEM_CREATE_TIME;
+		}
+		else if (dbProperties.getUpdateTimeField().equals(fieldName)) {
+			return SYSTEM_UPDATE_TIME;
+		}
+		else if (dbProperties.getVersionField().equals(fieldName)) {
+			return SYSTEM_VERSION;
+		}
+		else if (dbProperties.getDeletedField().equals(fieldName)) {
+			return SYSTEM_DELETED;
+		}
+		throw new CommonException("表'" + tableName + "'的字段'" + fieldName + "'不是系统字段");
+	}
+
+	/**
+	 * 由数据表的当前行生成数据类实例
+	 * @param dt 数据表
+	 * @return 数据类实例
+	 * @throws CommonException 异常
+	 */
+	T toBean(DataTable dt) throws CommonException {
+		T bean = instantiator.newInstance();
+		if (null != primaryAccessor) {
+			primaryAccessor.set(bean, dt.getPrimaryValue());
+		}
+		for (int i = 0; i < fieldNames.length; i++) {
+			fieldAccessors[i].set(bean, dt.getObject(fieldNames[i]));
+		}
+		for (int i = 0; i < systemFieldKinds.length; i++) {
+			systemFieldAccessors[i].set(bean, getSystemFieldValue(dt, systemFieldKinds[i]));
+		}
+		return bean;
+	}
+
+	private Object getSystemFieldValue(DataTable dt, int kind) throws CommonException {
+		switch (kind) {
+			case SYSTEM_PRIMARY:
+				return dt.getPrimaryValue();
+			case SYSTEM_CREATE_TIME:
+				return dt.getCreateDate();
+			case SYSTEM_UPDATE_TIME:
+				return dt.getUpdateDate();
+			case SYSTEM_VERSION:
+				return dt.getVersion();
+			default:
+				return dt.isDeleted();
+		}
+	}
+
+	/**
+	 * 把数据类实例的字段值写入数据表的当前行
+	 * @param bean 数据类实例
+	 * @param dt 数据表
+	 * @throws CommonException 异常
+	 */
+	void toRow(Object bean, DataTable dt) throws CommonException {
+		for (int i = 0; i < fieldNames.length; i++) {
+			dt.setObject(fieldNames[i], fieldAccessors[i].get(bean));
+		}
+	}
+
+	Object getPrimaryValue(Object bean) throws CommonException {
+		if (null == primaryAccessor) {
+			throw new CommonException("类'" + bean.getClass().getName() + "'没有主键字段");
+		}
+		return primaryAccessor.get(bean);
+	}
+
+	private static class Accessor {
+
+		private final MethodHandle getter;
+
+		private final MethodHandle setter;
+
+		private final Class< ? > wrapperType;
+
+		private final ClassType classType;
+
+		private final Class< ? > convertClass;
+
+		Accessor(Field field) throws CommonException {
+			try {
+				field.setAccessible(true);
+				MethodHandles.Lookup lookup = MethodHandles.lookup();
+				getter = lookup.unreflectGetter(field).asType(MethodType.methodType(Object.class, Object.class));
+				setter = lookup.unreflectSetter(field).asType(MethodType.methodType(void.class, Object.class, Object.class));
+			}
+			catch (IllegalAccessException e) {
+				throw ExceptionWrapUtils.wrap(e);
+			}
+			Class< ? > fieldType = field.getType();
+			wrapperType = ClassUtils.primitiveToWrapper(fieldType);
+			classType = ReflectUtils.getClassType(fieldType);
+			convertClass = classType == ClassType.Array ? fieldType.getComponentType()
+					: (classType == ClassType.Enum || classType == ClassType.ClassObject ? fieldType : null);
+		}
+
+		Object get(Object bean) throws CommonException {
+			try {
+				return (Object) getter.invokeExact(bean);
+			}
+			catch (Throwable e) {
+				throw ExceptionWrapUtils.wrap(e);
+			}
+		}
+
+		void set(Object bean, Object value) throws CommonException {
+			Object convertValue = null;
+			if (null != value) {
+				convertValue = value.getClass() == wrapperType ? value : ReflectUtils.convertValue(classType, convertClass, value);
+			}
+			try {
+				setter.invokeExact(bean, convertValue);
+			}
+			catch (Throwable e) {
+				throw ExceptionWrapUtils.wrap(e);
+			}
+		}
+	}
+}
\ No newline at end of file
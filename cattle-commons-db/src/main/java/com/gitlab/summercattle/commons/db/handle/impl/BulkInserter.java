@@ -0,0 +1,304 @@
+/*
+ * Copyright (C) 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gitlab.summercattle.commons.db.handle.impl;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.gitlab.summercattle.commons.db.dialect.Dialect;
+import com.gitlab.summercattle.commons.db.field.AbstractField;
+import com.gitlab.summercattle.commons.db.field.LobField;
+import com.gitlab.summercattle.commons.db.utils.JdbcUtils;
+import com.gitlab.summercattle.commons.db.utils.SqlStatement;
+import com.gitlab.summercattle.commons.exception.CommonException;
+import com.gitlab.summercattle.commons.utils.exception.ExceptionWrapUtils;
+
+/**
+ * 批量插入,列的字段类型在构造时解析一次,
+ * 支持多行插入的数据库把多行合并为一条insert into ... values (...),(...)语句,每条语句按行数及估算的字节数截断,
+ * 其他数据库或有大字段时使用JDBC批处理
+ */
+class BulkInserter {
+
+	private static final Logger logger = LoggerFactory.getLogger(BulkInserter.class);
+
+	private final Dialect dialect;
+
+	private final Connection conn;
+
+	private final String tableName;
+
+	private final String insertPrefix;
+
+	private final String rowValues;
+
+	private final AbstractField[] columnTypes;
+
+	private final int[] valueIndexes;
+
+	private final Object[] constantValues;
+
+	private final int batchSize;
+
+	private final int maxBytes;
+
+	private final boolean multiRow;
+
+	/**
+	 * 构造
+	 * @param dialect 数据库方言
+	 * @param conn 数据库连接
+	 * @param tableName 表名
+	 * @param insertPrefix 插入语句的values之前的部分
+	 * @param rowValues 一行的值部分,如(?,?,?)
+	 * @param columnTypes 各参数的字段类型
+	 * @param valueIndexes 各参数在记录值中的索引,小于0时使用固定值
+	 * @param constantValues 各参数的固定值
+	 * @param batchSize 每批次的记录数
+	 * @param maxBytes 多行插入时每条语句估算的最大字节数,小于等于0时不限制
+	 */
+	BulkInserter(Dialect dialect, Connection conn, String tableName, String insertPrefix, String rowValues, AbstractField[] columnTypes,
+			int[] valueIndexes, Object[] constantValues, int batchSize, int maxBytes) {
+		this.dialect = dialect;
+		this.conn = conn;
+		this.tableName = tableName;
+		this.insertPrefix = insertPrefix;
+		this.rowValues = rowValues;
+		this.columnTypes = columnTypes;
+		this.valueIndexes = valueIndexes;
+		this.constantValues = constantValues;
+		this.batchSize = batchSize > 0 ? batchSize : JdbcUtils.BATCH_RECORDS;
+		this.maxBytes = maxBytes;
+		boolean hasLob = false;
+		for (AbstractField columnType : columnTypes) {
+			if (columnType instanceof LobField) {
+				hasLob = true;
+				break;
+			}
+		}
+		this.multiRow = dialect.supportsMultiRowInsert() && !hasLob;
+	}
+
+	/**
+	 * 插入记录
+	 * @param rows 记录值,参数值按参数的索引从中读取
+	 * @throws CommonException 异常
+	 */
+	void insert(List<Object[]> rows) throws CommonException {
+		if (rows.isEmpty()) {
+			return;
+		}
+		long startTime = System.nanoTime();
+		if (rows.size() == 1) {
+			insertSingle(rows.get(0));
+		}
+		else if (multiRow) {
+			insertMultiRow(rows);
+		}
+		else {
+			insertBatch(rows);
+		}
+		long elapsed = System.nanoTime() - startTime;
+		if (rows.size() > 1 && logger.isDebugEnabled()) {
+			logger.debug("表" + tableName + "批量插入" + rows.size() + "条数据,执行时间:" + (elapsed / 1000000) + "毫秒,速度:"
+					+ (elapsed > 0 ? (long) (rows.size() * 1000000000D / elapsed) : rows.size()) + "条/秒");
+		}
+	}
+
+	private void insertSingle(Object[] values) throws CommonException {
+		String sql = insertPrefix + rowValues;
+		PreparedStatement ps = null;
+		try {
+			ps = conn.prepareStatement(sql);
+			bindRow(ps, 1, values);
+			JdbcUtils.executeUpdate(ps, new SqlStatement(sql, null) {
+
+				@Override
+				public Object[] getParams() {
+					Object[] params = new Object[columnTypes.length];
+					for (int i = 0; i < params.length; i++) {
+						params[i] = getValue(values, i);
+					}
+					return params;
+				}
+			});
+		}
+		catch (SQLException e) {
+			throw ExceptionWrapUtils.wrap(e);
+		}
+		finally {
+			JdbcUtils.closeStatement(ps);
+		}
+	}
+
+	private void insertMultiRow(List<Object[]> rows) throws CommonException {
+		int maxRows = batchSize;
+		if (dialect.getMaxBindParameters() > 0) {
+			maxRows = Math.max(1, Math.min(maxRows, dialect.getMaxBindParameters() / columnTypes.length));
+		}
+		PreparedStatement ps = null;
+		try {
+			String sql = null;
+			int statementRows = 0;
+			int start = 0;
+			while (start < rows.size()) {
+				int count = getStatementRows(rows, start, maxRows);
+				if (count != statementRows) {
+					JdbcUtils.closeStatement(ps);
+					sql = getMultiRowSQL(count);
+					ps = conn.prepareStatement(sql);
+					statementRows = count;
+				}
+				List<Object[]> statementValues = rows.subList(start, start + count);
+				int index = 1;
+				for (Object[] values : statementValues) {
+					index = bindRow(ps, index, values);
+				}
+				JdbcUtils.executeUpdate(ps, new MultiRowStatement(sql, statementValues));
+				start += count;
+			}
+		}
+		catch (SQLException e) {
+			throw ExceptionWrapUtils.wrap(e);
+		}
+		finally {
+			JdbcUtils.closeStatement(ps);
+		}
+	}
+
+	private void insertBatch(List<Object[]> rows) throws CommonException {
+		String sql = insertPrefix + rowValues;
+		PreparedStatement ps = null;
+		try {
+			ps = conn.prepareStatement(sql);
+			int batchRows = 0;
+			for (Object[] values : rows) {
+				bindRow(ps, 1, values);
+				ps.addBatch();
+				batchRows++;
+				if (batchRows == batchSize) {
+					JdbcUtils.executeBatch(ps, sql);
+					batchRows = 0;
+				}
+			}
+			if (batchRows > 0) {
+				JdbcUtils.executeBatch(ps, sql);
+			}
+		}
+		catch (SQLException e) {
+			throw ExceptionWrapUtils.wrap(e);
+		}
+		finally {
+			JdbcUtils.closeStatement(ps);
+		}
+	}
+
+	/**
+	 * 从start开始合并到一条语句的行数,不超过行数上限及估算的字节数上限,至少一行
+	 */
+	private int getStatementRows(List<Object[]> rows, int start, int maxRows) {
+		int end = Math.min(rows.size(), start + maxRows);
+		if (maxBytes <= 0) {
+			return end - start;
+		}
+		long bytes = insertPrefix.length();
+		for (int i = start; i < end; i++) {
+			bytes += estimateRowBytes(rows.get(i));
+			if (bytes > maxBytes && i > start) {
+				return i - start;
+			}
+		}
+		return end - start;
+	}
+
+	/**
+	 * 估算一行在语句中占用的字节数,字符串按UTF-8每字符最多3字节,二进制按转义后最多2倍计算
+	 */
+	private long estimateRowBytes(Object[] values) {
+		long bytes = rowValues.length() + 1;
+		for (int i = 0; i < columnTypes.length; i++) {
+			Object value = getValue(values, i);
+			if (value instanceof String) {
+				bytes += ((String) value).length() * 3L;
+			}
+			else if (value instanceof byte[]) {
+				bytes += ((byte[]) value).length * 2L;
+			}
+			else {
+				bytes += 32;
+			}
+		}
+		return bytes;
+	}
+
+	private String getMultiRowSQL(int rows) {
+		StringBuilder sb = new StringBuilder(insertPrefix.length() + (rowValues.length() + 1) * rows);
+		sb.append(insertPrefix);
+		for (int i = 0; i < rows; i++) {
+			if (i > 0) {
+				sb.append(",");
+			}
+			sb.append(rowValues);
+		}
+		return sb.toString();
+	}
+
+	private int bindRow(PreparedStatement ps, int index, Object[] values) throws CommonException {
+		for (int i = 0; i < columnTypes.length; i++) {
+			columnTypes[i].nullSafeSet(dialect, ps, index++, getValue(values, i));
+		}
+		return index;
+	}
+
+	private Object getValue(Object[] values, int column) {
+		return valueIndexes[column] >= 0 ? values[valueIndexes[column]] : constantValues[column];
+	}
+
+	/**
+	 * 多行插入语句的执行信息,参数值在输出日志时才展开
+	 */
+	private class MultiRowStatement extends SqlStatement {
+
+		private final List<Object[]> rows;
+
+		MultiRowStatement(String sql, List<Object[]> rows) {
+			super(sql, null);
+			this.rows = rows;
+		}
+
+		@Override
+		public Object[] getParams() {
+			Object[] params = new Object[rows.size() * columnTypes.length];
+			int index = 0;
+			for (Object[] values : rows) {
+				for (int i = 0; i < columnTypes.length; i++) {
+					params[index++] = getValue(values, i);
+				}
+			}
+			return params;
+		}
+
+		@Override
+		public String toString() {
+			return super.toString() + ",共" + rows.size() + "行";
+		}
+	}
+}
\ No newline at end of file
@@ -19,8 +19,14 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.Vector;
 import java.util.stream.Collectors;
 
@@ -32,37 +38,42 @@ import org.slf4j.LoggerFactory;
 
 import com.gitlab.summercattle.commons.db.DbUtils;
 import com.gitlab.summercattle.commons.db.configure.DbProperties;
-import com.gitlab.summercattle.commons.db.constants.DataConstants;
+import com.gitlab.summercattle.commons.db.constants.PageCountMode;
+import com.gitlab.summercattle.commons.db.constants.SelectCacheScope;
 import com.gitlab.summercattle.commons.db.dialect.Dialect;
+import com.gitlab.summercattle.commons.db.dialect.pagination.LimitHandler;
+import com.gitlab.summercattle.commons.db.field.AbstractField;
 import com.gitlab.summercattle.commons.db.field.FieldTypes;
 import com.gitlab.summercattle.commons.db.handle.DalContext;
+import com.gitlab.summercattle.commons.db.handle.DbSelectCache;
 import com.gitlab.summercattle.commons.db.meta.FieldMeta;
-import com.gitlab.summercattle.commons.db.meta.FieldMetaMode;
-import com.gitlab.summercattle.commons.db.meta.ReferenceFieldInfo;
+import com.gitlab.summercattle.commons.db.meta.ReferencedFieldInfo;
 import com.gitlab.summercattle.commons.db.meta.TableMeta;
-import com.gitlab.summercattle.commons.db.meta.annotation.AnnotatedFixedFieldMeta;
-import com.gitlab.summercattle.commons.db.meta.annotation.AnnotatedReferenceFieldMeta;
-import com.gitlab.summercattle.commons.db.meta.annotation.AnnotatedSystemFieldMeta;
 import com.gitlab.summercattle.commons.db.meta.annotation.AnnotatedTableMeta;
+import com.gitlab.summercattle.commons.db.object.DataCursor;
 import com.gitlab.summercattle.commons.db.object.DataQuery;
 import com.gitlab.summercattle.commons.db.object.DataTable;
 import com.gitlab.summercattle.commons.db.object.DynamicPageDataQuery;
 import com.gitlab.summercattle.commons.db.object.PageDataQuery;
+import com.gitlab.summercattle.commons.db.object.SeekPageDataQuery;
+import com.gitlab.summercattle.commons.db.object.impl.ColumnarDataQueryImpl;
+import com.gitlab.summercattle.commons.db.object.impl.DataCursorImpl;
 import com.gitlab.summercattle.commons.db.object.impl.DataQueryImpl;
 import com.gitlab.summercattle.commons.db.object.impl.DataTableImpl;
 import com.gitlab.summercattle.commons.db.object.impl.DynamicPageDataQueryImpl;
 import com.gitlab.summercattle.commons.db.object.impl.PageDataQueryImpl;
+import com.gitlab.summercattle.commons.db.object.impl.SeekPageDataQueryImpl;
+import com.gitlab.summercattle.commons.db.object.impl.SeekPageToken;
 import com.gitlab.summercattle.commons.db.object.internal.InternalDataTable;
 import com.gitlab.summercattle.commons.db.object.internal.RowLineSet;
+import com.gitlab.summercattle.commons.db.sqlparser.ParsedSQL;
 import com.gitlab.summercattle.commons.db.struct.TableObjectStruct;
 import com.gitlab.summercattle.commons.db.utils.JdbcUtils;
+import com.gitlab.summercattle.commons.db.utils.SqlStatement;
 import com.gitlab.summercattle.commons.exception.CommonException;
 import com.gitlab.summercattle.commons.utils.auxiliary.ArrayUtils;
-import com.gitlab.summercattle.commons.utils.cache.Cache;
-import com.gitlab.summercattle.commons.utils.cache.CacheManager;
 import com.gitlab.summercattle.commons.utils.exception.ExceptionWrapUtils;
 import com.gitlab.summercattle.commons.utils.reflect.ClassType;
-import com.gitlab.summercattle.commons.utils.reflect.ClassUtils;
 import com.gitlab.summercattle.commons.utils.reflect.ReflectUtils;
 import com.gitlab.summercattle.commons.utils.spring.SpringContext;
 
@@ -70,11 +81,11 @@ public class DalContextImpl extends AbstractDalContextImpl implements DalContext
 
 	private static final Logger logger = LoggerFactory.getLogger(DalContextImpl.class);
 
-	private CacheManager cacheManager;
+	private DbSelectCache selectCache;
 
-	public DalContextImpl(Dialect dialect, Connection conn, CacheManager cacheManager) {
+	public DalContextImpl(Dialect dialect, Connection conn, DbSelectCache selectCache) {
 		super(dialect, conn);
-		this.cacheManager = cacheManager;
+		this.selectCache = selectCache;
 	}
 
 	@Override
@@ -85,12 +96,13 @@ public class DalContextImpl extends AbstractDalContextImpl implements DalContext
 		ResultSet rs = null;
 		try {
 			ps = conn.prepareStatement(sql);
-			String info = "执行SQL语句:" + sql + ",参数值:" + (params != null && params.length > 0 ? ArrayUtils.toString(params) : "无");
 			if (params != null && params.length > 0) {
-				setParams(ps, 1, params, info);
+				setParams(ps, 1, params, sql);
 			}
-			rs = JdbcUtils.executeQuery(ps, info);
-			return new DataQueryImpl(getDialect(), rs);
+			rs = JdbcUtils.executeQuery(ps, sql, params);
+			DbProperties dbProperties = SpringContext.getBean(DbProperties.class);
+			return dbProperties.isColumnarQuery() ? new ColumnarDataQueryImpl(getDialect(), rs)
+					: new DataQueryImpl(getDialect(), rs, dbProperties.isLazyLob());
 		}
 		catch (SQLException e) {
 			throw ExceptionWrapUtils.wrap(e);
@@ -101,6 +113,30 @@ public class DalContextImpl extends AbstractDalContextImpl implements DalContext
 		}
 	}
 
+	@Override
+	public DataCursor queryStream(String sql, Object[] params, int fetchSize) throws CommonException {
+		checkQuerySQL(sql);
+		sql = parserSQL(sql);
+		PreparedStatement ps = null;
+		ResultSet rs = null;
+		try {
+			ps = conn.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+			if (fetchSize > 0) {
+				ps.setFetchSize(fetchSize);
+			}
+			if (params != null && params.length > 0) {
+				setParams(ps, 1, params, sql);
+			}
+			rs = JdbcUtils.executeQuery(ps, sql, params);
+			return new DataCursorImpl(getDialect(), ps, rs, isLazyLob());
+		}
+		catch (SQLException | CommonException e) {
+			JdbcUtils.closeResultSet(rs);
+			JdbcUtils.closeStatement(ps);
+			throw ExceptionWrapUtils.wrap(e);
+		}
+	}
+
 	@Override
 	public PageDataQuery queryPage(String sql, Object[] params, int perPageSize, int page) throws CommonException {
 		checkQuerySQL(sql);
@@ -124,11 +160,10 @@ public class DalContextImpl extends AbstractDalContextImpl implements DalContext
 			int totalRecords = 0;
 			String countSQL = "select count(*) from (" + lStrSQL + ") TMP_TAB";
 			psCount = conn.prepareStatement(countSQL);
-			String info = "执行SQL语句:" + countSQL + ",参数值:" + (params != null && params.length > 0 ? ArrayUtils.toString(params) : "无");
 			if (params != null && params.length > 0) {
-				setParams(psCount, 1, params, info);
+				setParams(psCount, 1, params, countSQL);
 			}
-			rsCount = JdbcUtils.executeQuery(psCount, info);
+			rsCount = JdbcUtils.executeQuery(psCount, countSQL, params);
 			if (rsCount != null && rsCount.next()) {
 				totalRecords = rsCount.getInt(1);
 			}
@@ -146,16 +181,18 @@ public class DalContextImpl extends AbstractDalContextImpl implements DalContext
 			if (pageCount > 0 && page > pageCount) {
 				throw new CommonException("查询的页码越界");
 			}
-			String executeInfo;
+			String querySQL;
+			Object[] queryParams;
 			if (isCustomPage) {
-				executeInfo = "执行SQL语句:" + lStrSQL + ",参数值:" + (params != null && params.length > 0 ? ArrayUtils.toString(params) : "无");
+				querySQL = lStrSQL;
+				queryParams = params;
 				ps = conn.prepareStatement(lStrSQL, ResultSet.TYPE_SCROLL_INSENSITIVE, ResultSet.CONCUR_READ_ONLY);
 			}
 			else {
 				String tStrSQL = getDialect().getLimitHandler().processSql(lStrSQL.trim(), (page - 1) * perPageSize);
 				Object[] outputParams = getDialect().getLimitHandler().getOutputParameters(params, (page - 1) * perPageSize, perPageSize);
-				executeInfo = "执行SQL语句:" + tStrSQL + ",参数值:"
-						+ (outputParams != null && outputParams.length > 0 ? ArrayUtils.toString(outputParams) : "无");
+				querySQL = tStrSQL;
+				queryParams = outputParams;
 				ps = conn.prepareStatement(tStrSQL);
 			}
 			int index = 1;
@@ -163,13 +200,13 @@ public class DalContextImpl extends AbstractDalContextImpl implements DalContext
 				index += getDialect().getLimitHandler().bindLimitParametersAtStartOfQuery((page - 1) * perPageSize, perPageSize, ps, index);
 			}
 			if (params != null && params.length > 0) {
-				index = setParams(ps, index, params, executeInfo);
+				index = setParams(ps, index, params, querySQL);
 			}
 			if (!isCustomPage) {
 				index += getDialect().getLimitHandler().bindLimitParametersAtEndOfQuery((page - 1) * perPageSize, perPageSize, ps, index);
 			}
-			rs = JdbcUtils.executeQuery(ps, executeInfo);
-			return new PageDataQueryImpl(getDialect(), rs, isCustomPage, perPageSize, page, totalRecords);
+			rs = JdbcUtils.executeQuery(ps, querySQL, queryParams);
+			return new PageDataQueryImpl(getDialect(), rs, isLazyLob(), isCustomPage, perPageSize, page, totalRecords);
 		}
 		catch (SQLException e) {
 			throw ExceptionWrapUtils.wrap(e);
@@ -200,16 +237,18 @@ public class DalContextImpl extends AbstractDalContextImpl implements DalContext
 		PreparedStatement ps = null;
 		ResultSet rs = null;
 		try {
-			String executeInfo;
+			String querySQL;
+			Object[] queryParams;
 			if (isCustomPage) {
-				executeInfo = "执行SQL语句:" + lStrSQL + ",参数值:" + (params != null && params.length > 0 ? ArrayUtils.toString(params) : "无");
+				querySQL = lStrSQL;
+				queryParams = params;
 				ps = conn.prepareStatement(lStrSQL, ResultSet.TYPE_SCROLL_INSENSITIVE, ResultSet.CONCUR_READ_ONLY);
 			}
 			else {
 				String tStrSQL = getDialect().getLimitHandler().processSql(lStrSQL.trim(), (page - 1) * perPageSize);
 				Object[] outputParams = getDialect().getLimitHandler().getOutputParameters(params, (page - 1) * perPageSize, perPageSize + 1);
-				executeInfo = "执行SQL语句:" + tStrSQL + ",参数值:"
-						+ (outputParams != null && outputParams.length > 0 ? ArrayUtils.toString(outputParams) : "无");
+				querySQL = tStrSQL;
+				queryParams = outputParams;
 				ps = conn.prepareStatement(tStrSQL, ResultSet.TYPE_SCROLL_INSENSITIVE, ResultSet.CONCUR_READ_ONLY);
 			}
 			int index = 1;
@@ -217,13 +256,13 @@ public class DalContextImpl extends AbstractDalContextImpl implements DalContext
 				index += getDialect().getLimitHandler().bindLimitParametersAtStartOfQuery((page - 1) * perPageSize, perPageSize + 1, ps, index);
 			}
 			if (params != null && params.length > 0) {
-				index = setParams(ps, index, params, executeInfo);
+				index = setParams(ps, index, params, querySQL);
 			}
 			if (!isCustomPage) {
 				index += getDialect().getLimitHandler().bindLimitParametersAtEndOfQuery((page - 1) * perPageSize, perPageSize + 1, ps, index);
 			}
-			rs = JdbcUtils.executeQuery(ps, executeInfo);
-			return new DynamicPageDataQueryImpl(getDialect(), rs, isCustomPage, perPageSize, page);
+			rs = JdbcUtils.executeQuery(ps, querySQL, queryParams);
+			return new DynamicPageDataQueryImpl(getDialect(), rs, isLazyLob(), isCustomPage, perPageSize, page);
 		}
 		catch (SQLException e) {
 			throw ExceptionWrapUtils.wrap(e);
@@ -244,6 +283,110 @@ public class DalContextImpl extends AbstractDalContextImpl implements DalContext
 		return select(name, orderBy, condition, params, false);
 	}
 
+	@Override
+	public SeekPageDataQuery querySeekPage(String sql, Object[] params, String[] keyFields, boolean desc, Object[] lastKeys, int perPageSize,
+			PageCountMode countMode) throws CommonException {
+		checkQuerySQL(sql);
+		if (perPageSize <= 0) {
+			throw new CommonException("每页查询的最大记录数必须大于0");
+		}
+		if (null == keyFields || keyFields.length == 0) {
+			throw new CommonException("键字段为空");
+		}
+		if (null != lastKeys && lastKeys.length != keyFields.length) {
+			throw new CommonException("键字段值个数" + lastKeys.length + "与键字段个数" + keyFields.length + "不一致");
+		}
+		ParsedSQL parsedSQL = getParsedSQL(sql.trim());
+		long totalRecords = getTotalRecords(parsedSQL, params, countMode);
+		LimitHandler limitHandler = getDialect().getLimitHandler();
+		StringBuilder seekSQL = new StringBuilder("select * from (").append(parsedSQL.getSql()).append(") TMP_TAB");
+		Object[] seekParams = null != params ? params : new Object[0];
+		if (null != lastKeys) {
+			seekSQL.append(" where ").append(limitHandler.getSeekCondition(keyFields, desc));
+			Object[] keyParams = limitHandler.getSeekParameters(lastKeys);
+			Object[] lSeekParams = Arrays.copyOf(seekParams, seekParams.length + keyParams.length);
+			System.arraycopy(keyParams, 0, lSeekParams, seekParams.length, keyParams.length);
+			seekParams = lSeekParams;
+		}
+		seekSQL.append(" order by ");
+		for (int i = 0; i < keyFields.length; i++) {
+			if (i > 0) {
+				seekSQL.append(",");
+			}
+			seekSQL.append(keyFields[i]).append(desc ? " desc" : "");
+		}
+		String tStrSQL = limitHandler.processSql(seekSQL.toString(), 0);
+		Object[] outputParams = limitHandler.getOutputParameters(seekParams, 0, perPageSize + 1);
+		PreparedStatement ps = null;
+		ResultSet rs = null;
+		try {
+			ps = conn.prepareStatement(tStrSQL);
+			int index = 1;
+			index += limitHandler.bindLimitParametersAtStartOfQuery(0, perPageSize + 1, ps, index);
+			if (seekParams.length > 0) {
+				index = setParams(ps, index, seekParams, tStrSQL);
+			}
+			index += limitHandler.bindLimitParametersAtEndOfQuery(0, perPageSize + 1, ps, index);
+			rs = JdbcUtils.executeQuery(ps, tStrSQL, outputParams);
+			return new SeekPageDataQueryImpl(getDialect(), rs, isLazyLob(), keyFields, perPageSize, totalRecords);
+		}
+		catch (SQLException e) {
+			throw ExceptionWrapUtils.wrap(e);
+		}
+		finally {
+			JdbcUtils.closeResultSet(rs);
+			JdbcUtils.closeStatement(ps);
+		}
+	}
+
+	@Override
+	public SeekPageDataQuery querySeekPageByToken(String sql, Object[] params, String[] keyFields, boolean desc, String continuationToken,
+			int perPageSize, PageCountMode countMode) throws CommonException {
+		Object[] lastKeys = StringUtils.isNotBlank(continuationToken) ? SeekPageToken.decode(continuationToken) : null;
+		return querySeekPage(sql, params, keyFields, desc, lastKeys, perPageSize, countMode);
+	}
+
+	private long getTotalRecords(ParsedSQL parsedSQL, Object[] params, PageCountMode countMode) throws CommonException {
+		if (null == countMode || PageCountMode.None == countMode) {
+			return -1;
+		}
+		PreparedStatement ps = null;
+		ResultSet rs = null;
+		try {
+			String approximateCountSQL = getDialect().getApproximateCountCommand();
+			if (PageCountMode.Approximate == countMode && parsedSQL.getTables().size() == 1 && null != approximateCountSQL) {
+				String tableName = parsedSQL.getTables().iterator().next();
+				tableName = tableName.substring(tableName.lastIndexOf('.') + 1);
+				ps = conn.prepareStatement(approximateCountSQL);
+				Object[] countParams = new Object[] { tableName };
+				setParams(ps, 1, countParams, approximateCountSQL);
+				rs = JdbcUtils.executeQuery(ps, approximateCountSQL, countParams);
+				if (rs.next()) {
+					long totalRecords = rs.getLong(1);
+					if (!rs.wasNull()) {
+						return totalRecords;
+					}
+				}
+				JdbcUtils.closeResultSet(rs);
+				JdbcUtils.closeStatement(ps);
+			}
+			String countSQL = "select count(*) from (" + parsedSQL.getSql() + ") TMP_TAB";
+			ps = conn.prepareStatement(countSQL);
+			if (params != null && params.length > 0) {
+				setParams(ps, 1, params, countSQL);
+			}
+			rs = JdbcUtils.executeQuery(ps, countSQL, params);
+			return rs.next() ? rs.getLong(1) : 0;
+		}
+		catch (SQLException e) {
+			throw ExceptionWrapUtils.wrap(e);
+		}
+		finally {
+			JdbcUtils.closeResultSet(rs);
+			JdbcUtils.closeStatement(ps);
+		}
+	}
+
 	@Override
 	public DataTable select(String name, Object primaryValue) throws CommonException {
 		DbProperties dbProperties = SpringContext.getBean(DbProperties.class);
@@ -305,13 +448,11 @@ public class DalContextImpl extends AbstractDalContextImpl implements DalContext
 		if (StringUtils.isNotBlank(orderBy)) {
 			sb.append(" order by " + orderBy.toUpperCase());
 		}
-		String strParam = lParams.length > 0 ? ArrayUtils.toString(lParams) : "无";
 		DataTable dataTable = null;
 		String cacheKey = null;
 		if (useCache) {
-			cacheKey = Hex.encodeHexString(DigestUtils.md5(lParams.length > 0 ? sb.toString() + strParam : sb.toString()));
-			Cache cache = cacheManager.getCache(DataConstants.CAFFEINE_SELECT + "_" + tableName.toUpperCase(), dbProperties.getCacheProps());
-			dataTable = (DataTable) cache.get(cacheKey);
+			cacheKey = Hex.encodeHexString(DigestUtils.md5(lParams.length > 0 ? sb.toString() + ArrayUtils.toString(lParams) : sb.toString()));
+			dataTable = selectCache.get(dbProperties, tableName, cacheKey);
 			if (dataTable != null) {
 				logger.debug("在数据库缓存'" + tableName + "'中读出数据,缓存Key'" + cacheKey + "'");
 			}
@@ -320,17 +461,16 @@ public class DalContextImpl extends AbstractDalContextImpl implements DalContext
 			PreparedStatement ps = null;
 			ResultSet rs = null;
 			try {
-				ps = conn.prepareStatement(sb.toString());
-				String info = "执行SQL语句:" + sb.toString() + ",参数值:" + strParam;
+				String sql = sb.toString();
+				ps = conn.prepareStatement(sql);
 				if (lParams.length > 0) {
-					setParams(ps, 1, lParams, info);
+					setParams(ps, 1, lParams, sql);
 				}
-				rs = JdbcUtils.executeQuery(ps, info);
+				rs = JdbcUtils.executeQuery(ps, sql, lParams);
 				dataTable = new DataTableImpl(dbProperties, rs, tableMeta, tableStruct);
 				//有记录的情况下才做缓存
 				if (useCache && dataTable.size() > 0) {
-					Cache cache = cacheManager.getCache(DataConstants.CAFFEINE_SELECT + "_" + tableName.toUpperCase(), dbProperties.getCacheProps());
-					cache.put(cacheKey, dataTable);
+					selectCache.put(dbProperties, tableName, cacheKey, dataTable, getSelectCacheScope(dbProperties, condition, includeDeleted));
 					logger.debug("在数据库缓存'" + tableName + "'中存入数据,缓存Key'" + cacheKey + "'");
 				}
 			}
@@ -360,12 +500,11 @@ public class DalContextImpl extends AbstractDalContextImpl implements DalContext
 		int[] fieldTypes = ((InternalDataTable) dataTable).getFieldTypes();
 		Map<String, Integer> fieldIndexes = ((InternalDataTable) dataTable).getFieldIndexes();
 		String tableName = dataTable.getName();
-		String alias = dataTable.getAlias();
 		//处理删除
 		RowLineSet[] deleteLines = ((InternalDataTable) dataTable).getDeleteLines();
 		DbProperties dbProperties = SpringContext.getBean(DbProperties.class);
 		if (deleteLines.length > 0) {
-			rowDelete(dbProperties, tableName, alias, fieldNames, fieldTypes, fieldIndexes, deleteLines);
+			rowDelete(dbProperties, tableName, fieldNames, fieldTypes, fieldIndexes, deleteLines);
 		}
 		List<RowLineSet> addLines = new Vector<RowLineSet>();
 		List<RowLineSet> modifyLines = new Vector<RowLineSet>();
@@ -377,11 +516,29 @@ public class DalContextImpl extends AbstractDalContextImpl implements DalContext
 			rowModify(dbProperties, tableName, fieldNames, fieldTypes, fieldIndexes, modifyLines);
 		}
 		if (((InternalDataTable) dataTable).isUseCache()) {
-			logger.debug("清除数据库缓存'" + tableName + "'");
-			cacheManager.removeCache(DataConstants.CAFFEINE_SELECT + "_" + tableName.toUpperCase());
+			List<Object> modifyIds = new Vector<Object>();
+			List<Object> deleteIds = new Vector<Object>();
+			Integer primaryFieldIndex = fieldIndexes.get(dbProperties.getPrimaryField().toUpperCase());
+			for (RowLineSet deleteLine : deleteLines) {
+				deleteIds.add(deleteLine.getValues()[primaryFieldIndex.intValue()]);
+			}
+			for (RowLineSet modifyLine : modifyLines) {
+				modifyIds.add(modifyLine.getValues()[primaryFieldIndex.intValue()]);
+			}
+			selectCache.evict(dbProperties, tableName, modifyIds, deleteIds, addLines.size() > 0);
 		}
 	}
 
+	private SelectCacheScope getSelectCacheScope(DbProperties dbProperties, String condition, boolean includeDeleted) {
+		if (StringUtils.isBlank(condition)) {
+			return SelectCacheScope.All;
+		}
+		if (StringUtils.deleteWhitespace(condition).equalsIgnoreCase(dbProperties.getPrimaryField() + "=?")) {
+			return SelectCacheScope.Key;
+		}
+		return includeDeleted ? SelectCacheScope.ConditionIncludeDeleted : SelectCacheScope.Condition;
+	}
+
 	private void rowAdd(DbProperties dbProperties, String tableName, String[] fieldNames, int[] fieldTypes, Map<String, Integer> fieldIndexes,
 			List<RowLineSet> addLines) throws CommonException {
 		Integer versionFieldIndex = fieldIndexes.get(dbProperties.getVersionField().toUpperCase());
@@ -391,216 +548,317 @@ public class DalContextImpl extends AbstractDalContextImpl implements DalContext
 		String versionField = dialect.quote(dbProperties.getVersionField());
 		String createTimeField = dialect.quote(dbProperties.getCreateTimeField());
 		String deletedField = dialect.quote(dbProperties.getDeletedField());
-		PreparedStatement ps = null;
-		try {
-			StringBuffer sb = new StringBuffer();
-			StringBuffer sb2 = new StringBuffer();
-			sb2.append(") values (?");
-			sb.append("insert into " + tableName + " (" + primaryField);
-			for (int i = 0; i < fieldNames.length; i++) {
-				sb.append(",");
-				sb2.append(",");
-				sb.append(dialect.quote(fieldNames[i]));
-				sb2.append("?");
-			}
-			sb.append("," + createTimeField + "," + versionField + "," + deletedField);
-			sb.append(sb2);
-			sb.append("," + dialect.getCurrentTimestampSQLFunctionName() + ",?,?");
-			sb.append(")");
-			ps = conn.prepareStatement(sb.toString());
-			int addFrequency = 0;
-			for (RowLineSet addLine : addLines) {
-				Object[] values = addLine.getValues();
-				Object[] lValues = new Object[fieldNames.length + 3];
-				FieldTypes.getType(tableName, dbProperties.getPrimaryField(), fieldTypes[primaryFieldIndex.intValue()]).nullSafeSet(getDialect(), ps,
-						1, values[primaryFieldIndex.intValue()]);
-				lValues[0] = values[primaryFieldIndex.intValue()];
-				for (int i = 0; i < fieldNames.length; i++) {
-					FieldTypes.getType(tableName, fieldNames[i], fieldTypes[i]).nullSafeSet(getDialect(), ps, i + 2, values[i]);
-					lValues[i + 1] = values[i];
-				}
-				FieldTypes.getType(tableName, dbProperties.getVersionField(), fieldTypes[versionFieldIndex.intValue()]).nullSafeSet(getDialect(), ps,
-						fieldNames.length + 2, 1);
-				lValues[fieldNames.length + 1] = 1;
-				FieldTypes.getType(tableName, dbProperties.getDeletedField(), fieldTypes[deletedFieldIndex.intValue()]).nullSafeSet(getDialect(), ps,
-						fieldNames.length + 3, false);
-				lValues[fieldNames.length + 2] = false;
-				if (addLines.size() > 1) {
-					addFrequency = JdbcUtils.addBatch(ps, "执行SQL语句:" + sb.toString(), addFrequency);
-				}
-				else {
-					JdbcUtils.executeUpdate(ps, "执行SQL语句:" + sb.toString() + ",参数值:" + ArrayUtils.toString(lValues));
-				}
-			}
-			if (addLines.size() > 1) {
-				JdbcUtils.completeBatch(ps, "执行SQL语句:" + sb.toString(), addFrequency);
-			}
+		AbstractField[] columnTypes = new AbstractField[fieldNames.length + 3];
+		columnTypes[0] = FieldTypes.getType(tableName, dbProperties.getPrimaryField(), fieldTypes[primaryFieldIndex.intValue()]);
+		StringBuffer sb = new StringBuffer();
+		StringBuffer sb2 = new StringBuffer();
+		sb2.append("(?");
+		sb.append("insert into " + tableName + " (" + primaryField);
+		for (int i = 0; i < fieldNames.length; i++) {
+			sb.append(",");
+			sb2.append(",");
+			sb.append(dialect.quote(fieldNames[i]));
+			sb2.append("?");
+			columnTypes[i + 1] = FieldTypes.getType(tableName, fieldNames[i], fieldTypes[i]);
 		}
-		catch (SQLException e) {
-			throw ExceptionWrapUtils.wrap(e);
+		sb.append("," + createTimeField + "," + versionField + "," + deletedField);
+		sb.append(") values ");
+		sb2.append("," + dialect.getCurrentTimestampSQLFunctionName() + ",?,?");
+		sb2.append(")");
+		columnTypes[fieldNames.length + 1] = FieldTypes.getType(tableName, dbProperties.getVersionField(), fieldTypes[versionFieldIndex.intValue()]);
+		columnTypes[fieldNames.length + 2] = FieldTypes.getType(tableName, dbProperties.getDeletedField(), fieldTypes[deletedFieldIndex.intValue()]);
+		int[] valueIndexes = new int[fieldNames.length + 3];
+		Object[] constantValues = new Object[fieldNames.length + 3];
+		valueIndexes[0] = primaryFieldIndex.intValue();
+		for (int i = 0; i < fieldNames.length; i++) {
+			valueIndexes[i + 1] = i;
 		}
-		finally {
-			JdbcUtils.closeStatement(ps);
+		valueIndexes[fieldNames.length + 1] = -1;
+		constantValues[fieldNames.length + 1] = 1;
+		valueIndexes[fieldNames.length + 2] = -1;
+		constantValues[fieldNames.length + 2] = false;
+		List<Object[]> rows = new Vector<Object[]>(addLines.size());
+		for (RowLineSet addLine : addLines) {
+			rows.add(addLine.getValues());
 		}
+		new BulkInserter(getDialect(), conn, tableName, sb.toString(), sb2.toString(), columnTypes, valueIndexes, constantValues,
+				dbProperties.getBulkInsertBatchSize(), dbProperties.getBulkInsertMaxBytes()).insert(rows);
 	}
 
 	private void rowModify(DbProperties dbProperties, String tableName, String[] fieldNames, int[] fieldTypes, Map<String, Integer> fieldIndexes,
 			List<RowLineSet> modifyLines) throws CommonException {
 		Integer primaryFieldIndex = fieldIndexes.get(dbProperties.getPrimaryField().toUpperCase());
 		Integer versionFieldIndex = fieldIndexes.get(dbProperties.getVersionField().toUpperCase());
-		String primaryField = dialect.quote(dbProperties.getPrimaryField());
-		String versionField = dialect.quote(dbProperties.getVersionField());
-		String updateTimeField = dialect.quote(dbProperties.getUpdateTimeField());
+		AbstractField primaryFieldType = FieldTypes.getType(tableName, dbProperties.getPrimaryField(), fieldTypes[primaryFieldIndex.intValue()]);
+		AbstractField versionFieldType = FieldTypes.getType(tableName, dbProperties.getVersionField(), fieldTypes[versionFieldIndex.intValue()]);
+		Map<Object, Long> idVersions = new LinkedHashMap<Object, Long>();
 		for (RowLineSet modifyLine : modifyLines) {
 			Object[] values = modifyLine.getValues();
-			Object id = values[primaryFieldIndex.intValue()];
 			Long version = (Long) ReflectUtils.convertValue(ClassType.Long, values[versionFieldIndex]);
 			if (version != null) {
-				PreparedStatement queryPs = null;
-				ResultSet queryRs = null;
-				try {
-					String sql = "select " + versionField + " from " + getDialect().appendLock(tableName) + " where " + primaryField + "=?"
-							+ getDialect().getForUpdateString();
-					queryPs = conn.prepareStatement(sql);
-					FieldTypes.getType(tableName, dbProperties.getPrimaryField(), fieldTypes[primaryFieldIndex.intValue()]).nullSafeSet(getDialect(),
-							queryPs, 1, id);
-					queryRs = JdbcUtils.executeQuery(queryPs, "执行SQL语句:" + sql + ",参数值:" + ArrayUtils.toString(new Object[] { id }));
-					if (!queryRs.next()) {
-						throw new CommonException("表" + tableName + "的主键字段值" + id.toString() + "的记录加锁失败");
-					}
-					long dbVersion = (long) ReflectUtils.convertValue(ClassType.Long, FieldTypes
-							.getType(tableName, dbProperties.getVersionField(), fieldTypes[versionFieldIndex.intValue()]).nullSafeGet(queryRs, 1));
-					if (version != dbVersion) {
-						throw new CommonException("表" + tableName + "的主键字段值" + id.toString() + "的记录已经被修改");
-					}
-				}
-				catch (SQLException e) {
-					throw ExceptionWrapUtils.wrap(e);
-				}
-				finally {
-					JdbcUtils.closeResultSet(queryRs);
-					JdbcUtils.closeStatement(queryPs);
-				}
+				idVersions.put(values[primaryFieldIndex.intValue()], version);
 			}
+		}
+		checkVersions(dbProperties, tableName, primaryFieldType, versionFieldType, idVersions);
+		//按修改的字段及版本是否为空分组,同一组使用同一条更新语句批量执行
+		Map<String, List<RowLineSet>> modifyGroups = new LinkedHashMap<String, List<RowLineSet>>();
+		Map<String, int[]> modifyGroupIndexes = new HashMap<String, int[]>();
+		for (RowLineSet modifyLine : modifyLines) {
+			int[] modifyIndexes = modifyLine.getModifyIndexes();
+			boolean hasVersion = null != modifyLine.getValues()[versionFieldIndex.intValue()];
+			String groupKey = Arrays.toString(modifyIndexes) + (hasVersion ? "V" : "N");
+			List<RowLineSet> groupLines = modifyGroups.get(groupKey);
+			if (null == groupLines) {
+				groupLines = new Vector<RowLineSet>();
+				modifyGroups.put(groupKey, groupLines);
+				modifyGroupIndexes.put(groupKey, modifyIndexes);
+			}
+			groupLines.add(modifyLine);
+		}
+		for (Map.Entry<String, List<RowLineSet>> modifyGroup : modifyGroups.entrySet()) {
+			int[] modifyIndexes = modifyGroupIndexes.get(modifyGroup.getKey());
+			List<RowLineSet> groupLines = modifyGroup.getValue();
+			boolean hasVersion = modifyGroup.getKey().endsWith("V");
+			AbstractField[] modifyFieldTypes = new AbstractField[modifyIndexes.length];
+			for (int i = 0; i < modifyIndexes.length; i++) {
+				modifyFieldTypes[i] = FieldTypes.getType(tableName, fieldNames[modifyIndexes[i]], fieldTypes[modifyIndexes[i]]);
+			}
+			String sql = getModifySQL(dbProperties, tableName, fieldNames, modifyIndexes, hasVersion);
 			PreparedStatement updatePs = null;
 			try {
-				StringBuffer sb = new StringBuffer();
-				for (int i = 0; i < fieldNames.length; i++) {
-					if (sb.length() > 0) {
-						sb.append(",");
+				updatePs = conn.prepareStatement(sql);
+				List<Object> batchIds = new Vector<Object>();
+				for (RowLineSet modifyLine : groupLines) {
+					Object[] values = modifyLine.getValues();
+					Object id = values[primaryFieldIndex.intValue()];
+					Long version = idVersions.get(id);
+					for (int i = 0; i < modifyIndexes.length; i++) {
+						modifyFieldTypes[i].nullSafeSet(getDialect(), updatePs, i + 1, values[modifyIndexes[i]]);
+					}
+					versionFieldType.nullSafeSet(getDialect(), updatePs, modifyIndexes.length + 1, (version != null ? version.longValue() : 0) + 1);
+					primaryFieldType.nullSafeSet(getDialect(), updatePs, modifyIndexes.length + 2, id);
+					if (version != null) {
+						versionFieldType.nullSafeSet(getDialect(), updatePs, modifyIndexes.length + 3, version);
+					}
+					if (groupLines.size() > 1) {
+						updatePs.addBatch();
+						batchIds.add(id);
+						if (batchIds.size() == JdbcUtils.BATCH_RECORDS) {
+							executeBatch(updatePs, tableName, sql, batchIds, "的记录已经被修改");
+						}
+					}
+					else {
+						int rows = JdbcUtils.executeUpdate(updatePs, new ModifySqlStatement(sql, values, modifyIndexes, version, id));
+						if (rows == 0) {
+							throw new CommonException("表" + tableName + "的主键字段值" + id.toString() + "的记录已经被修改");
+						}
 					}
-					sb.append(dialect.quote(fieldNames[i]));
-					sb.append("=?");
 				}
-				sb.append("," + updateTimeField + "=" + dialect.getCurrentTimestampSQLFunctionName());
-				sb.append("," + versionField + "=?");
-				String sql = "update " + tableName + " set " + sb.toString() + " where " + primaryField + "=?";
-				if (version != null) {
-					sql += " and " + versionField + "=?";
+				if (batchIds.size() > 0) {
+					executeBatch(updatePs, tableName, sql, batchIds, "的记录已经被修改");
 				}
-				else {
-					sql += " and " + versionField + " is null";
+			}
+			catch (SQLException e) {
+				throw ExceptionWrapUtils.wrap(e);
+			}
+			finally {
+				JdbcUtils.closeStatement(updatePs);
+			}
+		}
+	}
+
+	private String getModifySQL(DbProperties dbProperties, String tableName, String[] fieldNames, int[] modifyIndexes, boolean hasVersion) {
+		String primaryField = dialect.quote(dbProperties.getPrimaryField());
+		String versionField = dialect.quote(dbProperties.getVersionField());
+		String updateTimeField = dialect.quote(dbProperties.getUpdateTimeField());
+		StringBuffer sb = new StringBuffer();
+		sb.append("update " + tableName + " set ");
+		for (int modifyIndex : modifyIndexes) {
+			sb.append(dialect.quote(fieldNames[modifyIndex]));
+			sb.append("=?,");
+		}
+		sb.append(updateTimeField + "=" + dialect.getCurrentTimestampSQLFunctionName());
+		sb.append("," + versionField + "=?");
+		sb.append(" where " + primaryField + "=?");
+		if (hasVersion) {
+			sb.append(" and " + versionField + "=?");
+		}
+		else {
+			sb.append(" and " + versionField + " is null");
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * 执行批处理并检查各语句处理的记录数,
+	 * 驱动返回SUCCESS_NO_INFO时无法得知记录数,按成功处理,此时记录冲突只能由之前加锁的版本校验发现
+	 */
+	private void executeBatch(PreparedStatement ps, String tableName, String sql, List<Object> batchIds, String failInfo) throws CommonException {
+		int[] results = JdbcUtils.executeBatch(ps, sql);
+		for (int i = 0; i < results.length && i < batchIds.size(); i++) {
+			if (results[i] == 0 || results[i] == PreparedStatement.EXECUTE_FAILED) {
+				throw new CommonException("表" + tableName + "的主键字段值" + batchIds.get(i).toString() + failInfo);
+			}
+		}
+		batchIds.clear();
+	}
+
+	/**
+	 * 按主键分块加锁并校验记录版本,每块使用一条in条件的查询
+	 */
+	private void checkVersions(DbProperties dbProperties, String tableName, AbstractField primaryFieldType, AbstractField versionFieldType,
+			Map<Object, Long> idVersions) throws CommonException {
+		if (idVersions.size() == 0) {
+			return;
+		}
+		String primaryField = dialect.quote(dbProperties.getPrimaryField());
+		String versionField = dialect.quote(dbProperties.getVersionField());
+		int chunkSize = getInExpressionChunkSize();
+		Object[] ids = idVersions.keySet().toArray();
+		for (int start = 0; start < ids.length; start += chunkSize) {
+			Object[] chunkIds = Arrays.copyOfRange(ids, start, Math.min(start + chunkSize, ids.length));
+			StringBuffer sb = new StringBuffer();
+			sb.append("select " + primaryField + "," + versionField + " from " + getDialect().appendLock(tableName) + " where " + primaryField);
+			if (chunkIds.length == 1) {
+				sb.append("=?");
+			}
+			else {
+				sb.append(" in (");
+				for (int i = 0; i < chunkIds.length; i++) {
+					sb.append(i > 0 ? ",?" : "?");
 				}
-				updatePs = conn.prepareStatement(sql);
-				Object[] lValues = new Object[fieldNames.length + (version != null ? 3 : 2)];
-				for (int i = 0; i < fieldNames.length; i++) {
-					FieldTypes.getType(tableName, fieldNames[i], fieldTypes[i]).nullSafeSet(getDialect(), updatePs, i + 1, values[i]);
-					lValues[i] = values[i];
+				sb.append(")");
+			}
+			sb.append(getDialect().getForUpdateString());
+			String sql = sb.toString();
+			PreparedStatement queryPs = null;
+			ResultSet queryRs = null;
+			try {
+				queryPs = conn.prepareStatement(sql);
+				for (int i = 0; i < chunkIds.length; i++) {
+					primaryFieldType.nullSafeSet(getDialect(), queryPs, i + 1, chunkIds[i]);
 				}
-				FieldTypes.getType(tableName, dbProperties.getVersionField(), fieldTypes[versionFieldIndex.intValue()]).nullSafeSet(getDialect(),
-						updatePs, fieldNames.length + 1, (version != null ? version.longValue() : 0) + 1);
-				lValues[fieldNames.length] = (version != null ? version.longValue() : 0) + 1;
-				FieldTypes.getType(tableName, dbProperties.getPrimaryField(), fieldTypes[primaryFieldIndex.intValue()]).nullSafeSet(getDialect(),
-						updatePs, fieldNames.length + 2, values[primaryFieldIndex.intValue()]);
-				lValues[fieldNames.length + 1] = values[primaryFieldIndex.intValue()];
-				if (version != null) {
-					FieldTypes.getType(tableName, dbProperties.getVersionField(), fieldTypes[versionFieldIndex.intValue()]).nullSafeSet(getDialect(),
-							updatePs, fieldNames.length + 3, version);
-					lValues[fieldNames.length + 2] = version;
+				queryRs = JdbcUtils.executeQuery(queryPs, sql, chunkIds);
+				Map<String, Long> dbVersions = new HashMap<String, Long>();
+				while (queryRs.next()) {
+					Object dbId = primaryFieldType.nullSafeGet(queryRs, 1);
+					Long dbVersion = (Long) ReflectUtils.convertValue(ClassType.Long, versionFieldType.nullSafeGet(queryRs, 2));
+					dbVersions.put(dbId.toString(), dbVersion);
 				}
-				int rows = JdbcUtils.executeUpdate(updatePs, "执行SQL语句:" + sql + ",参数值:" + ArrayUtils.toString(lValues));
-				if (rows == 0) {
-					throw new CommonException("表" + tableName + "的主键字段值" + id.toString() + "的记录已经被修改");
+				for (Object id : chunkIds) {
+					if (!dbVersions.containsKey(id.toString())) {
+						throw new CommonException("表" + tableName + "的主键字段值" + id.toString() + "的记录加锁失败");
+					}
+					Long dbVersion = dbVersions.get(id.toString());
+					if (null == dbVersion || idVersions.get(id).longValue() != dbVersion.longValue()) {
+						throw new CommonException("表" + tableName + "的主键字段值" + id.toString() + "的记录已经被修改");
+					}
 				}
 			}
 			catch (SQLException e) {
 				throw ExceptionWrapUtils.wrap(e);
 			}
 			finally {
-				JdbcUtils.closeStatement(updatePs);
+				JdbcUtils.closeResultSet(queryRs);
+				JdbcUtils.closeStatement(queryPs);
 			}
 		}
 	}
 
-	private void rowDelete(DbProperties dbProperties, String tableName, String alias, String[] fieldNames, int[] fieldTypes,
+	private void rowDelete(DbProperties dbProperties, String tableName, String[] fieldNames, int[] fieldTypes,
 			Map<String, Integer> fieldIndexes, RowLineSet[] deleteLines) throws CommonException {
 		Integer primaryFieldIndex = fieldIndexes.get(dbProperties.getPrimaryField().toUpperCase());
 		Integer versionFieldIndex = fieldIndexes.get(dbProperties.getVersionField().toUpperCase());
 		Integer deletedFieldIndex = fieldIndexes.get(dbProperties.getDeletedField().toUpperCase());
+		AbstractField primaryFieldType = FieldTypes.getType(tableName, dbProperties.getPrimaryField(), fieldTypes[primaryFieldIndex.intValue()]);
+		AbstractField versionFieldType = FieldTypes.getType(tableName, dbProperties.getVersionField(), fieldTypes[versionFieldIndex.intValue()]);
+		AbstractField deletedFieldType = FieldTypes.getType(tableName, dbProperties.getDeletedField(), fieldTypes[deletedFieldIndex.intValue()]);
+		List<Object> ids = new Vector<Object>();
+		Map<Object, Long> idVersions = new LinkedHashMap<Object, Long>();
+		for (RowLineSet deleteLine : deleteLines) {
+			Object[] values = deleteLine.getValues();
+			Object id = values[primaryFieldIndex.intValue()];
+			ids.add(id);
+			Long version = (Long) ReflectUtils.convertValue(ClassType.Long, values[versionFieldIndex]);
+			if (version != null) {
+				idVersions.put(id, version);
+			}
+		}
+		deleteRows(dbProperties, tableName, primaryFieldType, versionFieldType, deletedFieldType, ids, idVersions, true);
+	}
+
+	/**
+	 * 删除记录,有关联数据的记录做逻辑删除,否则做物理删除
+	 */
+	private void deleteRows(DbProperties dbProperties, String tableName, AbstractField primaryFieldType, AbstractField versionFieldType,
+			AbstractField deletedFieldType, List<Object> ids, Map<Object, Long> idVersions, boolean checkVersion) throws CommonException {
 		String primaryField = dialect.quote(dbProperties.getPrimaryField());
 		String updateTimeField = dialect.quote(dbProperties.getUpdateTimeField());
 		String versionField = dialect.quote(dbProperties.getVersionField());
 		String deletedField = dialect.quote(dbProperties.getDeletedField());
-		for (RowLineSet deleteLine : deleteLines) {
-			Object[] values = deleteLine.getValues();
-			Object id = values[primaryFieldIndex.intValue()];
-			if (hasRelationDatas(tableName, alias, id)) {
-				Long version = (Long) ReflectUtils.convertValue(ClassType.Long, values[versionFieldIndex]);
-				if (version != null) {
-					PreparedStatement queryPs = null;
-					ResultSet queryRs = null;
-					try {
-						String sql = "select " + versionField + " from " + getDialect().appendLock(tableName) + " where " + primaryField + "=?"
-								+ getDialect().getForUpdateString();
-						queryPs = conn.prepareStatement(sql);
-						FieldTypes.getType(tableName, dbProperties.getPrimaryField(), fieldTypes[primaryFieldIndex.intValue()])
-								.nullSafeSet(getDialect(), queryPs, 1, id);
-						queryRs = JdbcUtils.executeQuery(queryPs, "执行SQL语句:" + sql + ",参数值:" + ArrayUtils.toString(new Object[] { id }));
-						if (!queryRs.next()) {
-							throw new CommonException("表" + tableName + "的主键字段值" + id.toString() + "的记录加锁失败");
-						}
-						long dbVersion = (long) ReflectUtils.convertValue(ClassType.Long,
-								FieldTypes.getType(tableName, dbProperties.getVersionField(), fieldTypes[versionFieldIndex.intValue()])
-										.nullSafeGet(queryRs, 1));
-						if (version != dbVersion) {
-							throw new CommonException("表" + tableName + "的主键字段值" + id.toString() + "的记录已经被修改");
-						}
-					}
-					catch (SQLException e) {
-						throw ExceptionWrapUtils.wrap(e);
-					}
-					finally {
-						JdbcUtils.closeResultSet(queryRs);
-						JdbcUtils.closeStatement(queryPs);
+		Set<String> relationIds = getRelationIds(dbProperties, tableName, primaryFieldType, ids);
+		List<Object> logicIds = new Vector<Object>();
+		List<Object> physicalIds = new Vector<Object>();
+		for (Object id : ids) {
+			if (relationIds.contains(id.toString())) {
+				logicIds.add(id);
+			}
+			else {
+				physicalIds.add(id);
+			}
+		}
+		if (logicIds.size() > 0) {
+			if (checkVersion) {
+				Map<Object, Long> logicIdVersions = new LinkedHashMap<Object, Long>();
+				for (Object id : logicIds) {
+					if (idVersions.containsKey(id)) {
+						logicIdVersions.put(id, idVersions.get(id));
 					}
 				}
+				checkVersions(dbProperties, tableName, primaryFieldType, versionFieldType, logicIdVersions);
+			}
+			for (boolean hasVersion : new boolean[] { true, false }) {
+				List<Object> groupIds = logicIds.stream().filter(id -> idVersions.containsKey(id) == hasVersion).collect(Collectors.toList());
+				if (groupIds.size() == 0) {
+					continue;
+				}
+				String strUpdateSQL = "update " + tableName + " set " + deletedField + "=?," + versionField + "=?," + updateTimeField + "="
+						+ dialect.getCurrentTimestampSQLFunctionName() + " where " + primaryField + "=?";
+				if (hasVersion) {
+					strUpdateSQL += " and " + versionField + "=?";
+				}
+				else {
+					strUpdateSQL += " and " + versionField + " is null";
+				}
 				PreparedStatement updatePs = null;
 				try {
-					String strUpdateSQL = "update " + tableName + " set " + deletedField + "=?," + versionField + "=?," + updateTimeField + "="
-							+ dialect.getCurrentTimestampSQLFunctionName() + " where " + primaryField + "=?";
-					if (version != null) {
-						strUpdateSQL += " and " + versionField + "=?";
-					}
-					else {
-						strUpdateSQL += " and " + versionField + " is null";
-					}
 					updatePs = conn.prepareStatement(strUpdateSQL);
-					FieldTypes.getType(tableName, dbProperties.getDeletedField(), fieldTypes[deletedFieldIndex.intValue()]).nullSafeSet(getDialect(),
-							updatePs, 1, true);
-					FieldTypes.getType(tableName, dbProperties.getVersionField(), fieldTypes[versionFieldIndex.intValue()]).nullSafeSet(getDialect(),
-							updatePs, 2, (version != null ? version.longValue() : 0) + 1);
-					FieldTypes.getType(tableName, dbProperties.getPrimaryField(), fieldTypes[primaryFieldIndex.intValue()]).nullSafeSet(getDialect(),
-							updatePs, 3, id);
-					if (version != null) {
-						FieldTypes.getType(tableName, dbProperties.getVersionField(), fieldTypes[versionFieldIndex.intValue()])
-								.nullSafeSet(getDialect(), updatePs, 4, version.longValue());
+					List<Object> batchIds = new Vector<Object>();
+					for (Object id : groupIds) {
+						Long version = idVersions.get(id);
+						deletedFieldType.nullSafeSet(getDialect(), updatePs, 1, true);
+						versionFieldType.nullSafeSet(getDialect(), updatePs, 2, (version != null ? version.longValue() : 0) + 1);
+						primaryFieldType.nullSafeSet(getDialect(), updatePs, 3, id);
+						if (version != null) {
+							versionFieldType.nullSafeSet(getDialect(), updatePs, 4, version.longValue());
+						}
+						if (groupIds.size() > 1) {
+							updatePs.addBatch();
+							batchIds.add(id);
+							if (batchIds.size() == JdbcUtils.BATCH_RECORDS) {
+								executeBatch(updatePs, tableName, strUpdateSQL, batchIds, "的记录已经被修改");
+							}
+						}
+						else {
+							int rows = JdbcUtils.executeUpdate(updatePs, strUpdateSQL,
+									version != null ? new Object[] { true, version.longValue() + 1, id, version.longValue() } : new Object[] { true, 1, id });
+							if (rows == 0) {
+								throw new CommonException("表" + tableName + "的主键字段值" + id.toString() + "的记录已经被修改");
+							}
+						}
 					}
-					int rows = JdbcUtils.executeUpdate(updatePs,
-							"执行SQL语句:" + strUpdateSQL + ",参数值:"
-									+ ArrayUtils.toString(version != null ? new Object[] { true, version.longValue() + 1, id, version.longValue() }
-											: new Object[] { true, 1, id }));
-					if (rows == 0) {
-						throw new CommonException("表" + tableName + "的主键字段值" + id.toString() + "的记录已经被修改");
+					if (batchIds.size() > 0) {
+						executeBatch(updatePs, tableName, strUpdateSQL, batchIds, "的记录已经被修改");
 					}
 				}
 				catch (SQLException e) {
@@ -610,25 +868,39 @@ public class DalContextImpl extends AbstractDalContextImpl implements DalContext
 					JdbcUtils.closeStatement(updatePs);
 				}
 			}
-			else {
-				PreparedStatement deletePs = null;
-				try {
-					String strDeleteSQL = "delete from " + tableName + " where " + primaryField + "=?";
-					deletePs = conn.prepareStatement(strDeleteSQL);
-					FieldTypes.getType(tableName, dbProperties.getPrimaryField(), fieldTypes[primaryFieldIndex.intValue()]).nullSafeSet(getDialect(),
-							deletePs, 1, id);
-					int rows = JdbcUtils.executeUpdate(deletePs, "执行SQL语句:" + strDeleteSQL + ",参数值:" + ArrayUtils.toString(new Object[] { id }));
-					if (rows == 0) {
-						throw new CommonException("表" + tableName + "的主键字段值" + id.toString() + "的记录删除失败");
+		}
+		if (physicalIds.size() > 0) {
+			String strDeleteSQL = "delete from " + tableName + " where " + primaryField + "=?";
+			PreparedStatement deletePs = null;
+			try {
+				deletePs = conn.prepareStatement(strDeleteSQL);
+				List<Object> batchIds = new Vector<Object>();
+				for (Object id : physicalIds) {
+					primaryFieldType.nullSafeSet(getDialect(), deletePs, 1, id);
+					if (physicalIds.size() > 1) {
+						deletePs.addBatch();
+						batchIds.add(id);
+						if (batchIds.size() == JdbcUtils.BATCH_RECORDS) {
+							executeBatch(deletePs, tableName, strDeleteSQL, batchIds, "的记录删除失败");
+						}
+					}
+					else {
+						int rows = JdbcUtils.executeUpdate(deletePs, strDeleteSQL, new Object[] { id });
+						if (rows == 0) {
+							throw new CommonException("表" + tableName + "的主键字段值" + id.toString() + "的记录删除失败");
+						}
 					}
 				}
-				catch (SQLException e) {
-					throw ExceptionWrapUtils.wrap(e);
-				}
-				finally {
-					JdbcUtils.closeStatement(deletePs);
+				if (batchIds.size() > 0) {
+					executeBatch(deletePs, tableName, strDeleteSQL, batchIds, "的记录删除失败");
 				}
 			}
+			catch (SQLException e) {
+				throw ExceptionWrapUtils.wrap(e);
+			}
+			finally {
+				JdbcUtils.closeStatement(deletePs);
+			}
 		}
 	}
 
@@ -645,14 +917,18 @@ public class DalContextImpl extends AbstractDalContextImpl implements DalContext
 		TableMeta tableMeta = DbUtils.getDbMetaModel().getTable(name);
 		TableObjectStruct tableStruct = DbUtils.getDbStruct().getTableStruct(dbProperties, tableMeta);
 		String tableName = tableMeta.getName();
-		String alias = tableMeta.getAlias();
 		String primaryField = dialect.quote(dbProperties.getPrimaryField());
 		String deletedField = dialect.quote(dbProperties.getDeletedField());
 		String versionField = dialect.quote(dbProperties.getVersionField());
 		String updateTimeField = dialect.quote(dbProperties.getUpdateTimeField());
-		int primaryFieldType = tableStruct.getField(dbProperties.getPrimaryField()).getJdbcType();
-		int deleteFieldType = tableStruct.getField(dbProperties.getDeletedField()).getJdbcType();
-		int versionFieldType = tableStruct.getField(dbProperties.getVersionField()).getJdbcType();
+		AbstractField primaryFieldType = FieldTypes.getType(tableName, dbProperties.getPrimaryField(),
+				tableStruct.getField(dbProperties.getPrimaryField()).getJdbcType());
+		AbstractField deletedFieldType = FieldTypes.getType(tableName, dbProperties.getDeletedField(),
+				tableStruct.getField(dbProperties.getDeletedField()).getJdbcType());
+		AbstractField versionFieldType = FieldTypes.getType(tableName, dbProperties.getVersionField(),
+				tableStruct.getField(dbProperties.getVersionField()).getJdbcType());
+		List<Object> ids = new Vector<Object>();
+		Map<Object, Long> idVersions = new LinkedHashMap<Object, Long>();
 		StringBuffer sb = new StringBuffer();
 		sb.append("select " + primaryField + "," + deletedField + "," + versionField + "," + updateTimeField + " from "
 				+ getDialect().appendLock(tableName));
@@ -664,72 +940,23 @@ public class DalContextImpl extends AbstractDalContextImpl implements DalContext
 			}
 		}
 		sb.append(getDialect().getForUpdateString());
-		String strParam = isParams ? ArrayUtils.toString(params) : "无";
 		PreparedStatement ps = null;
 		ResultSet rs = null;
 		try {
-			ps = conn.prepareStatement(sb.toString());
-			String info = "执行SQL语句:" + sb.toString() + ",参数值:" + strParam;
+			String sql = sb.toString();
+			ps = conn.prepareStatement(sql);
 			if (isParams) {
-				setParams(ps, 1, params, info);
+				setParams(ps, 1, params, sql);
 			}
-			rs = JdbcUtils.executeQuery(ps, info);
+			rs = JdbcUtils.executeQuery(ps, sql, isParams ? params : null);
 			while (rs.next()) {
-				Object id = FieldTypes.getType(tableName, dbProperties.getPrimaryField(), primaryFieldType).nullSafeGet(rs,
-						dbProperties.getPrimaryField());
-				boolean deleted = (boolean) ReflectUtils.convertValue(ClassType.Boolean, FieldTypes
-						.getType(tableName, dbProperties.getDeletedField(), deleteFieldType).nullSafeGet(rs, dbProperties.getDeletedField()));
-				Long version = (Long) ReflectUtils.convertValue(ClassType.Long, FieldTypes
-						.getType(tableName, dbProperties.getVersionField(), versionFieldType).nullSafeGet(rs, dbProperties.getVersionField()));
+				Object id = primaryFieldType.nullSafeGet(rs, dbProperties.getPrimaryField());
+				boolean deleted = (boolean) ReflectUtils.convertValue(ClassType.Boolean, deletedFieldType.nullSafeGet(rs, dbProperties.getDeletedField()));
+				Long version = (Long) ReflectUtils.convertValue(ClassType.Long, versionFieldType.nullSafeGet(rs, dbProperties.getVersionField()));
 				if (!deleted) {
-					if (hasRelationDatas(tableName, alias, id)) {
-						PreparedStatement updatePs = null;
-						try {
-							String strUpdateSQL = "update " + tableName + " set " + deletedField + "=?," + versionField + "=?," + updateTimeField
-									+ "=" + dialect.getCurrentTimestampSQLFunctionName() + " where " + primaryField + "=?";
-							if (version != null) {
-								strUpdateSQL += " and " + versionField + "=?";
-							}
-							else {
-								strUpdateSQL += " and " + versionField + " is null";
-							}
-							updatePs = conn.prepareStatement(strUpdateSQL);
-							FieldTypes.getType(tableName, dbProperties.getDeletedField(), deleteFieldType).nullSafeSet(getDialect(), updatePs, 1,
-									true);
-							FieldTypes.getType(tableName, dbProperties.getVersionField(), versionFieldType).nullSafeSet(getDialect(), updatePs, 2,
-									(version != null ? version.longValue() : 0) + 1);
-							FieldTypes.getType(tableName, dbProperties.getPrimaryField(), primaryFieldType).nullSafeSet(getDialect(), updatePs, 3,
-									id);
-							if (version != null) {
-								FieldTypes.getType(tableName, dbProperties.getVersionField(), versionFieldType).nullSafeSet(getDialect(), updatePs, 4,
-										version);
-							}
-							int rows = JdbcUtils.executeUpdate(updatePs, "执行SQL语句:" + strUpdateSQL + ",参数值:" + ArrayUtils
-									.toString(version != null ? new Object[] { true, version + 1, id, version } : new Object[] { true, 1, id }));
-							if (rows == 0) {
-								throw new CommonException("表" + tableName + "的主键字段值" + id.toString() + "的记录已经被修改");
-							}
-						}
-						finally {
-							JdbcUtils.closeStatement(updatePs);
-						}
-					}
-					else {
-						PreparedStatement deletePs = null;
-						try {
-							String strDeleteSQL = "delete from " + tableName + " where " + primaryField + "=?";
-							deletePs = conn.prepareStatement(strDeleteSQL);
-							FieldTypes.getType(tableName, dbProperties.getPrimaryField(), primaryFieldType).nullSafeSet(getDialect(), deletePs, 1,
-									id);
-							int rows = JdbcUtils.executeUpdate(deletePs,
-									"执行SQL语句:" + strDeleteSQL + ",参数值:" + ArrayUtils.toString(new Object[] { id }));
-							if (rows == 0) {
-								throw new CommonException("表" + tableName + "的主键字段值" + id.toString() + "的记录删除失败");
-							}
-						}
-						finally {
-							JdbcUtils.closeStatement(deletePs);
-						}
+					ids.add(id);
+					if (version != null) {
+						idVersions.put(id, version);
 					}
 				}
 			}
@@ -741,9 +968,12 @@ public class DalContextImpl extends AbstractDalContextImpl implements DalContext
 			JdbcUtils.closeResultSet(rs);
 			JdbcUtils.closeStatement(ps);
 		}
-		if (tableMeta.isUseCache()) {
-			logger.debug("清除数据库缓存'" + tableName + "'");
-			cacheManager.removeCache(DataConstants.CAFFEINE_SELECT + "_" + tableName.toUpperCase());
+		//记录已在查询时加锁,版本取自数据库,不需要再校验
+		if (ids.size() > 0) {
+			deleteRows(dbProperties, tableName, primaryFieldType, versionFieldType, deletedFieldType, ids, idVersions, false);
+		}
+		if (tableMeta.isUseCache() && ids.size() > 0) {
+			selectCache.evict(dbProperties, tableName, Collections.emptyList(), ids, false);
 		}
 	}
 
@@ -762,52 +992,59 @@ public class DalContextImpl extends AbstractDalContextImpl implements DalContext
 		}
 	}
 
-	private boolean hasRelationDatas(String tableName, String alias, Object id) throws CommonException {
-		TableMeta[] tables = DbUtils.getDbMetaModel().getTables();
-		boolean hasData = false;
-		for (TableMeta tableMeta : tables) {
-			if (!tableMeta.getName().equals(tableName)) {
-				if (tableMeta.getReferenceFieldInfos().size() > 0) {
-					List<ReferenceFieldInfo> referenceFieldInfos = tableMeta.getReferenceFieldInfos().stream()
-							.filter(p -> p.getReferenceTableName().equalsIgnoreCase(tableName)
-									|| (StringUtils.isNotBlank(alias) && p.getReferenceTableName().equalsIgnoreCase(alias)))
-							.collect(Collectors.toList());
-					if (referenceFieldInfos.size() > 0) {
-						for (ReferenceFieldInfo referenceFieldInfo : referenceFieldInfos) {
-							PreparedStatement psCount = null;
-							ResultSet rsCount = null;
-							ResultSet rs = null;
-							try {
-								String countSQL = "select count(*) from " + tableMeta.getName() + " where " + referenceFieldInfo.getName() + "=?";
-								Object[] params = new Object[] { id };
-								psCount = conn.prepareStatement(countSQL);
-								String info = "执行SQL语句:" + countSQL + ",参数值:" + ArrayUtils.toString(params);
-								setParams(psCount, 1, params, info);
-								rsCount = JdbcUtils.executeQuery(psCount, info);
-								if (rsCount != null && rsCount.next()) {
-									if (rsCount.getInt(1) > 0) {
-										hasData = true;
-										break;
-									}
-								}
-							}
-							catch (SQLException e) {
-								throw ExceptionWrapUtils.wrap(e);
-							}
-							finally {
-								JdbcUtils.closeResultSet(rsCount);
-								JdbcUtils.closeResultSet(rs);
-								JdbcUtils.closeStatement(psCount);
-							}
-						}
-						if (hasData) {
-							break;
-						}
+	/**
+	 * 查询有关联数据的主键值,按引用字段及主键分块,每块使用一条exists查询
+	 */
+	private Set<String> getRelationIds(DbProperties dbProperties, String tableName, AbstractField primaryFieldType, List<Object> ids)
+			throws CommonException {
+		Set<String> relationIds = new HashSet<String>();
+		List<ReferencedFieldInfo> referencedFieldInfos = DbUtils.getDbMetaModel().getReferencedFieldInfos(tableName);
+		if (referencedFieldInfos.size() == 0 || ids.size() == 0) {
+			return relationIds;
+		}
+		String primaryField = dialect.quote(dbProperties.getPrimaryField());
+		int chunkSize = getInExpressionChunkSize();
+		for (ReferencedFieldInfo referencedFieldInfo : referencedFieldInfos) {
+			Object[] checkIds = ids.stream().filter(id -> !relationIds.contains(id.toString())).toArray();
+			for (int start = 0; start < checkIds.length; start += chunkSize) {
+				Object[] chunkIds = Arrays.copyOfRange(checkIds, start, Math.min(start + chunkSize, checkIds.length));
+				StringBuffer sb = new StringBuffer();
+				sb.append("select " + tableName + "." + primaryField + " from " + tableName + " where " + tableName + "." + primaryField + " in (");
+				for (int i = 0; i < chunkIds.length; i++) {
+					sb.append(i > 0 ? ",?" : "?");
+				}
+				sb.append(") and exists (select 1 from " + referencedFieldInfo.getTableName() + " where " + referencedFieldInfo.getTableName() + "."
+						+ referencedFieldInfo.getName() + "=" + tableName + "." + primaryField + ")");
+				String sql = sb.toString();
+				PreparedStatement ps = null;
+				ResultSet rs = null;
+				try {
+					ps = conn.prepareStatement(sql);
+					for (int i = 0; i < chunkIds.length; i++) {
+						primaryFieldType.nullSafeSet(getDialect(), ps, i + 1, chunkIds[i]);
 					}
+					rs = JdbcUtils.executeQuery(ps, sql, chunkIds);
+					while (rs.next()) {
+						relationIds.add(primaryFieldType.nullSafeGet(rs, 1).toString());
+					}
+				}
+				catch (SQLException e) {
+					throw ExceptionWrapUtils.wrap(e);
+				}
+				finally {
+					JdbcUtils.closeResultSet(rs);
+					JdbcUtils.closeStatement(ps);
 				}
 			}
+			if (relationIds.size() == ids.size()) {
+				break;
+			}
 		}
-		return hasData;
+		return relationIds;
+	}
+
+	private int getInExpressionChunkSize() {
+		return dialect.getInExpressionCountLimit() > 0 ? dialect.getInExpressionCountLimit() : JdbcUtils.BATCH_RECORDS;
 	}
 
 	@Override
@@ -836,38 +1073,11 @@ public class DalContextImpl extends AbstractDalContextImpl implements DalContext
 			return null;
 		}
 		DbProperties dbProperties = SpringContext.getBean(DbProperties.class);
+		BeanMapper<T> mapper = BeanMapper.getMapper(dbProperties, tableMeta, beanType);
 		List<T> beans = new Vector<T>();
 		dt.beforeFirst();
 		while (dt.next()) {
-			T bean = ClassUtils.instanceEmpty(beanType);
-			AnnotatedSystemFieldMeta primaryField = tableMeta.getPrimaryField();
-			if (null != primaryField) {
-				Object primaryValue = getSystemFieldValue(dbProperties, dt, primaryField.getSystemFieldName());
-				ReflectUtils.setFieldValue(bean, primaryField.getClassFieldName(), primaryValue);
-			}
-			FieldMeta[] fieldMetas = tableMeta.getFields();
-			for (FieldMeta fieldMeta : fieldMetas) {
-				Object value = dt.getObject(fieldMeta.getName());
-				FieldMetaMode mode = fieldMeta.getMode();
-				String classFieldName;
-				if (FieldMetaMode.Fixed.equals(mode)) {
-					classFieldName = ((AnnotatedFixedFieldMeta) fieldMeta).getClassFieldName();
-				}
-				else if (FieldMetaMode.Reference.equals(mode)) {
-					classFieldName = ((AnnotatedReferenceFieldMeta) fieldMeta).getClassFieldName();
-				}
-				else {
-					throw new CommonException(
-							"表'" + tableMeta.getName() + "'的字段'" + fieldMeta.getName() + "'模式'" + fieldMeta.getMode().toString() + "'不支持");
-				}
-				ReflectUtils.setFieldValue(bean, classFieldName, value);
-			}
-			AnnotatedSystemFieldMeta[] systemFields = tableMeta.getSystemFields();
-			for (AnnotatedSystemFieldMeta systemField : systemFields) {
-				Object value = getSystemFieldValue(dbProperties, dt, systemField.getSystemFieldName());
-				ReflectUtils.setFieldValue(bean, systemField.getClassFieldName(), value);
-			}
-			beans.add(bean);
+			beans.add(mapper.toBean(dt));
 			if (singleRecord) {
 				break;
 			}
@@ -875,25 +1085,6 @@ public class DalContextImpl extends AbstractDalContextImpl implements DalContext
 		return beans;
 	}
 
-	private Object getSystemFieldValue(DbProperties dbProperties, DataTable dt, String fieldName) throws CommonException {
-		if (dbProperties.getPrimaryField().equals(fieldName)) {
-			return dt.getPrimaryValue();
-		}
-		else if (dbProperties.getCreateTimeField().equals(fieldName)) {
-			return dt.getCreateDate();
-		}
-		else if (dbProperties.getUpdateTimeField().equals(fieldName)) {
-			return dt.getUpdateDate();
-		}
-		else if (dbProperties.getVersionField().equals(fieldName)) {
-			return dt.getVersion();
-		}
-		else if (dbProperties.getDeletedField().equals(fieldName)) {
-			return dt.isDeleted();
-		}
-		throw new CommonException("表'" + dt.getName() + "'的字段'" + fieldName + "'不是系统字段");
-	}
-
 	@Override
 	public Object save(Object bean) throws CommonException {
 		if (null != bean) {
@@ -901,25 +1092,10 @@ public class DalContextImpl extends AbstractDalContextImpl implements DalContext
 				throw new CommonException("调用方法错误");
 			}
 			AnnotatedTableMeta tableMeta = DbUtils.getDbMetaModel().getTableByBean(bean.getClass());
+			BeanMapper< ? > mapper = BeanMapper.getMapper(SpringContext.getBean(DbProperties.class), tableMeta, bean.getClass());
 			DataTable dt = create(tableMeta.getName());
 			dt.insert();
-			FieldMeta[] fieldMetas = tableMeta.getFields();
-			for (FieldMeta fieldMeta : fieldMetas) {
-				FieldMetaMode mode = fieldMeta.getMode();
-				String classFieldName;
-				if (FieldMetaMode.Fixed.equals(mode)) {
-					classFieldName = ((AnnotatedFixedFieldMeta) fieldMeta).getClassFieldName();
-				}
-				else if (FieldMetaMode.Reference.equals(mode)) {
-					classFieldName = ((AnnotatedReferenceFieldMeta) fieldMeta).getClassFieldName();
-				}
-				else {
-					throw new CommonException(
-							"表'" + tableMeta.getName() + "'的字段'" + fieldMeta.getName() + "'模式'" + fieldMeta.getMode().toString() + "'不支持");
-				}
-				Object value = ReflectUtils.getFieldValue(bean, classFieldName);
-				dt.setObject(fieldMeta.getName(), value);
-			}
+			mapper.toRow(bean, dt);
 			Object primaryValue = dt.getPrimaryValue();
 			save(dt);
 			return primaryValue;
@@ -934,7 +1110,8 @@ public class DalContextImpl extends AbstractDalContextImpl implements DalContext
 				throw new CommonException("调用方法错误");
 			}
 			AnnotatedTableMeta tableMeta = DbUtils.getDbMetaModel().getTableByBean(bean.getClass());
-			Object primaryValue = ReflectUtils.getFieldValue(bean, tableMeta.getPrimaryField().getClassFieldName());
+			BeanMapper< ? > mapper = BeanMapper.getMapper(SpringContext.getBean(DbProperties.class), tableMeta, bean.getClass());
+			Object primaryValue = mapper.getPrimaryValue(bean);
 			if (null == primaryValue) {
 				throw new CommonException("类'" + bean.getClass().getName() + "'中没有主键字段'" + tableMeta.getPrimaryField().getClassFieldName() + "'的值为空");
 			}
@@ -943,24 +1120,48 @@ public class DalContextImpl extends AbstractDalContextImpl implements DalContext
 				throw new CommonException("类'" + bean.getClass().getName() + "'中没有主键字段'" + tableMeta.getPrimaryField().getClassFieldName() + "'的值'"
 						+ primaryValue.toString() + "'没有找到相应记录");
 			}
-			FieldMeta[] fieldMetas = tableMeta.getFields();
-			for (FieldMeta fieldMeta : fieldMetas) {
-				FieldMetaMode mode = fieldMeta.getMode();
-				String classFieldName;
-				if (FieldMetaMode.Fixed.equals(mode)) {
-					classFieldName = ((AnnotatedFixedFieldMeta) fieldMeta).getClassFieldName();
-				}
-				else if (FieldMetaMode.Reference.equals(mode)) {
-					classFieldName = ((AnnotatedReferenceFieldMeta) fieldMeta).getClassFieldName();
-				}
-				else {
-					throw new CommonException(
-							"表'" + tableMeta.getName() + "'的字段'" + fieldMeta.getName() + "'模式'" + fieldMeta.getMode().toString() + "'不支持");
-				}
-				Object value = ReflectUtils.getFieldValue(bean, classFieldName);
-				dt.setObject(fieldMeta.getName(), value);
-			}
+			mapper.toRow(bean, dt);
 			save(dt);
 		}
 	}
+
+	/**
+	 * 修改语句的执行信息,参数值在输出日志时才由记录值生成
+	 */
+	private static class ModifySqlStatement extends SqlStatement {
+
+		private final Object[] values;
+
+		private final int[] modifyIndexes;
+
+		private final Long version;
+
+		private final Object id;
+
+		ModifySqlStatement(String sql, Object[] values, int[] modifyIndexes, Long version, Object id) {
+			super(sql, null);
+			this.values = values;
+			this.modifyIndexes = modifyIndexes;
+			this.version = version;
+			this.id = id;
+		}
+
+		@Override
+		public Object[] getParams() {
+			Object[] params = new Object[modifyIndexes.length + (version != null ? 3 : 2)];
+			for (int i = 0; i < modifyIndexes.length; i++) {
+				params[i] = values[modifyIndexes[i]];
+			}
+			params[modifyIndexes.length] = (version != null ? version.longValue() : 0) + 1;
+			params[modifyIndexes.length + 1] = id;
+			if (version != null) {
+				params[modifyIndexes.length + 2] = version;
+			}
+			return params;
+		}
+	}
+
+	private boolean isLazyLob() {
+		return SpringContext.getBean(DbProperties.class).isLazyLob();
+	}
 }
\ No newline at end of file
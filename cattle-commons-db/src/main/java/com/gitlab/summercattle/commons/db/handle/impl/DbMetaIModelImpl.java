@@ -15,7 +15,10 @@
  */
 package com.gitlab.summercattle.commons.db.handle.impl;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.Vector;
 
@@ -23,29 +26,49 @@ import org.apache.commons.lang3.StringUtils;
 
 import com.gitlab.summercattle.commons.db.annotation.Table;
 import com.gitlab.summercattle.commons.db.handle.DbMetaModel;
+import com.gitlab.summercattle.commons.db.meta.ReferenceFieldInfo;
+import com.gitlab.summercattle.commons.db.meta.ReferencedFieldInfo;
 import com.gitlab.summercattle.commons.db.meta.TableMeta;
 import com.gitlab.summercattle.commons.db.meta.TableMetaParser;
 import com.gitlab.summercattle.commons.db.meta.TableMetaSource;
 import com.gitlab.summercattle.commons.db.meta.annotation.AnnotatedTableMeta;
+import com.gitlab.summercattle.commons.db.meta.impl.ReferencedFieldInfoImpl;
 import com.gitlab.summercattle.commons.exception.CommonException;
 import com.google.inject.Inject;
 
 public class DbMetaIModelImpl implements DbMetaModel {
 
-	private final List<TableMeta> tableMetas = new Vector<TableMeta>();
-
 	@Inject
 	private Set<TableMetaParser> tableMetaParsers;
 
-	private boolean initialization = false;
+	/**
+	 * 初始化后发布的只读索引,读取时不加锁
+	 */
+	private volatile MetaIndex metaIndex;
 
-	private synchronized void initialize() throws CommonException {
-		if (!initialization) {
-			for (TableMetaParser tableMetaParser : tableMetaParsers) {
-				tableMetaParser.parser(tableMetas);
+	private MetaIndex getMetaIndex() throws CommonException {
+		MetaIndex index = metaIndex;
+		if (null == index) {
+			synchronized (this) {
+				index = metaIndex;
+				if (null == index) {
+					List<TableMeta> tableMetas = new Vector<TableMeta>();
+					for (TableMetaParser tableMetaParser : tableMetaParsers) {
+						tableMetaParser.parser(tableMetas);
+					}
+					index = new MetaIndex(tableMetas);
+					metaIndex = index;
+				}
 			}
-			initialization = true;
 		}
+		return index;
+	}
+
+	@Override
+	public List<ReferencedFieldInfo> getReferencedFieldInfos(String name) throws CommonException {
+		TableMeta tableMeta = getTable(name);
+		List<ReferencedFieldInfo> result = getMetaIndex().referencedFieldInfos.get(tableMeta.getName().toUpperCase());
+		return null != result ? result : Collections.emptyList();
 	}
 
 	@Override
@@ -53,16 +76,7 @@ public class DbMetaIModelImpl implements DbMetaModel {
 		if (StringUtils.isBlank(name)) {
 			throw new CommonException("名称为空");
 		}
-		if (!initialization) {
-			initialize();
-		}
-		TableMeta result = null;
-		for (TableMeta tableMeta : tableMetas) {
-			if (name.equalsIgnoreCase(tableMeta.getName()) || name.equalsIgnoreCase(tableMeta.getAlias())) {
-				result = tableMeta;
-				break;
-			}
-		}
+		TableMeta result = getMetaIndex().tablesByName.get(name.toUpperCase());
 		if (null == result) {
 			throw new CommonException("不存在数据表名称或别名'" + name + "'");
 		}
@@ -71,10 +85,7 @@ public class DbMetaIModelImpl implements DbMetaModel {
 
 	@Override
 	public TableMeta[] getTables() throws CommonException {
-		if (!initialization) {
-			initialize();
-		}
-		return tableMetas.toArray(new TableMeta[0]);
+		return getMetaIndex().tables.clone();
 	}
 
 	@Override
@@ -86,16 +97,7 @@ public class DbMetaIModelImpl implements DbMetaModel {
 			throw new CommonException("类'" + clazz.getName() + "'没有数据表注解");
 		}
 		String className = clazz.getName();
-		if (!initialization) {
-			initialize();
-		}
-		AnnotatedTableMeta result = null;
-		for (TableMeta tableMeta : tableMetas) {
-			if (tableMeta.getSource() == TableMetaSource.Annotated && ((AnnotatedTableMeta) tableMeta).getClassTypeName().equals(className)) {
-				result = (AnnotatedTableMeta) tableMeta;
-				break;
-			}
-		}
+		AnnotatedTableMeta result = getMetaIndex().tablesByClass.get(className);
 		if (null == result) {
 			throw new CommonException("类'" + className + "'没有找到相应的数据表注解信息");
 		}
@@ -107,17 +109,7 @@ public class DbMetaIModelImpl implements DbMetaModel {
 		if (StringUtils.isBlank(name)) {
 			throw new CommonException("名称为空");
 		}
-		if (!initialization) {
-			initialize();
-		}
-		boolean result = false;
-		for (TableMeta tableMeta : tableMetas) {
-			if (name.equalsIgnoreCase(tableMeta.getName()) || name.equalsIgnoreCase(tableMeta.getAlias())) {
-				result = true;
-				break;
-			}
-		}
-		return result;
+		return getMetaIndex().tablesByName.containsKey(name.toUpperCase());
 	}
 
 	@Override
@@ -128,14 +120,59 @@ public class DbMetaIModelImpl implements DbMetaModel {
 		if (null == clazz.getAnnotation(Table.class)) {
 			throw new CommonException("类'" + clazz.getName() + "'没有数据表注解");
 		}
-		String className = clazz.getName();
-		boolean result = false;
-		for (TableMeta tableMeta : tableMetas) {
-			if (tableMeta.getSource() == TableMetaSource.Annotated && ((AnnotatedTableMeta) tableMeta).getClassTypeName().equals(className)) {
-				result = true;
-				break;
+		return getMetaIndex().tablesByClass.containsKey(clazz.getName());
+	}
+
+	private static class MetaIndex {
+
+		private final TableMeta[] tables;
+
+		/**
+		 * 名称及别名(大写)索引,名称或别名重复时以先出现的数据表为准
+		 */
+		private final Map<String, TableMeta> tablesByName;
+
+		private final Map<String, AnnotatedTableMeta> tablesByClass;
+
+		/**
+		 * 反向引用索引,Key为被引用数据表名(大写)
+		 */
+		private final Map<String, List<ReferencedFieldInfo>> referencedFieldInfos;
+
+		MetaIndex(List<TableMeta> tableMetas) throws CommonException {
+			tables = tableMetas.toArray(new TableMeta[0]);
+			Map<String, TableMeta> names = new HashMap<String, TableMeta>();
+			Map<String, AnnotatedTableMeta> classes = new HashMap<String, AnnotatedTableMeta>();
+			for (TableMeta tableMeta : tables) {
+				names.putIfAbsent(tableMeta.getName().toUpperCase(), tableMeta);
+				if (StringUtils.isNotBlank(tableMeta.getAlias())) {
+					names.putIfAbsent(tableMeta.getAlias().toUpperCase(), tableMeta);
+				}
+				if (tableMeta.getSource() == TableMetaSource.Annotated) {
+					classes.putIfAbsent(((AnnotatedTableMeta) tableMeta).getClassTypeName(), (AnnotatedTableMeta) tableMeta);
+				}
 			}
+			tablesByName = Collections.unmodifiableMap(names);
+			tablesByClass = Collections.unmodifiableMap(classes);
+			referencedFieldInfos = Collections.unmodifiableMap(buildReferencedFieldInfos(tables, names));
+		}
+
+		private static Map<String, List<ReferencedFieldInfo>> buildReferencedFieldInfos(TableMeta[] tables, Map<String, TableMeta> names)
+				throws CommonException {
+			Map<String, List<ReferencedFieldInfo>> infos = new HashMap<String, List<ReferencedFieldInfo>>();
+			for (TableMeta tableMeta : tables) {
+				for (ReferenceFieldInfo referenceFieldInfo : tableMeta.getReferenceFieldInfos()) {
+					TableMeta referenceTableMeta = names.get(referenceFieldInfo.getReferenceTableName().toUpperCase());
+					if (null != referenceTableMeta && !referenceTableMeta.getName().equals(tableMeta.getName())) {
+						infos.computeIfAbsent(referenceTableMeta.getName().toUpperCase(), k -> new Vector<ReferencedFieldInfo>())
+								.add(new ReferencedFieldInfoImpl(tableMeta.getName(), referenceFieldInfo.getName()));
+					}
+				}
+			}
+			for (Map.Entry<String, List<ReferencedFieldInfo>> entry : infos.entrySet()) {
+				entry.setValue(Collections.unmodifiableList(entry.getValue()));
+			}
+			return infos;
 		}
-		return result;
 	}
 }
\ No newline at end of file
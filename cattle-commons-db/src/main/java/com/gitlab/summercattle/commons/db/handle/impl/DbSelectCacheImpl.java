@@ -0,0 +1,225 @@
+/*
+ * Copyright (C) 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gitlab.summercattle.commons.db.handle.impl;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.gitlab.summercattle.commons.db.configure.DbProperties;
+import com.gitlab.summercattle.commons.db.constants.DataConstants;
+import com.gitlab.summercattle.commons.db.constants.SelectCacheScope;
+import com.gitlab.summercattle.commons.db.handle.DbSelectCache;
+import com.gitlab.summercattle.commons.db.handle.SelectCacheStats;
+import com.gitlab.summercattle.commons.db.object.DataTable;
+import com.gitlab.summercattle.commons.db.object.internal.InternalDataTable;
+import com.gitlab.summercattle.commons.exception.CommonException;
+import com.gitlab.summercattle.commons.utils.cache.Cache;
+import com.gitlab.summercattle.commons.utils.cache.CacheManager;
+import com.google.inject.Inject;
+
+public class DbSelectCacheImpl implements DbSelectCache {
+
+	private static final Logger logger = LoggerFactory.getLogger(DbSelectCacheImpl.class);
+
+	private static final int MIN_PRUNE_SIZE = 1024;
+
+	@Inject
+	private CacheManager cacheManager;
+
+	private final ConcurrentMap<String, TableIndex> indexes = new ConcurrentHashMap<String, TableIndex>();
+
+	private String getCacheName(String tableName) {
+		return DataConstants.CAFFEINE_SELECT + "_" + tableName.toUpperCase();
+	}
+
+	private TableIndex getIndex(String tableName) {
+		return indexes.computeIfAbsent(tableName.toUpperCase(), k -> new TableIndex());
+	}
+
+	@Override
+	public DataTable get(DbProperties dbProperties, String tableName, String cacheKey) throws CommonException {
+		Cache cache = cacheManager.getCache(getCacheName(tableName), dbProperties.getCacheProps());
+		DataTable dataTable = (DataTable) cache.get(cacheKey);
+		TableIndex index = getIndex(tableName);
+		if (null != dataTable) {
+			index.hits.incrementAndGet();
+		}
+		else {
+			index.misses.incrementAndGet();
+		}
+		return dataTable;
+	}
+
+	@Override
+	public void put(DbProperties dbProperties, String tableName, String cacheKey, DataTable dataTable, SelectCacheScope scope)
+			throws CommonException {
+		Cache cache = cacheManager.getCache(getCacheName(tableName), dbProperties.getCacheProps());
+		Object[] ids = ((InternalDataTable) dataTable).getPrimaryValues();
+		TableIndex index = getIndex(tableName);
+		index.put(cacheKey, scope, ids, cache);
+		cache.put(cacheKey, dataTable);
+		index.puts.incrementAndGet();
+	}
+
+	@Override
+	public void evict(DbProperties dbProperties, String tableName, Collection<Object> modifiedIds, Collection<Object> deletedIds, boolean inserted)
+			throws CommonException {
+		Cache cache = cacheManager.getCache(getCacheName(tableName), dbProperties.getCacheProps());
+		TableIndex index = getIndex(tableName);
+		Set<String> cacheKeys = index.remove(modifiedIds, deletedIds, inserted);
+		for (String cacheKey : cacheKeys) {
+			cache.remove(cacheKey);
+		}
+		index.evictions.addAndGet(cacheKeys.size());
+		logger.debug("数据库缓存'" + tableName + "'失效" + cacheKeys.size() + "个缓存条目");
+	}
+
+	@Override
+	public void clear(String tableName) throws CommonException {
+		cacheManager.removeCache(getCacheName(tableName));
+		TableIndex index = getIndex(tableName);
+		index.clear();
+		index.clears.incrementAndGet();
+	}
+
+	@Override
+	public SelectCacheStats getStats(String tableName) {
+		return getIndex(tableName).getStats();
+	}
+
+	@Override
+	public Map<String, SelectCacheStats> getStats() {
+		Map<String, SelectCacheStats> result = new HashMap<String, SelectCacheStats>();
+		for (Map.Entry<String, TableIndex> entry : indexes.entrySet()) {
+			result.put(entry.getKey(), entry.getValue().getStats());
+		}
+		return result;
+	}
+
+	private static class TableIndex {
+
+		private final AtomicLong hits = new AtomicLong();
+
+		private final AtomicLong misses = new AtomicLong();
+
+		private final AtomicLong puts = new AtomicLong();
+
+		private final AtomicLong evictions = new AtomicLong();
+
+		private final AtomicLong clears = new AtomicLong();
+
+		private final Map<String, SelectCacheScope> keyScopes = new HashMap<String, SelectCacheScope>();
+
+		private final Map<String, Set<String>> keyIds = new HashMap<String, Set<String>>();
+
+		private final Map<String, Set<String>> idKeys = new HashMap<String, Set<String>>();
+
+		private int pruneSize = MIN_PRUNE_SIZE;
+
+		synchronized void put(String cacheKey, SelectCacheScope scope, Object[] ids, Cache cache) {
+			removeKey(cacheKey);
+			//缓存自身过期的条目不会通知索引,条目数超过阈值时清理
+			if (keyScopes.size() >= pruneSize) {
+				Iterator<String> iterator = new HashSet<String>(keyScopes.keySet()).iterator();
+				while (iterator.hasNext()) {
+					String key = iterator.next();
+					if (null == cache.get(key)) {
+						removeKey(key);
+					}
+				}
+				pruneSize = Math.max(MIN_PRUNE_SIZE, keyScopes.size() * 2);
+			}
+			Set<String> strIds = new HashSet<String>();
+			for (Object id : ids) {
+				if (null != id) {
+					String strId = id.toString();
+					strIds.add(strId);
+					idKeys.computeIfAbsent(strId, k -> new HashSet<String>()).add(cacheKey);
+				}
+			}
+			keyScopes.put(cacheKey, scope);
+			keyIds.put(cacheKey, strIds);
+		}
+
+		synchronized Set<String> remove(Collection<Object> modifiedIds, Collection<Object> deletedIds, boolean inserted) {
+			Set<String> cacheKeys = new HashSet<String>();
+			addKeys(cacheKeys, modifiedIds);
+			addKeys(cacheKeys, deletedIds);
+			//条件查询在记录修改或新增后可能匹配新的记录,删除的记录只影响包含它的条目,
+			//包含标识删除记录的条件查询在删除后也可能匹配新的记录,有新增记录时无条件查询也失效
+			boolean conditionChanged = inserted || !modifiedIds.isEmpty();
+			for (Map.Entry<String, SelectCacheScope> entry : keyScopes.entrySet()) {
+				SelectCacheScope scope = entry.getValue();
+				if ((scope == SelectCacheScope.Condition && conditionChanged)
+						|| (scope == SelectCacheScope.ConditionIncludeDeleted && (conditionChanged || !deletedIds.isEmpty()))
+						|| (scope == SelectCacheScope.All && inserted)) {
+					cacheKeys.add(entry.getKey());
+				}
+			}
+			for (String cacheKey : cacheKeys) {
+				removeKey(cacheKey);
+			}
+			return cacheKeys;
+		}
+
+		private void addKeys(Set<String> cacheKeys, Collection<Object> ids) {
+			for (Object id : ids) {
+				if (null != id) {
+					Set<String> keys = idKeys.get(id.toString());
+					if (null != keys) {
+						cacheKeys.addAll(keys);
+					}
+				}
+			}
+		}
+
+		synchronized void clear() {
+			keyScopes.clear();
+			keyIds.clear();
+			idKeys.clear();
+		}
+
+		private void removeKey(String cacheKey) {
+			keyScopes.remove(cacheKey);
+			Set<String> ids = keyIds.remove(cacheKey);
+			if (null != ids) {
+				for (String id : ids) {
+					Set<String> keys = idKeys.get(id);
+					if (null != keys) {
+						keys.remove(cacheKey);
+						if (keys.isEmpty()) {
+							idKeys.remove(id);
+						}
+					}
+				}
+			}
+		}
+
+		SelectCacheStats getStats() {
+			return new SelectCacheStatsImpl(hits.get(), misses.get(), puts.get(), evictions.get(), clears.get());
+		}
+	}
+}
\ No newline at end of file
@@ -26,6 +26,7 @@ import org.slf4j.LoggerFactory;
 import com.gitlab.summercattle.commons.db.configure.DbProperties;
 import com.gitlab.summercattle.commons.db.constants.DataConstants;
 import com.gitlab.summercattle.commons.db.constants.DataType;
+import com.gitlab.summercattle.commons.db.constants.PrimaryKeyGenerator;
 import com.gitlab.summercattle.commons.db.dialect.Dialect;
 import com.gitlab.summercattle.commons.db.handle.DbMetaModel;
 import com.gitlab.summercattle.commons.db.handle.DbStruct;
@@ -113,8 +114,8 @@ public class DbStructImpl implements DbStruct {
 								length = 10;
 							}
 							else {
-								dataType = DataType.NString;
-								length = 50;
+								dataType = null;
+								length = 0;
 							}
 						}
 						else {
@@ -123,6 +124,11 @@ public class DbStructImpl implements DbStruct {
 						}
 						TableFieldStruct fieldStruct = (TableFieldStruct) lTableStruct.getField(fieldMeta.getName());
 						if (fieldStruct != null) {
+							if (null == dataType) {
+								boolean compact = isCompactStringKeyColumn(ctx, dbProperties, fieldStruct);
+								dataType = getStringKeyType(compact);
+								length = getStringKeyLength(dbProperties, compact);
+							}
 							checkTableColumn(ctx, tableMeta.getName(), fieldStruct, dataType, length, scale);
 						}
 						else {
@@ -163,7 +169,9 @@ public class DbStructImpl implements DbStruct {
 							checkTableColumn(ctx, tableMeta.getName(), primaryFieldStruct, DataType.Number, 10, 0);
 						}
 						else {
-							checkTableColumn(ctx, tableMeta.getName(), primaryFieldStruct, DataType.NString, 50, 0);
+							boolean compact = isCompactStringKeyColumn(ctx, dbProperties, primaryFieldStruct);
+							checkTableColumn(ctx, tableMeta.getName(), primaryFieldStruct, getStringKeyType(compact), getStringKeyLength(dbProperties, compact),
+									0);
 						}
 					}
 					else {
@@ -185,6 +193,7 @@ public class DbStructImpl implements DbStruct {
 			return;
 		}
 		logger.info("检查数据表开始");
+		clearCache();
 		TableMeta[] tableMetas = dbMetaModel.getTables();
 		for (TableMeta tableMeta : tableMetas) {
 			dbTransaction.doSimpleDal(ctx -> {
@@ -208,9 +217,19 @@ public class DbStructImpl implements DbStruct {
 				return null;
 			});
 		}
+		clearCache();
 		logger.info("检查数据表结束");
 	}
 
+	@Override
+	public void clearCache() throws CommonException {
+		cacheManager.removeCache(DataConstants.CAFFEINE_TABLE_EXIST);
+		cacheManager.removeCache(DataConstants.CAFFEINE_VIEW_EXIST);
+		cacheManager.removeCache(DataConstants.CAFFEINE_TABLE_STRUCT);
+		cacheManager.removeCache(DataConstants.CAFFEINE_VIEW_STRUCT);
+		cacheManager.removeCache(DataConstants.CAFFEINE_PARSED_SQL);
+	}
+
 	private void checkModify(DbProperties dbProperties, SimpleDalContext ctx, TableMeta tableMeta, TableObjectStruct tableStruct)
 			throws CommonException {
 		//检查表信息
@@ -244,8 +263,8 @@ public class DbStructImpl implements DbStruct {
 					length = 10;
 				}
 				else {
-					dataType = DataType.NString;
-					length = 50;
+					dataType = null;
+					length = 0;
 				}
 			}
 			else {
@@ -253,6 +272,13 @@ public class DbStructImpl implements DbStruct {
 						"表'" + tableMeta.getName() + "'的字段'" + fieldMeta.getName() + "'模式'" + fieldMeta.getMode().toString() + "'不支持");
 			}
 			TableFieldStruct fieldStruct = (TableFieldStruct) tableStruct.getField(fieldMeta.getName());
+			if (null == dataType) {
+				TableMeta referenceTable = dbMetaModel.getTable(((ReferenceFieldMeta) fieldMeta).getReferenceTableName());
+				boolean compact = fieldStruct != null ? isCompactStringKeyColumn(ctx, dbProperties, fieldStruct)
+						: isCompactReferenceColumn(ctx, dbProperties, referenceTable);
+				dataType = getStringKeyType(compact);
+				length = getStringKeyLength(dbProperties, compact);
+			}
 			if (fieldStruct != null) {
 				processTableColumn(ctx, tableMeta.getName(), fieldStruct, dataType, length, scale, fieldMeta.allowNull(), defaultValue,
 						fieldMeta.getComment());
@@ -298,7 +324,9 @@ public class DbStructImpl implements DbStruct {
 				processTableColumn(ctx, tableMeta.getName(), primaryFieldStruct, DataType.Number, 10, 0, false, null, PRIMARY_FIELD_COMMENT);
 			}
 			else {
-				processTableColumn(ctx, tableMeta.getName(), primaryFieldStruct, DataType.NString, 50, 0, false, null, PRIMARY_FIELD_COMMENT);
+				boolean compact = isCompactStringKeyColumn(ctx, dbProperties, primaryFieldStruct);
+				processTableColumn(ctx, tableMeta.getName(), primaryFieldStruct, getStringKeyType(compact), getStringKeyLength(dbProperties, compact), 0,
+						false, null, PRIMARY_FIELD_COMMENT);
 			}
 		}
 		else {
@@ -508,7 +536,8 @@ public class DbStructImpl implements DbStruct {
 		StringBuilder buf = new StringBuilder(ctx.getDialect().getCreateTableString() + " " + tableMeta.getName() + " (")
 				.append(ctx.getDialect().quote(dbProperties.getPrimaryField()) + " "
 						+ (tableMeta.isPrimaryKeyUseNumber() ? ctx.getDialect().getTypeName(DataType.Number, 10, 0)
-								: ctx.getDialect().getTypeName(DataType.NString, 50, 0))
+								: ctx.getDialect().getTypeName(getStringKeyType(dbProperties.isCompactPrimaryKey()),
+										getStringKeyLength(dbProperties, dbProperties.isCompactPrimaryKey()), 0))
 						+ " not null")
 				.append(ctx.getDialect().getColumnComment(PRIMARY_FIELD_COMMENT) + ",");
 		FieldMeta[] fieldMetas = tableMeta.getFields();
@@ -531,8 +560,9 @@ public class DbStructImpl implements DbStruct {
 					length = 10;
 				}
 				else {
-					dataType = DataType.NString;
-					length = 50;
+					boolean compact = isCompactReferenceColumn(ctx, dbProperties, referenceTable);
+					dataType = getStringKeyType(compact);
+					length = getStringKeyLength(dbProperties, compact);
 				}
 			}
 			else {
@@ -645,6 +675,41 @@ public class DbStructImpl implements DbStruct {
 		ctx.execute(buf.toString());
 	}
 
+	/**
+	 * 字符型主键及引用字段的数据类型,紧凑存储时按主键生成方式的长度使用非Unicode字符
+	 */
+	private DataType getStringKeyType(boolean compact) {
+		return compact ? DataType.String : DataType.NString;
+	}
+
+	private int getStringKeyLength(DbProperties dbProperties, boolean compact) {
+		if (compact) {
+			return dbProperties.getPrimaryKeyGenerator() == PrimaryKeyGenerator.ULID ? 26 : 32;
+		}
+		return 50;
+	}
+
+	/**
+	 * 紧凑存储只用于新建的表和字段,已存在的字段仅在与紧凑定义一致时按紧凑定义检查,否则按原有定义检查
+	 */
+	private boolean isCompactStringKeyColumn(SimpleDalContext ctx, DbProperties dbProperties, TableFieldStruct fieldStruct) throws CommonException {
+		int compactLength = getStringKeyLength(dbProperties, true);
+		return fieldStruct.getLength() == compactLength
+				&& ctx.getDialect().getTypeSimpleName(getStringKeyType(true), compactLength, 0).equalsIgnoreCase(fieldStruct.getTypeName());
+	}
+
+	/**
+	 * 新增的引用字段与被引用表实际的主键字段一致,被引用表不是紧凑存储时使用原有定义,被引用表尚未创建时按当前配置
+	 */
+	private boolean isCompactReferenceColumn(SimpleDalContext ctx, DbProperties dbProperties, TableMeta referenceTable) throws CommonException {
+		if (!ctx.getDialect().getStructHandler().existTable(ctx.getConnection(), referenceTable.getName())) {
+			return dbProperties.isCompactPrimaryKey();
+		}
+		TableObjectStruct referenceStruct = ctx.getDialect().getStructHandler().getTable(ctx.getConnection(), referenceTable.getName());
+		TableFieldStruct primaryFieldStruct = (TableFieldStruct) referenceStruct.getField(dbProperties.getPrimaryField());
+		return primaryFieldStruct != null && isCompactStringKeyColumn(ctx, dbProperties, primaryFieldStruct);
+	}
+
 	private void createCustomSequenceTable(SimpleDalContext ctx) throws CommonException {
 		String createSQL = ctx.getDialect().getCreateTableString() + " " + DataConstants.SEQUENCE_TABLE_NAME + " (";
 		createSQL += ctx.getDialect().quote(DataConstants.SEQUENCE_FIELD_NAME) + " " + ctx.getDialect().getTypeName(DataType.NString, 50, 0)
@@ -678,12 +743,18 @@ public class DbStructImpl implements DbStruct {
 		if (StringUtils.isBlank(name)) {
 			throw new CommonException("表名为空");
 		}
-		return dbTransaction.doSimpleDal(ctx -> {
-			if (!ctx.getDialect().getStructHandler().supportsTable()) {
-				throw new CommonException("不支持数据表结构的查询");
-			}
-			return ctx.getDialect().getStructHandler().existTable(ctx.getConnection(), name);
-		});
+		Cache cache = cacheManager.getCache(DataConstants.CAFFEINE_TABLE_EXIST);
+		Boolean exist = (Boolean) cache.get(name.toLowerCase());
+		if (null == exist) {
+			exist = dbTransaction.doSimpleDal(ctx -> {
+				if (!ctx.getDialect().getStructHandler().supportsTable()) {
+					throw new CommonException("不支持数据表结构的查询");
+				}
+				return ctx.getDialect().getStructHandler().existTable(ctx.getConnection(), name);
+			});
+			cache.put(name.toLowerCase(), exist);
+		}
+		return exist;
 	}
 
 	@Override
@@ -691,12 +762,18 @@ public class DbStructImpl implements DbStruct {
 		if (StringUtils.isBlank(name)) {
 			throw new CommonException("视图名为空");
 		}
-		return dbTransaction.doSimpleDal(ctx -> {
-			if (!ctx.getDialect().getStructHandler().supportsView()) {
-				throw new CommonException("不支持数据视图结构的查询");
-			}
-			return ctx.getDialect().getStructHandler().existView(ctx.getConnection(), name);
-		});
+		Cache cache = cacheManager.getCache(DataConstants.CAFFEINE_VIEW_EXIST);
+		Boolean exist = (Boolean) cache.get(name.toLowerCase());
+		if (null == exist) {
+			exist = dbTransaction.doSimpleDal(ctx -> {
+				if (!ctx.getDialect().getStructHandler().supportsView()) {
+					throw new CommonException("不支持数据视图结构的查询");
+				}
+				return ctx.getDialect().getStructHandler().existView(ctx.getConnection(), name);
+			});
+			cache.put(name.toLowerCase(), exist);
+		}
+		return exist;
 	}
 
 	@Override
@@ -19,15 +19,20 @@ import java.sql.CallableStatement;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Types;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.codec.DecoderException;
 import org.apache.commons.codec.binary.Hex;
 import org.apache.commons.compress.compressors.CompressorStreamFactory;
 import org.apache.commons.lang3.StringUtils;
 
+import com.gitlab.summercattle.commons.db.configure.DbProperties;
 import com.gitlab.summercattle.commons.db.constants.DataConstants;
 import com.gitlab.summercattle.commons.db.constants.TransactionLevel;
 import com.gitlab.summercattle.commons.db.dialect.Dialect;
@@ -37,13 +42,13 @@ import com.gitlab.summercattle.commons.db.handle.DbTransaction;
 import com.gitlab.summercattle.commons.db.object.DataTable;
 import com.gitlab.summercattle.commons.db.utils.JdbcUtils;
 import com.gitlab.summercattle.commons.exception.CommonException;
-import com.gitlab.summercattle.commons.utils.auxiliary.ArrayUtils;
 import com.gitlab.summercattle.commons.utils.auxiliary.CompressUtils;
 import com.gitlab.summercattle.commons.utils.auxiliary.ObjectUtils;
 import com.gitlab.summercattle.commons.utils.exception.ExceptionWrapUtils;
 import com.gitlab.summercattle.commons.utils.security.CommonEncryptUtils;
 import com.gitlab.summercattle.commons.utils.security.constants.CommonEncryptType;
 import com.gitlab.summercattle.commons.utils.security.constants.PaddingType;
+import com.gitlab.summercattle.commons.utils.spring.SpringContext;
 import com.google.inject.Inject;
 
 public class DbToolImpl implements DbTool {
@@ -54,6 +59,10 @@ public class DbToolImpl implements DbTool {
 	@Inject
 	private DbSecurityKey dbSecurityKey;
 
+	private final SequenceAllocator sequenceAllocator = new SequenceAllocator(this::loadSequenceValues);
+
+	private final Set<String> sequences = ConcurrentHashMap.newKeySet();
+
 	@Override
 	public Date getCurrentDate() throws CommonException {
 		return dbTransaction.doSimpleDal(ctx -> {
@@ -72,7 +81,7 @@ public class DbToolImpl implements DbTool {
 		try {
 			cs = conn.prepareCall(strSQL);
 			cs.registerOutParameter(1, Types.TIMESTAMP);
-			JdbcUtils.execute(cs, "执行SQL语句:" + strSQL);
+			JdbcUtils.execute(cs, strSQL, null);
 			return new Date(cs.getTimestamp(1).getTime());
 		}
 		catch (SQLException e) {
@@ -88,7 +97,7 @@ public class DbToolImpl implements DbTool {
 		ResultSet rs = null;
 		try {
 			ps = conn.prepareStatement(strSQL);
-			rs = JdbcUtils.executeQuery(ps, "执行SQL语句:" + strSQL);
+			rs = JdbcUtils.executeQuery(ps, strSQL, null);
 			rs.next();
 			return new Date(rs.getTimestamp(1).getTime());
 		}
@@ -106,37 +115,52 @@ public class DbToolImpl implements DbTool {
 		if (StringUtils.isBlank(sequenceName)) {
 			throw new CommonException("序列名为空");
 		}
+		DbProperties dbProperties = SpringContext.getBean(DbProperties.class);
+		return sequenceAllocator.next(sequenceName.toUpperCase(), dbProperties.getSequenceBlockSize(), dbProperties.getSequencePrefetchRatio());
+	}
+
+	private long[] loadSequenceValues(String sequenceName, int size) throws CommonException {
 		return dbTransaction.doSimpleDal(TransactionLevel.REQUIRES_NEW, context -> {
-			String lSequenceName = sequenceName.toUpperCase();
 			if (context.getDialect().supportsSequences()) {
-				lSequenceName = DataConstants.SEQUENCE_PREFIX + lSequenceName;
-				if (!isSequence(context.getDialect(), context.getConnection(), lSequenceName)) {
+				String lSequenceName = DataConstants.SEQUENCE_PREFIX + sequenceName;
+				if (!existSequence(context.getDialect(), context.getConnection(), lSequenceName)) {
 					String strSQL = context.getDialect().getCreateSequenceCommand(lSequenceName);
 					JdbcUtils.executeSQL(context.getConnection(), strSQL);
+					sequences.add(lSequenceName);
 				}
-				return getSequenceNextValue(context.getDialect(), context.getConnection(), lSequenceName);
+				return getSequenceNextValues(context.getDialect(), context.getConnection(), lSequenceName, size);
 			}
 			else {
-				return getCustomNextVal(context.getDialect(), context.getConnection(), lSequenceName);
+				return getCustomNextValues(context.getDialect(), context.getConnection(), sequenceName, size);
 			}
 		});
 	}
 
-	private boolean isSequence(Dialect dialect, Connection conn, String sequenceName) throws CommonException {
+	private boolean existSequence(Dialect dialect, Connection conn, String sequenceName) throws CommonException {
+		if (sequences.contains(sequenceName)) {
+			return true;
+		}
 		PreparedStatement ps = null;
 		ResultSet rs = null;
 		try {
-			boolean hasSequence = false;
 			String strSQL = dialect.getQuerySequencesCommand();
 			ps = conn.prepareStatement(strSQL);
-			rs = JdbcUtils.executeQuery(ps, "执行SQL语句:" + strSQL);
-			while (rs.next()) {
-				if (rs.getString(1).equals("EAPP_" + sequenceName)) {
-					hasSequence = true;
+			rs = JdbcUtils.executeQuery(ps, strSQL, null);
+			int columnIndex = 1;
+			ResultSetMetaData metaData = rs.getMetaData();
+			for (int i = 1; i <= metaData.getColumnCount(); i++) {
+				if (DataConstants.SEQUENCE_FIELD_NAME.equalsIgnoreCase(metaData.getColumnLabel(i))) {
+					columnIndex = i;
 					break;
 				}
 			}
-			return hasSequence;
+			while (rs.next()) {
+				String name = rs.getString(columnIndex);
+				if (null != name) {
+					sequences.add(name.toUpperCase());
+				}
+			}
+			return sequences.contains(sequenceName);
 		}
 		catch (SQLException e) {
 			throw ExceptionWrapUtils.wrap(e);
@@ -147,15 +171,32 @@ public class DbToolImpl implements DbTool {
 		}
 	}
 
-	private long getSequenceNextValue(Dialect dialect, Connection conn, String sequenceName) throws CommonException {
+	private long[] getSequenceNextValues(Dialect dialect, Connection conn, String sequenceName, int size) throws CommonException {
+		long[] values = new long[size];
 		PreparedStatement ps = null;
 		ResultSet rs = null;
 		try {
+			if (size > 1 && dialect.supportsSequenceNextValues()) {
+				String strSQL = dialect.getSequenceNextValuesString(sequenceName);
+				ps = conn.prepareStatement(strSQL);
+				ps.setInt(1, size);
+				rs = JdbcUtils.executeQuery(ps, strSQL, new Object[] { size });
+				int index = 0;
+				while (index < size && rs.next()) {
+					values[index++] = rs.getLong(1);
+				}
+				return index == size ? values : Arrays.copyOf(values, index);
+			}
 			String strSQL = dialect.getSequenceNextValString(sequenceName);
 			ps = conn.prepareStatement(strSQL);
-			rs = JdbcUtils.executeQuery(ps, "执行SQL语句:" + strSQL);
-			rs.next();
-			return rs.getLong(1);
+			for (int i = 0; i < size; i++) {
+				rs = JdbcUtils.executeQuery(ps, strSQL, null);
+				rs.next();
+				values[i] = rs.getLong(1);
+				JdbcUtils.closeResultSet(rs);
+				rs = null;
+			}
+			return values;
 		}
 		catch (SQLException e) {
 			throw ExceptionWrapUtils.wrap(e);
@@ -166,7 +207,7 @@ public class DbToolImpl implements DbTool {
 		}
 	}
 
-	private synchronized long getCustomNextVal(Dialect dialect, Connection conn, String sequenceName) throws CommonException {
+	private long[] getCustomNextValues(Dialect dialect, Connection conn, String sequenceName, int size) throws CommonException {
 		int rows = 0;
 		long value = 0;
 		do {
@@ -177,7 +218,7 @@ public class DbToolImpl implements DbTool {
 						+ dialect.getForUpdateString();
 				queryPs = conn.prepareStatement(sql);
 				queryPs.setString(1, sequenceName);
-				queryRs = JdbcUtils.executeQuery(queryPs, "执行SQL语句:" + sql + ",参数值:" + ArrayUtils.toString(new Object[] { sequenceName }));
+				queryRs = JdbcUtils.executeQuery(queryPs, sql, new Object[] { sequenceName });
 				if (!queryRs.next()) {
 					PreparedStatement insertPs = null;
 					try {
@@ -185,7 +226,7 @@ public class DbToolImpl implements DbTool {
 						insertPs = conn.prepareStatement(sql);
 						insertPs.setString(1, sequenceName);
 						insertPs.setLong(2, value);
-						JdbcUtils.executeUpdate(insertPs, "执行SQL语句:" + sql + ",参数值:" + ArrayUtils.toString(new Object[] { sequenceName, value }));
+						JdbcUtils.executeUpdate(insertPs, sql, new Object[] { sequenceName, value });
 					}
 					finally {
 						JdbcUtils.closeStatement(insertPs);
@@ -206,11 +247,10 @@ public class DbToolImpl implements DbTool {
 			try {
 				String sql = "update " + DataConstants.SEQUENCE_TABLE_NAME + " set sequence_value=? where sequence_name=? and sequence_value=?";
 				updatePs = conn.prepareStatement(sql);
-				updatePs.setLong(1, value + 1);
+				updatePs.setLong(1, value + size);
 				updatePs.setString(2, sequenceName);
 				updatePs.setLong(3, value);
-				rows = JdbcUtils.executeUpdate(updatePs,
-						"执行SQL语句:" + sql + ",参数值:" + ArrayUtils.toString(new Object[] { value + 1, sequenceName, value }));
+				rows = JdbcUtils.executeUpdate(updatePs, sql, new Object[] { value + size, sequenceName, value });
 			}
 			catch (SQLException e) {
 				throw ExceptionWrapUtils.wrap(e);
@@ -220,7 +260,11 @@ public class DbToolImpl implements DbTool {
 			}
 		}
 		while (rows == 0);
-		return value + 1;
+		long[] values = new long[size];
+		for (int i = 0; i < size; i++) {
+			values[i] = value + i + 1;
+		}
+		return values;
 	}
 
 	@Override
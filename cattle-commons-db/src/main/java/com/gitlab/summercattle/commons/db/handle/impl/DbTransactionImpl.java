@@ -31,10 +31,10 @@ import com.gitlab.summercattle.commons.db.constants.IsolationLevel;
 import com.gitlab.summercattle.commons.db.constants.TransactionLevel;
 import com.gitlab.summercattle.commons.db.dialect.Dialect;
 import com.gitlab.summercattle.commons.db.handle.Dal;
+import com.gitlab.summercattle.commons.db.handle.DbSelectCache;
 import com.gitlab.summercattle.commons.db.handle.DbTransaction;
 import com.gitlab.summercattle.commons.db.handle.SimpleDal;
 import com.gitlab.summercattle.commons.exception.CommonException;
-import com.gitlab.summercattle.commons.utils.cache.CacheManager;
 import com.gitlab.summercattle.commons.utils.exception.ExceptionWrapUtils;
 import com.gitlab.summercattle.commons.utils.reflect.annotation.ClassLoadLevel;
 import com.gitlab.summercattle.commons.utils.spring.SpringContext;
@@ -48,7 +48,7 @@ public class DbTransactionImpl implements DbTransaction {
 	private static final int TRANSACTION_TIMEOUT = 3600;
 
 	@Inject
-	private CacheManager cacheManager;
+	private DbSelectCache selectCache;
 
 	@Override
 	public <T> T doDal(Dal<T> dal) throws CommonException {
@@ -62,11 +62,23 @@ public class DbTransactionImpl implements DbTransaction {
 
 	@Override
 	public <T> T doDal(TransactionLevel transactionLevel, IsolationLevel isolationLevel, int timeout, Dal<T> dal) throws CommonException {
+		return doDal(transactionLevel, isolationLevel, timeout, false, dal);
+	}
+
+	@Override
+	public <T> T doReadOnlyDal(Dal<T> dal) throws CommonException {
+		return doDal(TransactionLevel.REQUIRED, IsolationLevel.DEFAULT, TRANSACTION_TIMEOUT, true, dal);
+	}
+
+	@Override
+	public <T> T doDal(TransactionLevel transactionLevel, IsolationLevel isolationLevel, int timeout, boolean readOnly, Dal<T> dal)
+			throws CommonException {
 		DataSourceTransactionManager transactionManager = (DataSourceTransactionManager) SpringContext.getBean("transactionManager");
 		DefaultTransactionDefinition transactionDefinition = new DefaultTransactionDefinition();
 		transactionDefinition.setPropagationBehavior(getPropagationBehavior(transactionLevel));
 		transactionDefinition.setIsolationLevel(getIsolationLevel(isolationLevel));
 		transactionDefinition.setTimeout(timeout);
+		transactionDefinition.setReadOnly(readOnly);
 		TransactionStatus transactionStatus = transactionManager.getTransaction(transactionDefinition);
 		Dialect dialect = SpringContext.getBean(Dialect.class);
 		DataSource dataSource = null;
@@ -74,7 +86,7 @@ public class DbTransactionImpl implements DbTransaction {
 		try {
 			dataSource = transactionManager.getDataSource();
 			conn = DataSourceUtils.getConnection(dataSource);
-			T result = dal.execute(new DalContextImpl(dialect, conn, cacheManager));
+			T result = dal.execute(new DalContextImpl(dialect, conn, selectCache));
 			transactionManager.commit(transactionStatus);
 			logger.debug("数据库事务已提交");
 			return result;
@@ -102,12 +114,24 @@ public class DbTransactionImpl implements DbTransaction {
 
 	@Override
 	public <T> T doSimpleDal(TransactionLevel transactionLevel, IsolationLevel isolationLevel, int timeout, SimpleDal<T> dal) throws CommonException {
+		return doSimpleDal(transactionLevel, isolationLevel, timeout, false, dal);
+	}
+
+	@Override
+	public <T> T doReadOnlySimpleDal(SimpleDal<T> dal) throws CommonException {
+		return doSimpleDal(TransactionLevel.REQUIRED, IsolationLevel.DEFAULT, TRANSACTION_TIMEOUT, true, dal);
+	}
+
+	@Override
+	public <T> T doSimpleDal(TransactionLevel transactionLevel, IsolationLevel isolationLevel, int timeout, boolean readOnly, SimpleDal<T> dal)
+			throws CommonException {
 		DataSourceTransactionManager transactionManager = (DataSourceTransactionManager) SpringContext.getBean("transactionManager");
 		Dialect dialect = SpringContext.getBean(Dialect.class);
 		DefaultTransactionDefinition transactionDefinition = new DefaultTransactionDefinition();
 		transactionDefinition.setPropagationBehavior(getPropagationBehavior(transactionLevel));
 		transactionDefinition.setIsolationLevel(getIsolationLevel(isolationLevel));
 		transactionDefinition.setTimeout(timeout);
+		transactionDefinition.setReadOnly(readOnly);
 		TransactionStatus transactionStatus = transactionManager.getTransaction(transactionDefinition);
 		DataSource dataSource = null;
 		Connection conn = null;
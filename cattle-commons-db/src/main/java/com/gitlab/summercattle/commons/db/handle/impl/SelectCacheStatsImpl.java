@@ -0,0 +1,75 @@
+/*
+ * Copyright (C) 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gitlab.summercattle.commons.db.handle.impl;
+
+import com.gitlab.summercattle.commons.db.handle.SelectCacheStats;
+
+public class SelectCacheStatsImpl implements SelectCacheStats {
+
+	private long hitCount;
+
+	private long missCount;
+
+	private long putCount;
+
+	private long evictionCount;
+
+	private long clearCount;
+
+	public SelectCacheStatsImpl(long hitCount, long missCount, long putCount, long evictionCount, long clearCount) {
+		this.hitCount = hitCount;
+		this.missCount = missCount;
+		this.putCount = putCount;
+		this.evictionCount = evictionCount;
+		this.clearCount = clearCount;
+	}
+
+	@Override
+	public long getHitCount() {
+		return hitCount;
+	}
+
+	@Override
+	public long getMissCount() {
+		return missCount;
+	}
+
+	@Override
+	public double getHitRate() {
+		long requestCount = hitCount + missCount;
+		return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+	}
+
+	@Override
+	public long getPutCount() {
+		return putCount;
+	}
+
+	@Override
+	public long getEvictionCount() {
+		return evictionCount;
+	}
+
+	@Override
+	public long getClearCount() {
+		return clearCount;
+	}
+
+	@Override
+	public String toString() {
+		return "命中:" + hitCount + ",未命中:" + missCount + ",存入:" + putCount + ",失效:" + evictionCount + ",清除:" + clearCount;
+	}
+}
\ No newline at end of file
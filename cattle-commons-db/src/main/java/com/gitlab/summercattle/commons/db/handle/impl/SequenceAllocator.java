@@ -0,0 +1,142 @@
+/*
+ * Copyright (C) 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gitlab.summercattle.commons.db.handle.impl;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.gitlab.summercattle.commons.exception.CommonException;
+import com.gitlab.summercattle.commons.utils.exception.ExceptionWrapUtils;
+
+/**
+ * 序列值分配器,按块预留序列值并缓存在当前JVM中,剩余值低于阈值时异步预取下一块
+ */
+public class SequenceAllocator {
+
+	private static final Logger logger = LoggerFactory.getLogger(SequenceAllocator.class);
+
+	private final ConcurrentMap<String, SequencePool> pools = new ConcurrentHashMap<String, SequencePool>();
+
+	private final SequenceBlockLoader loader;
+
+	private volatile ExecutorService executor;
+
+	public SequenceAllocator(SequenceBlockLoader loader) {
+		this.loader = loader;
+	}
+
+	/**
+	 * 得到序列的下一个值
+	 * @param sequenceName 序列名
+	 * @param blockSize 每次预留的序列值个数
+	 * @param prefetchRatio 剩余值占块大小的比例低于该值时异步预取
+	 * @return 序列的下一个值
+	 * @throws CommonException 异常
+	 */
+	public long next(String sequenceName, int blockSize, double prefetchRatio) throws CommonException {
+		SequencePool pool = pools.computeIfAbsent(sequenceName, SequencePool::new);
+		return pool.next(blockSize, prefetchRatio);
+	}
+
+	private ExecutorService getExecutor() {
+		if (null == executor) {
+			synchronized (this) {
+				if (null == executor) {
+					executor = Executors.newSingleThreadExecutor(r -> {
+						Thread thread = new Thread(r, "cattle-sequence-prefetch");
+						thread.setDaemon(true);
+						return thread;
+					});
+				}
+			}
+		}
+		return executor;
+	}
+
+	private class SequencePool {
+
+		private final String sequenceName;
+
+		private long[] values = new long[0];
+
+		private int index = 0;
+
+		private Future<long[]> prefetch;
+
+		SequencePool(String sequenceName) {
+			this.sequenceName = sequenceName;
+		}
+
+		synchronized long next(int blockSize, double prefetchRatio) throws CommonException {
+			if (index >= values.length) {
+				values = null != prefetch ? takePrefetch(blockSize) : load(blockSize);
+				index = 0;
+			}
+			long value = values[index++];
+			if (null == prefetch && blockSize > 1 && values.length - index <= blockSize * prefetchRatio) {
+				prefetch = getExecutor().submit(() -> load(blockSize));
+			}
+			return value;
+		}
+
+		private long[] takePrefetch(int blockSize) throws CommonException {
+			Future<long[]> future = prefetch;
+			prefetch = null;
+			try {
+				return future.get();
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw ExceptionWrapUtils.wrap(e);
+			}
+			catch (ExecutionException e) {
+				logger.warn("序列'" + sequenceName + "'异步预取失败,改为同步获取:" + e.getCause().getMessage());
+				return load(blockSize);
+			}
+		}
+
+		private long[] load(int blockSize) throws CommonException {
+			long[] block = loader.load(sequenceName, blockSize > 0 ? blockSize : 1);
+			if (null == block || block.length == 0) {
+				throw new CommonException("序列'" + sequenceName + "'没有获取到序列值");
+			}
+			logger.debug("序列'" + sequenceName + "'预留" + block.length + "个序列值");
+			return block;
+		}
+	}
+
+	/**
+	 * 序列值块的加载
+	 */
+	public interface SequenceBlockLoader {
+
+		/**
+		 * 加载序列值块
+		 * @param sequenceName 序列名
+		 * @param size 序列值个数
+		 * @return 序列值
+		 * @throws CommonException 异常
+		 */
+		long[] load(String sequenceName, int size) throws CommonException;
+	}
+}
\ No newline at end of file
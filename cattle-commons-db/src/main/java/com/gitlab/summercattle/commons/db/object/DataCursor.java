@@ -0,0 +1,51 @@
+/*
+ * Copyright (C) 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gitlab.summercattle.commons.db.object;
+
+import java.util.stream.Stream;
+
+import com.gitlab.summercattle.commons.exception.CommonException;
+
+/**
+ * 数据游标,只能向前读取,直接基于数据库结果集,不在内存中保存全部记录,使用后必须关闭
+ */
+public interface DataCursor extends DataReader, AutoCloseable {
+
+	/**
+	 * 移到下一条记录,没有记录时自动关闭
+	 * @return 是否成功
+	 * @throws CommonException 异常
+	 */
+	boolean next() throws CommonException;
+
+	/**
+	 * 已读取的记录数
+	 * @return 已读取的记录数
+	 */
+	long getRow();
+
+	/**
+	 * 转换为流,每个元素为一条记录的字段值,字段顺序同getFieldNames,流关闭时关闭游标
+	 * @return 记录流
+	 */
+	Stream<Object[]> stream();
+
+	/**
+	 * 关闭游标
+	 */
+	@Override
+	void close();
+}
\ No newline at end of file
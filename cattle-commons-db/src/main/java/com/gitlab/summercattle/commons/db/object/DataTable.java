@@ -15,6 +15,8 @@
  */
 package com.gitlab.summercattle.commons.db.object;
 
+import java.io.InputStream;
+import java.io.Reader;
 import java.math.BigDecimal;
 import java.sql.Timestamp;
 import java.util.Date;
@@ -224,6 +226,38 @@ public interface DataTable extends DataQuery {
 	 */
 	void setBytes(int fieldIndex, byte[] value) throws CommonException;
 
+	/**
+	 * 设置二进制流,保存时直接写入大字段
+	 * @param field 字段
+	 * @param value 二进制流
+	 * @throws CommonException 异常
+	 */
+	void setBinaryStream(String field, InputStream value) throws CommonException;
+
+	/**
+	 * 设置二进制流,保存时直接写入大字段
+	 * @param fieldIndex 字段序号
+	 * @param value 二进制流
+	 * @throws CommonException 异常
+	 */
+	void setBinaryStream(int fieldIndex, InputStream value) throws CommonException;
+
+	/**
+	 * 设置字符流,保存时直接写入大字段
+	 * @param field 字段
+	 * @param value 字符流
+	 * @throws CommonException 异常
+	 */
+	void setCharacterStream(String field, Reader value) throws CommonException;
+
+	/**
+	 * 设置字符流,保存时直接写入大字段
+	 * @param fieldIndex 字段序号
+	 * @param value 字符流
+	 * @throws CommonException 异常
+	 */
+	void setCharacterStream(int fieldIndex, Reader value) throws CommonException;
+
 	/**
 	 * 得到数据版本
 	 * @return 数据版本
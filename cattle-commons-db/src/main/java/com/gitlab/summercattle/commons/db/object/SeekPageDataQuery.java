@@ -0,0 +1,46 @@
+/*
+ * Copyright (C) 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gitlab.summercattle.commons.db.object;
+
+/**
+ * 键集分页数据结果集
+ */
+public interface SeekPageDataQuery extends DataQuery {
+
+	/**
+	 * 是否有下一页
+	 * @return 是否有下一页
+	 */
+	boolean isNextPage();
+
+	/**
+	 * 本页最后一条记录的键字段值
+	 * @return 键字段值,本页没有记录时为null
+	 */
+	Object[] getLastKeys();
+
+	/**
+	 * 下一页的续查标记
+	 * @return 续查标记,没有下一页时为null
+	 */
+	String getContinuationToken();
+
+	/**
+	 * 总记录数
+	 * @return 总记录数,不计算时为-1
+	 */
+	long getTotalRecords();
+}
\ No newline at end of file
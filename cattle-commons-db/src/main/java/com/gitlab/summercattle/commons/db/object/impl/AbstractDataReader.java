@@ -0,0 +1,364 @@
+/*
+ * Copyright (C) 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gitlab.summercattle.commons.db.object.impl;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.commons.lang3.StringUtils;
+
+import com.gitlab.summercattle.commons.db.dialect.Dialect;
+import com.gitlab.summercattle.commons.db.field.AbstractField;
+import com.gitlab.summercattle.commons.db.field.FieldTypes;
+import com.gitlab.summercattle.commons.db.field.LobField;
+import com.gitlab.summercattle.commons.db.object.DataReader;
+import com.gitlab.summercattle.commons.exception.CommonException;
+import com.gitlab.summercattle.commons.utils.exception.ExceptionWrapUtils;
+import com.gitlab.summercattle.commons.utils.reflect.ClassType;
+import com.gitlab.summercattle.commons.utils.reflect.ReflectUtils;
+
+public abstract class AbstractDataReader implements DataReader {
+
+	protected String tableName;
+
+	protected int[] fieldTypes;
+
+	protected String[] fieldNames;
+
+	protected Map<String, Integer> fieldIndexes = new HashMap<String, Integer>();
+
+	/**
+	 * 字段处理类型,与字段下标对应,读取结果集前一次性确定
+	 */
+	protected AbstractField[] fieldHandlers;
+
+	/**
+	 * 字段在结果集中的列序号,从1开始,与字段下标对应
+	 */
+	protected int[] columnIndexes;
+
+	/**
+	 * 大字段是否延迟读取,延迟时记录只保存大字段句柄,读取时才访问数据库
+	 */
+	protected boolean lazyLob;
+
+	/**
+	 * 得到当前记录的字段值
+	 * @param index 字段下标,从0开始
+	 * @return 字段值
+	 * @throws CommonException 异常
+	 */
+	protected abstract Object getValue(int index) throws CommonException;
+
+	/**
+	 * 用已读取的大字段内容替换当前记录中的大字段句柄,避免重复读取
+	 * @param index 字段下标,从0开始
+	 * @param value 大字段内容
+	 * @throws CommonException 异常
+	 */
+	protected void replaceValue(int index, Object value) throws CommonException {
+	}
+
+	protected void initFieldsInfo(Dialect dialect, ResultSet rs) throws CommonException {
+		try {
+			ResultSetMetaData metaData = rs.getMetaData();
+			int columnCount = metaData.getColumnCount();
+			fieldTypes = new int[columnCount];
+			fieldNames = new String[columnCount];
+			columnIndexes = new int[columnCount];
+			for (int i = 0; i < columnCount; i++) {
+				String jdbcColumnName = metaData.getColumnName(i + 1).toUpperCase();
+				String jdbcColumnLabel = metaData.getColumnLabel(i + 1).toUpperCase();
+				String columnName = jdbcColumnName.equals(jdbcColumnLabel) ? jdbcColumnName : jdbcColumnLabel;
+				int columnType = metaData.getColumnType(i + 1);
+				columnType = getColumnType(columnName, columnType, metaData.getColumnTypeName(i + 1));
+				fieldIndexes.put(columnName.toUpperCase(), i);
+				fieldNames[i] = columnName;
+				fieldTypes[i] = columnType;
+				columnIndexes[i] = i + 1;
+			}
+		}
+		catch (SQLException e) {
+			throw ExceptionWrapUtils.wrap(e);
+		}
+		initFieldHandlers();
+	}
+
+	protected void initFieldHandlers() throws CommonException {
+		fieldHandlers = new AbstractField[fieldNames.length];
+		for (int i = 0; i < fieldNames.length; i++) {
+			fieldHandlers[i] = FieldTypes.getType(tableName, fieldNames[i], fieldTypes[i]);
+		}
+	}
+
+	/**
+	 * 按列序号从结果集读取字段值,延迟读取时大字段只取句柄
+	 * @param rs 结果集
+	 * @param index 字段下标,从0开始
+	 * @return 字段值
+	 * @throws CommonException 异常
+	 */
+	protected Object getFieldValue(ResultSet rs, int index) throws CommonException {
+		AbstractField fieldType = fieldHandlers[index];
+		if (lazyLob && fieldType instanceof LobField) {
+			return ((LobField) fieldType).getLocator(rs, columnIndexes[index]);
+		}
+		return fieldType.nullSafeGet(rs, columnIndexes[index]);
+	}
+
+	protected int getColumnType(String columnName, int columnType, String columnTypeName) throws CommonException {
+		if (columnType == Types.OTHER) {
+			if (columnTypeName.equals("DECFLOAT")) {
+				columnType = Types.DECIMAL;
+			}
+			else {
+				throw new CommonException("字段" + columnName + ",类型" + columnTypeName + "没有做处理");
+			}
+		}
+		return columnType;
+	}
+
+	@Override
+	public String[] getFieldNames() {
+		return fieldNames;
+	}
+
+	@Override
+	public byte[] getBytes(String field) throws CommonException {
+		int fieldIndex = getFieldIndex(field);
+		return getBytes(fieldIndex);
+	}
+
+	@Override
+	public byte[] getBytes(int fieldIndex) throws CommonException {
+		Object value = ReflectUtils.convertValue(ClassType.Array, byte.class, getObject(fieldIndex));
+		return value == null ? null : (byte[]) value;
+	}
+
+	@Override
+	public Object getObject(String field) throws CommonException {
+		int fieldIndex = getFieldIndex(field);
+		return getObject(fieldIndex);
+	}
+
+	@Override
+	public Object getObject(int fieldIndex) throws CommonException {
+		checkFieldIndex(fieldIndex);
+		Object value = getValue(fieldIndex - 1);
+		if (value instanceof Blob || value instanceof Clob) {
+			value = ((LobField) fieldHandlers[fieldIndex - 1]).load(value);
+			replaceValue(fieldIndex - 1, value);
+		}
+		return value;
+	}
+
+	@Override
+	public InputStream getBinaryStream(String field) throws CommonException {
+		int fieldIndex = getFieldIndex(field);
+		return getBinaryStream(fieldIndex);
+	}
+
+	@Override
+	public InputStream getBinaryStream(int fieldIndex) throws CommonException {
+		checkFieldIndex(fieldIndex);
+		Object value = getValue(fieldIndex - 1);
+		try {
+			if (value instanceof Blob) {
+				return ((Blob) value).getBinaryStream();
+			}
+		}
+		catch (SQLException e) {
+			throw ExceptionWrapUtils.wrap(e);
+		}
+		if (value instanceof InputStream) {
+			return (InputStream) value;
+		}
+		byte[] bytes = getBytes(fieldIndex);
+		return bytes != null ? new ByteArrayInputStream(bytes) : null;
+	}
+
+	@Override
+	public Reader getCharacterStream(String field) throws CommonException {
+		int fieldIndex = getFieldIndex(field);
+		return getCharacterStream(fieldIndex);
+	}
+
+	@Override
+	public Reader getCharacterStream(int fieldIndex) throws CommonException {
+		checkFieldIndex(fieldIndex);
+		Object value = getValue(fieldIndex - 1);
+		try {
+			if (value instanceof Clob) {
+				return ((Clob) value).getCharacterStream();
+			}
+		}
+		catch (SQLException e) {
+			throw ExceptionWrapUtils.wrap(e);
+		}
+		if (value instanceof Reader) {
+			return (Reader) value;
+		}
+		String str = getString(fieldIndex);
+		return str != null ? new StringReader(str) : null;
+	}
+
+	@Override
+	public long getLong(String field) throws CommonException {
+		int fieldIndex = getFieldIndex(field);
+		return getLong(fieldIndex);
+	}
+
+	@Override
+	public long getLong(int fieldIndex) throws CommonException {
+		return ReflectUtils.convertLong(getObject(fieldIndex));
+	}
+
+	@Override
+	public int getInt(String field) throws CommonException {
+		int fieldIndex = getFieldIndex(field);
+		return getInt(fieldIndex);
+	}
+
+	@Override
+	public int getInt(int fieldIndex) throws CommonException {
+		return ReflectUtils.convertInt(getObject(fieldIndex));
+	}
+
+	@Override
+	public BigDecimal getBigDecimal(String field) throws CommonException {
+		int fieldIndex = getFieldIndex(field);
+		return getBigDecimal(fieldIndex);
+	}
+
+	@Override
+	public BigDecimal getBigDecimal(int fieldIndex) throws CommonException {
+		Object value = ReflectUtils.convertValue(ClassType.BigDecimal, getObject(fieldIndex));
+		return value != null ? (BigDecimal) value : null;
+	}
+
+	@Override
+	public double getDouble(String field) throws CommonException {
+		int fieldIndex = getFieldIndex(field);
+		return getDouble(fieldIndex);
+	}
+
+	@Override
+	public double getDouble(int fieldIndex) throws CommonException {
+		return ReflectUtils.convertDouble(getObject(fieldIndex));
+	}
+
+	@Override
+	public String getString(String field) throws CommonException {
+		int fieldIndex = getFieldIndex(field);
+		return getString(fieldIndex);
+	}
+
+	@Override
+	public String getString(int fieldIndex) throws CommonException {
+		Object value = ReflectUtils.convertValue(ClassType.String, getObject(fieldIndex));
+		return value != null ? (String) value : null;
+	}
+
+	@Override
+	public Timestamp getTimestamp(String field) throws CommonException {
+		int fieldIndex = getFieldIndex(field);
+		return getTimestamp(fieldIndex);
+	}
+
+	@Override
+	public Timestamp getTimestamp(int fieldIndex) throws CommonException {
+		Object value = ReflectUtils.convertValue(ClassType.Timestamp, getObject(fieldIndex));
+		return value != null ? (Timestamp) value : null;
+	}
+
+	@Override
+	public Date getDate(String field) throws CommonException {
+		int fieldIndex = getFieldIndex(field);
+		return getDate(fieldIndex);
+	}
+
+	@Override
+	public Date getDate(int fieldIndex) throws CommonException {
+		Object value = ReflectUtils.convertValue(ClassType.Date, getObject(fieldIndex));
+		return value != null ? (Date) value : null;
+	}
+
+	@Override
+	public boolean getBoolean(String field) throws CommonException {
+		int fieldIndex = getFieldIndex(field);
+		return getBoolean(fieldIndex);
+	}
+
+	@Override
+	public boolean getBoolean(int fieldIndex) throws CommonException {
+		return ReflectUtils.convertBoolean(getObject(fieldIndex));
+	}
+
+	protected int getFieldIndex(String field) throws CommonException {
+		if (fieldIndexes.containsKey(field.toUpperCase())) {
+			return fieldIndexes.get(field.toUpperCase()) + 1;
+		}
+		throw new CommonException((StringUtils.isNotBlank(tableName) ? "表'" + tableName + "'" : "") + "没有找到字段'" + field + "'");
+	}
+
+	@Override
+	public String toString(String field) throws CommonException {
+		int fieldIndex = getFieldIndex(field);
+		return toString(fieldIndex);
+	}
+
+	@Override
+	public String toString(int fieldIndex) throws CommonException {
+		checkFieldIndex(fieldIndex);
+		Object value = getValue(fieldIndex - 1);
+		return value != null ? fieldHandlers[fieldIndex - 1].nullSafeToString(value) : null;
+	}
+
+	@Override
+	public boolean isDateTypeField(String field) throws CommonException {
+		int fieldIndex = getFieldIndex(field);
+		return isDateTypeField(fieldIndex);
+	}
+
+	@Override
+	public boolean isDateTypeField(int fieldIndex) throws CommonException {
+		boolean result = false;
+		int fieldType = fieldTypes[fieldIndex - 1];
+		if (fieldType == Types.DATE || fieldType == Types.TIMESTAMP || fieldType == Types.TIME) {
+			result = true;
+		}
+		return result;
+	}
+
+	protected void checkFieldIndex(int fieldIndex) throws CommonException {
+		if (fieldIndex < 1 || fieldIndex > fieldNames.length) {
+			throw new CommonException("字段fieldIndex值" + fieldIndex + "越界,字段总数" + fieldNames.length);
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,113 @@
+/*
+ * Copyright (C) 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gitlab.summercattle.commons.db.object.impl;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import com.gitlab.summercattle.commons.db.dialect.Dialect;
+import com.gitlab.summercattle.commons.db.object.internal.column.Column;
+import com.gitlab.summercattle.commons.db.object.internal.column.Columns;
+import com.gitlab.summercattle.commons.db.object.internal.column.DoubleColumn;
+import com.gitlab.summercattle.commons.db.object.internal.column.IntColumn;
+import com.gitlab.summercattle.commons.db.object.internal.column.LongColumn;
+import com.gitlab.summercattle.commons.exception.CommonException;
+import com.gitlab.summercattle.commons.utils.exception.ExceptionWrapUtils;
+
+/**
+ * 列式存储的数据结果集,数值字段按基本类型数组保存,字符字段使用字典编码,适用于只读的查询结果
+ */
+public class ColumnarDataQueryImpl extends DataQueryImpl {
+
+	private Column[] columns;
+
+	private int size;
+
+	public ColumnarDataQueryImpl(Dialect dialect, ResultSet rs) throws CommonException {
+		super(dialect, rs);
+	}
+
+	@Override
+	protected void initLines(ResultSet rs) throws CommonException {
+		columns = new Column[fieldNames.length];
+		for (int i = 0; i < fieldNames.length; i++) {
+			columns[i] = Columns.create(tableName, fieldNames[i], fieldTypes[i]);
+		}
+		try {
+			while (rs.next()) {
+				for (int i = 0; i < columns.length; i++) {
+					columns[i].read(rs, i + 1);
+				}
+				size++;
+			}
+		}
+		catch (SQLException e) {
+			throw ExceptionWrapUtils.wrap(e);
+		}
+		for (Column column : columns) {
+			column.trim();
+		}
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	protected Object getValue(int index) throws CommonException {
+		checkLineIndex();
+		return columns[index].get(lineIndex - 1);
+	}
+
+	@Override
+	public long getLong(int fieldIndex) throws CommonException {
+		checkFieldIndex(fieldIndex);
+		Column column = columns[fieldIndex - 1];
+		if (column instanceof LongColumn && ((LongColumn) column).isPrimitive()) {
+			checkLineIndex();
+			LongColumn longColumn = (LongColumn) column;
+			return longColumn.isNull(lineIndex - 1) ? 0 : longColumn.getLong(lineIndex - 1);
+		}
+		else if (column instanceof IntColumn) {
+			checkLineIndex();
+			return ((IntColumn) column).getInt(lineIndex - 1);
+		}
+		return super.getLong(fieldIndex);
+	}
+
+	@Override
+	public int getInt(int fieldIndex) throws CommonException {
+		checkFieldIndex(fieldIndex);
+		Column column = columns[fieldIndex - 1];
+		if (column instanceof IntColumn) {
+			checkLineIndex();
+			return ((IntColumn) column).getInt(lineIndex - 1);
+		}
+		return super.getInt(fieldIndex);
+	}
+
+	@Override
+	public double getDouble(int fieldIndex) throws CommonException {
+		checkFieldIndex(fieldIndex);
+		Column column = columns[fieldIndex - 1];
+		if (column instanceof DoubleColumn) {
+			checkLineIndex();
+			return ((DoubleColumn) column).getDouble(lineIndex - 1);
+		}
+		return super.getDouble(fieldIndex);
+	}
+}
\ No newline at end of file
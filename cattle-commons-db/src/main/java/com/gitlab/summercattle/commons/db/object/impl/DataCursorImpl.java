@@ -0,0 +1,132 @@
+/*
+ * Copyright (C) 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gitlab.summercattle.commons.db.object.impl;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.gitlab.summercattle.commons.db.dialect.Dialect;
+import com.gitlab.summercattle.commons.db.object.DataCursor;
+import com.gitlab.summercattle.commons.db.utils.JdbcUtils;
+import com.gitlab.summercattle.commons.exception.CommonException;
+import com.gitlab.summercattle.commons.exception.CommonRuntimeException;
+import com.gitlab.summercattle.commons.utils.exception.ExceptionWrapUtils;
+
+public class DataCursorImpl extends AbstractDataReader implements DataCursor {
+
+	private PreparedStatement ps;
+
+	private ResultSet rs;
+
+	private Object[] values;
+
+	private long row = 0;
+
+	private boolean closed = false;
+
+	public DataCursorImpl(Dialect dialect, PreparedStatement ps, ResultSet rs) throws CommonException {
+		this(dialect, ps, rs, false);
+	}
+
+	public DataCursorImpl(Dialect dialect, PreparedStatement ps, ResultSet rs, boolean lazyLob) throws CommonException {
+		this.lazyLob = lazyLob;
+		this.ps = ps;
+		this.rs = rs;
+		initFieldsInfo(dialect, rs);
+	}
+
+	@Override
+	public boolean next() throws CommonException {
+		if (closed) {
+			return false;
+		}
+		try {
+			if (!rs.next()) {
+				close();
+				return false;
+			}
+			Object[] lValues = new Object[fieldNames.length];
+			for (int i = 0; i < fieldNames.length; i++) {
+				lValues[i] = getFieldValue(rs, i);
+			}
+			values = lValues;
+			row++;
+			return true;
+		}
+		catch (SQLException e) {
+			close();
+			throw ExceptionWrapUtils.wrap(e);
+		}
+	}
+
+	@Override
+	protected Object getValue(int index) throws CommonException {
+		if (null == values) {
+			throw new CommonException("数据游标没有当前记录");
+		}
+		return values[index];
+	}
+
+	@Override
+	protected void replaceValue(int index, Object value) throws CommonException {
+		if (null == values) {
+			throw new CommonException("数据游标没有当前记录");
+		}
+		values[index] = value;
+	}
+
+	@Override
+	public long getRow() {
+		return row;
+	}
+
+	@Override
+	public Stream<Object[]> stream() {
+		Spliterator<Object[]> spliterator = new Spliterators.AbstractSpliterator<Object[]>(Long.MAX_VALUE,
+				Spliterator.ORDERED | Spliterator.NONNULL) {
+
+			@Override
+			public boolean tryAdvance(Consumer< ? super Object[]> action) {
+				try {
+					if (!next()) {
+						return false;
+					}
+				}
+				catch (CommonException e) {
+					throw new CommonRuntimeException(e.getMessage(), e);
+				}
+				action.accept(values);
+				return true;
+			}
+		};
+		return StreamSupport.stream(spliterator, false).onClose(this::close);
+	}
+
+	@Override
+	public void close() {
+		if (!closed) {
+			closed = true;
+			JdbcUtils.closeResultSet(rs);
+			JdbcUtils.closeStatement(ps);
+		}
+	}
+}
\ No newline at end of file
@@ -15,8 +15,11 @@
  */
 package com.gitlab.summercattle.commons.db.object.impl;
 
+import java.io.InputStream;
+import java.io.Reader;
 import java.math.BigDecimal;
 import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.sql.Types;
 import java.util.Date;
@@ -27,7 +30,11 @@ import java.util.Vector;
 import com.gitlab.summercattle.commons.db.DbUtils;
 import com.gitlab.summercattle.commons.db.configure.DbProperties;
 import com.gitlab.summercattle.commons.db.constants.DataConstants;
+import com.gitlab.summercattle.commons.db.constants.PrimaryKeyGenerator;
+import com.gitlab.summercattle.commons.db.field.AbstractField;
+import com.gitlab.summercattle.commons.db.field.BlobField;
 import com.gitlab.summercattle.commons.db.field.FieldTypes;
+import com.gitlab.summercattle.commons.db.field.LobField;
 import com.gitlab.summercattle.commons.db.meta.FieldMeta;
 import com.gitlab.summercattle.commons.db.meta.TableMeta;
 import com.gitlab.summercattle.commons.db.object.DataTable;
@@ -40,9 +47,9 @@ import com.gitlab.summercattle.commons.db.struct.TableObjectStruct;
 import com.gitlab.summercattle.commons.db.utils.JdbcUtils;
 import com.gitlab.summercattle.commons.exception.CommonException;
 import com.gitlab.summercattle.commons.utils.auxiliary.CommonUtils;
+import com.gitlab.summercattle.commons.utils.exception.ExceptionWrapUtils;
 import com.gitlab.summercattle.commons.utils.reflect.ClassType;
 import com.gitlab.summercattle.commons.utils.reflect.ReflectUtils;
-import com.gitlab.summercattle.commons.utils.spring.SpringContext;
 
 public class DataTableImpl extends DataQueryImpl implements DataTable, InternalDataTable {
 
@@ -58,23 +65,27 @@ public class DataTableImpl extends DataQueryImpl implements DataTable, InternalD
 
 	private boolean primaryKeyUseNumber;
 
+	private int primaryIndex;
+
 	private boolean useCache;
 
 	private String alias;
 
 	public DataTableImpl(DbProperties dbProperties, ResultSet rs, TableMeta tableMeta, TableObjectStruct tableStructure) throws CommonException {
 		this(dbProperties, tableMeta, tableStructure);
+		initColumnIndexes(rs);
 		initLines(rs);
 	}
 
 	public DataTableImpl(DbProperties dbProperties, TableMeta tableMeta, TableObjectStruct tableStructure) throws CommonException {
 		this.dbProperties = dbProperties;
+		lazyLob = dbProperties.isLazyLob() && !tableMeta.isUseCache();
 		alias = tableMeta.getAlias();
 		initFieldsInfo(tableMeta, tableStructure);
-		Integer primaryFieldIndex = fieldIndexes.get(dbProperties.getPrimaryField());
+		primaryIndex = fieldIndexes.get(dbProperties.getPrimaryField()).intValue();
 		useCache = tableMeta.isUseCache();
 		primaryKeyUseNumber = tableMeta.isPrimaryKeyUseNumber();
-		int primaryType = fieldTypes[primaryFieldIndex.intValue()];
+		int primaryType = fieldTypes[primaryIndex];
 		if (primaryKeyUseNumber) {
 			if (!JdbcUtils.isNumeric(primaryType)) {
 				throw new CommonException("表'" + tableStructure.getName() + "'的主键字段'" + dbProperties.getPrimaryField() + "'必须为数值型,目前字段类型值'"
@@ -91,34 +102,28 @@ public class DataTableImpl extends DataQueryImpl implements DataTable, InternalD
 
 	@Override
 	protected void intLine(ResultSet rs) throws CommonException {
-		DbProperties dbProperties = SpringContext.getBean(DbProperties.class);
-		Object[] values = new Object[fieldNames.length + DataConstants.SYSTEM_DEFAULT_COLUMN_SIZE];
-		for (int i = 0; i < fieldNames.length; i++) {
-			values[i] = FieldTypes.getType(tableName, fieldNames[i], fieldTypes[i]).nullSafeGet(rs, fieldNames[i]);
+		Object[] values = new Object[fieldTypes.length];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = getFieldValue(rs, i);
 		}
-		Integer createDateFieldIndex = fieldIndexes.get(dbProperties.getCreateTimeField());
-		values[createDateFieldIndex.intValue()] = FieldTypes
-				.getType(tableName, dbProperties.getCreateTimeField(), fieldTypes[createDateFieldIndex.intValue()])
-				.nullSafeGet(rs, dbProperties.getCreateTimeField());
-		Integer modifyDateFieldIndex = fieldIndexes.get(dbProperties.getUpdateTimeField());
-		values[modifyDateFieldIndex.intValue()] = FieldTypes
-				.getType(tableName, dbProperties.getUpdateTimeField(), fieldTypes[modifyDateFieldIndex.intValue()])
-				.nullSafeGet(rs, dbProperties.getUpdateTimeField());
-		Integer deletedFieldIndex = fieldIndexes.get(dbProperties.getDeletedField());
-		values[deletedFieldIndex.intValue()] = FieldTypes.getType(tableName, dbProperties.getDeletedField(), fieldTypes[deletedFieldIndex.intValue()])
-				.nullSafeGet(rs, dbProperties.getDeletedField());
-		Integer versionFieldIndex = fieldIndexes.get(dbProperties.getVersionField());
-		values[versionFieldIndex.intValue()] = FieldTypes.getType(tableName, dbProperties.getVersionField(), fieldTypes[versionFieldIndex.intValue()])
-				.nullSafeGet(rs, dbProperties.getVersionField());
-		Integer primaryFieldIndex = fieldIndexes.get(dbProperties.getPrimaryField());
-		values[primaryFieldIndex.intValue()] = FieldTypes.getType(tableName, dbProperties.getPrimaryField(), fieldTypes[primaryFieldIndex.intValue()])
-				.nullSafeGet(rs, dbProperties.getPrimaryField());
-		if (values[primaryFieldIndex.intValue()] == null) {
+		if (values[primaryIndex] == null) {
 			throw new CommonException("表'" + tableName + "'的主键字段'" + dbProperties.getPrimaryField() + "'不允许为空");
 		}
 		lines.add(new RowLineSetImpl(RowStatus.Init, tableName, fieldNames, fieldTypes, values));
 	}
 
+	private void initColumnIndexes(ResultSet rs) throws CommonException {
+		columnIndexes = new int[fieldTypes.length];
+		try {
+			for (Map.Entry<String, Integer> entry : fieldIndexes.entrySet()) {
+				columnIndexes[entry.getValue().intValue()] = rs.findColumn(entry.getKey());
+			}
+		}
+		catch (SQLException e) {
+			throw ExceptionWrapUtils.wrap(e);
+		}
+	}
+
 	private void setFieldInfo(TableFieldStruct fieldStructure, String fieldName, int fieldIndex) throws CommonException {
 		fieldTypes[fieldIndex] = fieldStructure.getJdbcType();
 		fieldAllowNulls[fieldIndex] = fieldStructure.isNullable();
@@ -175,6 +180,11 @@ public class DataTableImpl extends DataQueryImpl implements DataTable, InternalD
 		fieldIndex++;
 		TableFieldStruct primaryFieldStructure = (TableFieldStruct) tableStructure.getField(dbProperties.getPrimaryField());
 		setSystemFieldInfo(primaryFieldStructure, dbProperties.getPrimaryField(), fieldIndex);
+		fieldHandlers = new AbstractField[fieldTypes.length];
+		for (Map.Entry<String, Integer> entry : fieldIndexes.entrySet()) {
+			int index = entry.getValue().intValue();
+			fieldHandlers[index] = FieldTypes.getType(tableName, entry.getKey(), fieldTypes[index]);
+		}
 	}
 
 	@Override
@@ -203,6 +213,12 @@ public class DataTableImpl extends DataQueryImpl implements DataTable, InternalD
 		if (primaryKeyUseNumber) {
 			insert(DbUtils.getDbTool().getSequenceNextVal(tableName));
 		}
+		else if (dbProperties.getPrimaryKeyGenerator() == PrimaryKeyGenerator.UUIDv7) {
+			insert(CommonUtils.getUUIDv7());
+		}
+		else if (dbProperties.getPrimaryKeyGenerator() == PrimaryKeyGenerator.ULID) {
+			insert(CommonUtils.getULID());
+		}
 		else {
 			insert(CommonUtils.getUUID());
 		}
@@ -216,8 +232,7 @@ public class DataTableImpl extends DataQueryImpl implements DataTable, InternalD
 		Integer primaryFieldIndex = fieldIndexes.get(dbProperties.getPrimaryField());
 		Object[] values = new Object[fieldNames.length + DataConstants.SYSTEM_DEFAULT_COLUMN_SIZE];
 		if (primaryKeyUseNumber) {
-			Class< ? > returnedClass = FieldTypes.getType(tableName, dbProperties.getPrimaryField(), fieldTypes[primaryFieldIndex.intValue()])
-					.getReturnedClass();
+			Class< ? > returnedClass = fieldHandlers[primaryFieldIndex.intValue()].getReturnedClass();
 			ClassType fieldType = ReflectUtils.getClassType(returnedClass);
 			values[primaryFieldIndex.intValue()] = ReflectUtils.convertValue(fieldType, null, primaryValue);
 		}
@@ -256,6 +271,16 @@ public class DataTableImpl extends DataQueryImpl implements DataTable, InternalD
 		return lines.get(lineIndex - 1).get(primaryFieldIndex.intValue());
 	}
 
+	@Override
+	public Object[] getPrimaryValues() {
+		Integer primaryFieldIndex = fieldIndexes.get(dbProperties.getPrimaryField());
+		Object[] primaryValues = new Object[lines.size()];
+		for (int i = 0; i < primaryValues.length; i++) {
+			primaryValues[i] = lines.get(i).get(primaryFieldIndex.intValue());
+		}
+		return primaryValues;
+	}
+
 	@Override
 	public void setLong(String field, long value) throws CommonException {
 		int fieldIndex = getFieldIndex(field);
@@ -355,6 +380,28 @@ public class DataTableImpl extends DataQueryImpl implements DataTable, InternalD
 		setObject(fieldIndex, value);
 	}
 
+	@Override
+	public void setBinaryStream(String field, InputStream value) throws CommonException {
+		int fieldIndex = getFieldIndex(field);
+		setBinaryStream(fieldIndex, value);
+	}
+
+	@Override
+	public void setBinaryStream(int fieldIndex, InputStream value) throws CommonException {
+		setObject(fieldIndex, value);
+	}
+
+	@Override
+	public void setCharacterStream(String field, Reader value) throws CommonException {
+		int fieldIndex = getFieldIndex(field);
+		setCharacterStream(fieldIndex, value);
+	}
+
+	@Override
+	public void setCharacterStream(int fieldIndex, Reader value) throws CommonException {
+		setObject(fieldIndex, value);
+	}
+
 	@Override
 	public void setObject(String field, Object value) throws CommonException {
 		int fieldIndex = getFieldIndex(field);
@@ -365,7 +412,14 @@ public class DataTableImpl extends DataQueryImpl implements DataTable, InternalD
 	public void setObject(int fieldIndex, Object value) throws CommonException {
 		checkLineIndex();
 		checkFieldIndex(fieldIndex);
-		Class< ? > returnedClass = FieldTypes.getType(tableName, fieldNames[fieldIndex - 1], fieldTypes[fieldIndex - 1]).getReturnedClass();
+		AbstractField field = fieldHandlers[fieldIndex - 1];
+		//大字段的流在保存时直接写入语句,不读入内存
+		boolean streamValue = field instanceof BlobField ? value instanceof InputStream : field instanceof LobField && value instanceof Reader;
+		if (streamValue) {
+			((RowLineSet) lines.get(lineIndex - 1)).set(fieldIndex - 1, value);
+			return;
+		}
+		Class< ? > returnedClass = field.getReturnedClass();
 		ClassType fieldType = ReflectUtils.getClassType(returnedClass);
 		Object lValue = ReflectUtils.convertValue(fieldType, fieldType == ClassType.Array ? returnedClass.getComponentType() : null, value);
 		if (fieldType == ClassType.String && lValue != null
@@ -402,15 +456,13 @@ public class DataTableImpl extends DataQueryImpl implements DataTable, InternalD
 	@Override
 	public long getVersion() throws CommonException {
 		Integer fieldIndex = fieldIndexes.get(dbProperties.getVersionField());
-		Object value = ReflectUtils.convertValue(ClassType.Long, getSystemObject(fieldIndex));
-		return value != null ? ((Long) value).longValue() : 0;
+		return ReflectUtils.convertLong(getSystemObject(fieldIndex));
 	}
 
 	@Override
 	public boolean isDeleted() throws CommonException {
 		Integer fieldIndex = fieldIndexes.get(dbProperties.getDeletedField());
-		Object value = ReflectUtils.convertValue(ClassType.Boolean, getSystemObject(fieldIndex.intValue()));
-		return value != null ? (Boolean) value : false;
+		return ReflectUtils.convertBoolean(getSystemObject(fieldIndex.intValue()));
 	}
 
 	private Object getSystemObject(int fieldIndex) throws CommonException {
@@ -20,7 +20,6 @@ import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 
 import com.gitlab.summercattle.commons.db.dialect.Dialect;
-import com.gitlab.summercattle.commons.db.field.FieldTypes;
 import com.gitlab.summercattle.commons.db.object.DynamicPageDataQuery;
 import com.gitlab.summercattle.commons.db.object.internal.impl.RowLineImpl;
 import com.gitlab.summercattle.commons.exception.CommonException;
@@ -32,7 +31,9 @@ public class DynamicPageDataQueryImpl extends DataQueryImpl implements DynamicPa
 
 	private boolean nextPage = false;
 
-	public DynamicPageDataQueryImpl(Dialect dialect, ResultSet rs, boolean isCustomPage, int perPageSize, int page) throws CommonException {
+	public DynamicPageDataQueryImpl(Dialect dialect, ResultSet rs, boolean lazyLob, boolean isCustomPage, int perPageSize, int page)
+			throws CommonException {
+		this.lazyLob = lazyLob;
 		this.page = page;
 		initFieldsInfo(dialect, rs);
 		initLines(rs, isCustomPage, perPageSize, page);
@@ -70,6 +71,7 @@ public class DynamicPageDataQueryImpl extends DataQueryImpl implements DynamicPa
 			}
 			fieldNames = new String[realColumnCount];
 			fieldTypes = new int[realColumnCount];
+			columnIndexes = new int[realColumnCount];
 			int lIndex = 0;
 			for (int i = 0; i < columnCount; i++) {
 				String jdbcColumnName = metaData.getColumnName(i + 1).toUpperCase();
@@ -92,6 +94,7 @@ public class DynamicPageDataQueryImpl extends DataQueryImpl implements DynamicPa
 					fieldIndexes.put(columnName.toUpperCase(), lIndex);
 					fieldNames[lIndex] = columnName;
 					fieldTypes[lIndex] = columnType;
+					columnIndexes[lIndex] = i + 1;
 					lIndex++;
 				}
 			}
@@ -99,6 +102,7 @@ public class DynamicPageDataQueryImpl extends DataQueryImpl implements DynamicPa
 		catch (SQLException e) {
 			throw ExceptionWrapUtils.wrap(e);
 		}
+		initFieldHandlers();
 	}
 
 	@Override
@@ -118,7 +122,7 @@ public class DynamicPageDataQueryImpl extends DataQueryImpl implements DynamicPa
 			while (rs.next()) {
 				Object[] values = new Object[fieldNames.length];
 				for (int i = 0; i < fieldNames.length; i++) {
-					values[i] = FieldTypes.getType(null, fieldNames[i], fieldTypes[i]).nullSafeGet(rs, fieldNames[i]);
+					values[i] = getFieldValue(rs, i);
 				}
 				lines.add(new RowLineImpl(values));
 				index++;
@@ -20,7 +20,6 @@ import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 
 import com.gitlab.summercattle.commons.db.dialect.Dialect;
-import com.gitlab.summercattle.commons.db.field.FieldTypes;
 import com.gitlab.summercattle.commons.db.object.PageDataQuery;
 import com.gitlab.summercattle.commons.db.object.internal.impl.RowLineImpl;
 import com.gitlab.summercattle.commons.exception.CommonException;
@@ -34,8 +33,9 @@ public class PageDataQueryImpl extends DataQueryImpl implements PageDataQuery {
 
 	private int page;
 
-	public PageDataQueryImpl(Dialect dialect, ResultSet rs, boolean isCustomPage, int perPageSize, int page, int totalRecords)
+	public PageDataQueryImpl(Dialect dialect, ResultSet rs, boolean lazyLob, boolean isCustomPage, int perPageSize, int page, int totalRecords)
 			throws CommonException {
+		this.lazyLob = lazyLob;
 		this.page = page;
 		this.perPageSize = perPageSize;
 		this.totalRecords = totalRecords;
@@ -75,6 +75,7 @@ public class PageDataQueryImpl extends DataQueryImpl implements PageDataQuery {
 			}
 			fieldNames = new String[realColumnCount];
 			fieldTypes = new int[realColumnCount];
+			columnIndexes = new int[realColumnCount];
 			int lIndex = 0;
 			for (int i = 0; i < columnCount; i++) {
 				String jdbcColumnName = metaData.getColumnName(i + 1).toUpperCase();
@@ -97,6 +98,7 @@ public class PageDataQueryImpl extends DataQueryImpl implements PageDataQuery {
 					fieldIndexes.put(columnName.toUpperCase(), lIndex);
 					fieldNames[lIndex] = columnName;
 					fieldTypes[lIndex] = columnType;
+					columnIndexes[lIndex] = i + 1;
 					lIndex++;
 				}
 			}
@@ -104,6 +106,7 @@ public class PageDataQueryImpl extends DataQueryImpl implements PageDataQuery {
 		catch (SQLException e) {
 			throw ExceptionWrapUtils.wrap(e);
 		}
+		initFieldHandlers();
 	}
 
 	@Override
@@ -150,7 +153,7 @@ public class PageDataQueryImpl extends DataQueryImpl implements PageDataQuery {
 					}
 				}
 				for (int i = 0; i < fieldNames.length; i++) {
-					values[i] = FieldTypes.getType(null, fieldNames[i], fieldTypes[i]).nullSafeGet(rs, fieldNames[i]);
+					values[i] = getFieldValue(rs, i);
 				}
 				lines.add(new RowLineImpl(values));
 			}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (C) 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gitlab.summercattle.commons.db.object.impl;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import com.gitlab.summercattle.commons.db.dialect.Dialect;
+import com.gitlab.summercattle.commons.db.object.SeekPageDataQuery;
+import com.gitlab.summercattle.commons.exception.CommonException;
+import com.gitlab.summercattle.commons.utils.exception.ExceptionWrapUtils;
+
+public class SeekPageDataQueryImpl extends DataQueryImpl implements SeekPageDataQuery {
+
+	private boolean nextPage = false;
+
+	private Object[] lastKeys;
+
+	private String continuationToken;
+
+	private final long totalRecords;
+
+	public SeekPageDataQueryImpl(Dialect dialect, ResultSet rs, boolean lazyLob, String[] keyFields, int perPageSize, long totalRecords)
+			throws CommonException {
+		this.lazyLob = lazyLob;
+		this.totalRecords = totalRecords;
+		initFieldsInfo(dialect, rs);
+		initLines(rs, keyFields, perPageSize);
+	}
+
+	private void initLines(ResultSet rs, String[] keyFields, int perPageSize) throws CommonException {
+		try {
+			while (rs.next()) {
+				if (lines.size() >= perPageSize) {
+					nextPage = true;
+					break;
+				}
+				intLine(rs);
+			}
+		}
+		catch (SQLException e) {
+			throw ExceptionWrapUtils.wrap(e);
+		}
+		if (lines.size() > 0) {
+			lastKeys = new Object[keyFields.length];
+			lineIndex = lines.size();
+			for (int i = 0; i < keyFields.length; i++) {
+				lastKeys[i] = getObject(keyFields[i]);
+			}
+			lineIndex = 0;
+			if (nextPage) {
+				continuationToken = SeekPageToken.encode(lastKeys);
+			}
+		}
+	}
+
+	@Override
+	public boolean isNextPage() {
+		return nextPage;
+	}
+
+	@Override
+	public Object[] getLastKeys() {
+		return null != lastKeys ? lastKeys.clone() : null;
+	}
+
+	@Override
+	public String getContinuationToken() {
+		return continuationToken;
+	}
+
+	@Override
+	public long getTotalRecords() {
+		return totalRecords;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,210 @@
+/*
+ * Copyright (C) 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gitlab.summercattle.commons.db.object.impl;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Date;
+
+import org.apache.commons.codec.binary.Base64;
+
+import com.gitlab.summercattle.commons.exception.CommonException;
+import com.gitlab.summercattle.commons.utils.exception.ExceptionWrapUtils;
+
+/**
+ * 键集分页续查标记的编码,只接受已知的键值类型,不使用Java序列化
+ */
+public final class SeekPageToken {
+
+	private static final byte TYPE_STRING = 1;
+
+	private static final byte TYPE_INTEGER = 2;
+
+	private static final byte TYPE_LONG = 3;
+
+	private static final byte TYPE_BIG_DECIMAL = 4;
+
+	private static final byte TYPE_DOUBLE = 5;
+
+	private static final byte TYPE_BOOLEAN = 6;
+
+	private static final byte TYPE_TIMESTAMP = 7;
+
+	private static final byte TYPE_SQL_DATE = 8;
+
+	private static final byte TYPE_TIME = 9;
+
+	private static final byte TYPE_DATE = 10;
+
+	private static final byte TYPE_BIG_INTEGER = 11;
+
+	private static final byte TYPE_SHORT = 12;
+
+	private static final byte TYPE_BYTE = 13;
+
+	private SeekPageToken() {
+	}
+
+	public static String encode(Object[] keys) throws CommonException {
+		try (ByteArrayOutputStream baos = new ByteArrayOutputStream(); DataOutputStream dos = new DataOutputStream(baos)) {
+			dos.writeShort(keys.length);
+			for (Object key : keys) {
+				if (key instanceof String) {
+					dos.writeByte(TYPE_STRING);
+					dos.writeUTF((String) key);
+				}
+				else if (key instanceof Integer) {
+					dos.writeByte(TYPE_INTEGER);
+					dos.writeInt((Integer) key);
+				}
+				else if (key instanceof Long) {
+					dos.writeByte(TYPE_LONG);
+					dos.writeLong((Long) key);
+				}
+				else if (key instanceof BigInteger) {
+					byte[] value = ((BigInteger) key).toByteArray();
+					dos.writeByte(TYPE_BIG_INTEGER);
+					dos.writeShort(value.length);
+					dos.write(value);
+				}
+				else if (key instanceof Short) {
+					dos.writeByte(TYPE_SHORT);
+					dos.writeShort((Short) key);
+				}
+				else if (key instanceof Byte) {
+					dos.writeByte(TYPE_BYTE);
+					dos.writeByte((Byte) key);
+				}
+				else if (key instanceof BigDecimal) {
+					byte[] unscaled = ((BigDecimal) key).unscaledValue().toByteArray();
+					dos.writeByte(TYPE_BIG_DECIMAL);
+					dos.writeInt(((BigDecimal) key).scale());
+					dos.writeShort(unscaled.length);
+					dos.write(unscaled);
+				}
+				else if (key instanceof Double) {
+					dos.writeByte(TYPE_DOUBLE);
+					dos.writeDouble((Double) key);
+				}
+				else if (key instanceof Boolean) {
+					dos.writeByte(TYPE_BOOLEAN);
+					dos.writeBoolean((Boolean) key);
+				}
+				else if (key instanceof Timestamp) {
+					dos.writeByte(TYPE_TIMESTAMP);
+					dos.writeLong(((Timestamp) key).getTime());
+					dos.writeInt(((Timestamp) key).getNanos());
+				}
+				else if (key instanceof java.sql.Date) {
+					dos.writeByte(TYPE_SQL_DATE);
+					dos.writeLong(((Date) key).getTime());
+				}
+				else if (key instanceof Time) {
+					dos.writeByte(TYPE_TIME);
+					dos.writeLong(((Date) key).getTime());
+				}
+				else if (key instanceof Date) {
+					dos.writeByte(TYPE_DATE);
+					dos.writeLong(((Date) key).getTime());
+				}
+				else {
+					throw new CommonException("键字段值" + (null != key ? "类型'" + key.getClass().getName() + "'" : "为空,") + "不支持键集分页");
+				}
+			}
+			dos.flush();
+			return Base64.encodeBase64URLSafeString(baos.toByteArray());
+		}
+		catch (IOException e) {
+			throw ExceptionWrapUtils.wrap(e);
+		}
+	}
+
+	public static Object[] decode(String token) throws CommonException {
+		try (DataInputStream dis = new DataInputStream(new ByteArrayInputStream(Base64.decodeBase64(token)))) {
+			Object[] keys = new Object[dis.readUnsignedShort()];
+			for (int i = 0; i < keys.length; i++) {
+				byte type = dis.readByte();
+				switch (type) {
+					case TYPE_STRING:
+						keys[i] = dis.readUTF();
+						break;
+					case TYPE_INTEGER:
+						keys[i] = dis.readInt();
+						break;
+					case TYPE_LONG:
+						keys[i] = dis.readLong();
+						break;
+					case TYPE_BIG_INTEGER: {
+						byte[] value = new byte[dis.readUnsignedShort()];
+						dis.readFully(value);
+						keys[i] = new BigInteger(value);
+						break;
+					}
+					case TYPE_SHORT:
+						keys[i] = dis.readShort();
+						break;
+					case TYPE_BYTE:
+						keys[i] = dis.readByte();
+						break;
+					case TYPE_BIG_DECIMAL: {
+						int scale = dis.readInt();
+						byte[] unscaled = new byte[dis.readUnsignedShort()];
+						dis.readFully(unscaled);
+						keys[i] = new BigDecimal(new BigInteger(unscaled), scale);
+						break;
+					}
+					case TYPE_DOUBLE:
+						keys[i] = dis.readDouble();
+						break;
+					case TYPE_BOOLEAN:
+						keys[i] = dis.readBoolean();
+						break;
+					case TYPE_TIMESTAMP: {
+						Timestamp timestamp = new Timestamp(dis.readLong());
+						timestamp.setNanos(dis.readInt());
+						keys[i] = timestamp;
+						break;
+					}
+					case TYPE_SQL_DATE:
+						keys[i] = new java.sql.Date(dis.readLong());
+						break;
+					case TYPE_TIME:
+						keys[i] = new Time(dis.readLong());
+						break;
+					case TYPE_DATE:
+						keys[i] = new Date(dis.readLong());
+						break;
+					default:
+						throw new CommonException("续查标记格式错误");
+				}
+			}
+			if (dis.available() > 0) {
+				throw new CommonException("续查标记格式错误");
+			}
+			return keys;
+		}
+		catch (IOException | RuntimeException e) {
+			throw new CommonException("续查标记格式错误", e);
+		}
+	}
+}
\ No newline at end of file
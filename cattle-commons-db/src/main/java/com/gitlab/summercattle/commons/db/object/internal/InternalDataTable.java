@@ -31,4 +31,6 @@ public interface InternalDataTable {
 	Map<String, Integer> getFieldIndexes();
 
 	boolean isUseCache();
+
+	Object[] getPrimaryValues();
 }
\ No newline at end of file
@@ -18,4 +18,6 @@ package com.gitlab.summercattle.commons.db.object.internal;
 public interface RowLine {
 
 	Object get(int index);
+
+	void replace(int index, Object value);
 }
\ No newline at end of file
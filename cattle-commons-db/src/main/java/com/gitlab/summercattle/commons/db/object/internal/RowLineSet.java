@@ -23,5 +23,7 @@ public interface RowLineSet extends RowLine {
 
 	Object[] getValues();
 
+	int[] getModifyIndexes() throws CommonException;
+
 	void set(int index, Object value) throws CommonException;
 }
\ No newline at end of file
@@ -0,0 +1,46 @@
+/*
+ * Copyright (C) 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gitlab.summercattle.commons.db.object.internal.column;
+
+import java.sql.ResultSet;
+
+import com.gitlab.summercattle.commons.exception.CommonException;
+
+/**
+ * 列式存储的数据列
+ */
+public interface Column {
+
+	/**
+	 * 读取结果集当前记录的字段值并追加到列尾
+	 * @param rs 结果集
+	 * @param columnIndex 字段序号,从1开始
+	 * @throws CommonException 异常
+	 */
+	void read(ResultSet rs, int columnIndex) throws CommonException;
+
+	/**
+	 * 读取完成后释放多余的容量
+	 */
+	void trim();
+
+	/**
+	 * 得到指定行的字段值
+	 * @param row 行下标,从0开始
+	 * @return 字段值
+	 */
+	Object get(int row);
+}
\ No newline at end of file
@@ -0,0 +1,55 @@
+/*
+ * Copyright (C) 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gitlab.summercattle.commons.db.object.internal.column;
+
+import java.sql.Types;
+
+import com.gitlab.summercattle.commons.db.field.FieldTypes;
+import com.gitlab.summercattle.commons.exception.CommonException;
+
+public class Columns {
+
+	static final int INIT_CAPACITY = 16;
+
+	/**
+	 * 按字段类型创建数据列,数值字段使用基本类型数组,字符字段使用字典编码
+	 * @param table 表名
+	 * @param field 字段名
+	 * @param code 字段类型
+	 * @return 数据列
+	 * @throws CommonException 异常
+	 */
+	public static Column create(String table, String field, int code) throws CommonException {
+		if (code == Types.BIGINT) {
+			return new LongColumn(FieldTypes.getType(table, field, code));
+		}
+		else if (code == Types.INTEGER || code == Types.SMALLINT || code == Types.TINYINT) {
+			return new IntColumn(code);
+		}
+		else if (code == Types.DOUBLE) {
+			return new DoubleColumn();
+		}
+		else if (code == Types.CHAR || code == Types.NCHAR || code == Types.VARCHAR || code == Types.LONGVARCHAR || code == Types.NVARCHAR
+				|| code == Types.LONGNVARCHAR) {
+			return new StringColumn(FieldTypes.getType(table, field, code));
+		}
+		return new ObjectColumn(FieldTypes.getType(table, field, code));
+	}
+
+	static int grow(int capacity) {
+		return Math.max(INIT_CAPACITY, capacity * 2);
+	}
+}
\ No newline at end of file
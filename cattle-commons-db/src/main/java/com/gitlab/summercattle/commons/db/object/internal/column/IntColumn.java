@@ -0,0 +1,87 @@
+/*
+ * Copyright (C) 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gitlab.summercattle.commons.db.object.internal.column;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.BitSet;
+
+import com.gitlab.summercattle.commons.exception.CommonException;
+import com.gitlab.summercattle.commons.utils.exception.ExceptionWrapUtils;
+
+/**
+ * 整型数据列,空值单独记录
+ */
+public class IntColumn implements Column {
+
+	private final int code;
+
+	private int[] values = new int[0];
+
+	private final BitSet nulls = new BitSet();
+
+	private int size = 0;
+
+	IntColumn(int code) {
+		this.code = code;
+	}
+
+	@Override
+	public void read(ResultSet rs, int columnIndex) throws CommonException {
+		if (size == values.length) {
+			values = Arrays.copyOf(values, Columns.grow(size));
+		}
+		try {
+			values[size] = rs.getInt(columnIndex);
+			if (rs.wasNull()) {
+				nulls.set(size);
+			}
+			size++;
+		}
+		catch (SQLException e) {
+			throw ExceptionWrapUtils.wrap(e);
+		}
+	}
+
+	@Override
+	public void trim() {
+		values = Arrays.copyOf(values, size);
+	}
+
+	@Override
+	public Object get(int row) {
+		if (nulls.get(row)) {
+			return null;
+		}
+		else if (code == Types.SMALLINT) {
+			return Short.valueOf((short) values[row]);
+		}
+		else if (code == Types.TINYINT) {
+			return Byte.valueOf((byte) values[row]);
+		}
+		return Integer.valueOf(values[row]);
+	}
+
+	public boolean isNull(int row) {
+		return nulls.get(row);
+	}
+
+	public int getInt(int row) {
+		return values[row];
+	}
+}
\ No newline at end of file
@@ -0,0 +1,107 @@
+/*
+ * Copyright (C) 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gitlab.summercattle.commons.db.object.internal.column;
+
+import java.math.BigInteger;
+import java.sql.ResultSet;
+import java.util.Arrays;
+import java.util.BitSet;
+
+import com.gitlab.summercattle.commons.db.field.AbstractField;
+import com.gitlab.summercattle.commons.exception.CommonException;
+
+/**
+ * 长整型数据列,值为BigInteger,超出long范围时整列转为对象存储
+ */
+public class LongColumn implements Column {
+
+	private final AbstractField fieldType;
+
+	private long[] values = new long[0];
+
+	private Object[] objectValues;
+
+	private final BitSet nulls = new BitSet();
+
+	private int size = 0;
+
+	LongColumn(AbstractField fieldType) {
+		this.fieldType = fieldType;
+	}
+
+	@Override
+	public void read(ResultSet rs, int columnIndex) throws CommonException {
+		BigInteger value = (BigInteger) fieldType.nullSafeGet(rs, columnIndex);
+		if (null == objectValues && null != value && value.bitLength() > 63) {
+			objectValues = new Object[values.length];
+			for (int i = 0; i < size; i++) {
+				objectValues[i] = nulls.get(i) ? null : BigInteger.valueOf(values[i]);
+			}
+			values = null;
+		}
+		if (null != objectValues) {
+			if (size == objectValues.length) {
+				objectValues = Arrays.copyOf(objectValues, Columns.grow(size));
+			}
+			objectValues[size++] = value;
+			return;
+		}
+		if (size == values.length) {
+			values = Arrays.copyOf(values, Columns.grow(size));
+		}
+		if (null == value) {
+			nulls.set(size);
+		}
+		else {
+			values[size] = value.longValue();
+		}
+		size++;
+	}
+
+	@Override
+	public void trim() {
+		if (null != objectValues) {
+			objectValues = Arrays.copyOf(objectValues, size);
+		}
+		else {
+			values = Arrays.copyOf(values, size);
+		}
+	}
+
+	@Override
+	public Object get(int row) {
+		if (null != objectValues) {
+			return objectValues[row];
+		}
+		return nulls.get(row) ? null : BigInteger.valueOf(values[row]);
+	}
+
+	/**
+	 * 是否可按基本类型读取
+	 * @return 是否可按基本类型读取
+	 */
+	public boolean isPrimitive() {
+		return null == objectValues;
+	}
+
+	public boolean isNull(int row) {
+		return null != objectValues ? null == objectValues[row] : nulls.get(row);
+	}
+
+	public long getLong(int row) {
+		return values[row];
+	}
+}
\ No newline at end of file
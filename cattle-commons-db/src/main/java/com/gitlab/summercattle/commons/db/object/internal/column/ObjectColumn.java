@@ -0,0 +1,56 @@
+/*
+ * Copyright (C) 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gitlab.summercattle.commons.db.object.internal.column;
+
+import java.sql.ResultSet;
+import java.util.Arrays;
+
+import com.gitlab.summercattle.commons.db.field.AbstractField;
+import com.gitlab.summercattle.commons.exception.CommonException;
+
+/**
+ * 对象数据列,用于没有基本类型存储的字段类型
+ */
+public class ObjectColumn implements Column {
+
+	private final AbstractField fieldType;
+
+	private Object[] values = new Object[0];
+
+	private int size = 0;
+
+	ObjectColumn(AbstractField fieldType) {
+		this.fieldType = fieldType;
+	}
+
+	@Override
+	public void read(ResultSet rs, int columnIndex) throws CommonException {
+		if (size == values.length) {
+			values = Arrays.copyOf(values, Columns.grow(size));
+		}
+		values[size++] = fieldType.nullSafeGet(rs, columnIndex);
+	}
+
+	@Override
+	public void trim() {
+		values = Arrays.copyOf(values, size);
+	}
+
+	@Override
+	public Object get(int row) {
+		return values[row];
+	}
+}
\ No newline at end of file
@@ -0,0 +1,112 @@
+/*
+ * Copyright (C) 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gitlab.summercattle.commons.db.object.internal.column;
+
+import java.sql.ResultSet;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.gitlab.summercattle.commons.db.field.AbstractField;
+import com.gitlab.summercattle.commons.exception.CommonException;
+
+/**
+ * 字符数据列,使用字典编码,相同的值只保存一份,不同值的数量超过上限时整列转为字符串数组存储
+ */
+public class StringColumn implements Column {
+
+	private static final int NULL_CODE = -1;
+
+	private static final int MAX_DICTIONARY_SIZE = 1024;
+
+	private final AbstractField fieldType;
+
+	private int[] codes = new int[0];
+
+	private String[] dictionary = new String[0];
+
+	private int dictionarySize = 0;
+
+	private Map<String, Integer> dictionaryIndexes = new HashMap<String, Integer>();
+
+	private String[] plainValues;
+
+	private int size = 0;
+
+	StringColumn(AbstractField fieldType) {
+		this.fieldType = fieldType;
+	}
+
+	@Override
+	public void read(ResultSet rs, int columnIndex) throws CommonException {
+		String value = (String) fieldType.nullSafeGet(rs, columnIndex);
+		if (null != plainValues) {
+			if (size == plainValues.length) {
+				plainValues = Arrays.copyOf(plainValues, Columns.grow(size));
+			}
+			plainValues[size++] = value;
+			return;
+		}
+		if (size == codes.length) {
+			codes = Arrays.copyOf(codes, Columns.grow(size));
+		}
+		if (null == value) {
+			codes[size++] = NULL_CODE;
+			return;
+		}
+		Integer code = dictionaryIndexes.get(value);
+		if (null == code) {
+			if (dictionarySize == MAX_DICTIONARY_SIZE) {
+				plainValues = new String[codes.length];
+				for (int i = 0; i < size; i++) {
+					plainValues[i] = codes[i] == NULL_CODE ? null : dictionary[codes[i]];
+				}
+				plainValues[size++] = value;
+				codes = null;
+				dictionary = null;
+				dictionaryIndexes = null;
+				return;
+			}
+			if (dictionarySize == dictionary.length) {
+				dictionary = Arrays.copyOf(dictionary, Columns.grow(dictionarySize));
+			}
+			code = dictionarySize;
+			dictionary[dictionarySize++] = value;
+			dictionaryIndexes.put(value, code);
+		}
+		codes[size++] = code.intValue();
+	}
+
+	@Override
+	public void trim() {
+		if (null != plainValues) {
+			plainValues = Arrays.copyOf(plainValues, size);
+			return;
+		}
+		codes = Arrays.copyOf(codes, size);
+		dictionary = Arrays.copyOf(dictionary, dictionarySize);
+		dictionaryIndexes = null;
+	}
+
+	@Override
+	public Object get(int row) {
+		if (null != plainValues) {
+			return plainValues[row];
+		}
+		int code = codes[row];
+		return code == NULL_CODE ? null : dictionary[code];
+	}
+}
\ No newline at end of file
@@ -29,4 +29,9 @@ public class RowLineImpl implements RowLine {
 	public Object get(int index) {
 		return values[index];
 	}
+
+	@Override
+	public void replace(int index, Object value) {
+		values[index] = value;
+	}
 }
\ No newline at end of file
@@ -15,6 +15,8 @@
  */
 package com.gitlab.summercattle.commons.db.object.internal.impl;
 
+import java.util.Arrays;
+
 import com.gitlab.summercattle.commons.db.field.FieldTypes;
 import com.gitlab.summercattle.commons.db.object.internal.RowLineSet;
 import com.gitlab.summercattle.commons.db.object.internal.RowStatus;
@@ -53,26 +55,40 @@ public class RowLineSetImpl extends RowLineImpl implements RowLineSet {
 		values[index] = value;
 	}
 
+	@Override
+	public void replace(int index, Object value) {
+		if (initValues[index] == values[index]) {
+			initValues[index] = value;
+		}
+		values[index] = value;
+	}
+
 	@Override
 	public RowStatus getStatus() throws CommonException {
 		if (initStatus == RowStatus.Add) {
 			return RowStatus.Add;
 		}
-		if (isOperate && initStatus == RowStatus.Init) {
-			boolean isModify = false;
-			for (int i = 0; i < initValues.length; i++) {
-				if (!FieldTypes.getType(name, fieldNames[i], fieldsType[i]).nullSafeIsEqual(initValues[i], values[i])) {
-					isModify = true;
-					break;
-				}
-			}
-			if (isModify) {
-				return RowStatus.Modify;
-			}
+		if (isOperate && initStatus == RowStatus.Init && getModifyIndexes().length > 0) {
+			return RowStatus.Modify;
 		}
 		return RowStatus.Init;
 	}
 
+	@Override
+	public int[] getModifyIndexes() throws CommonException {
+		if (!isOperate) {
+			return new int[0];
+		}
+		int[] indexes = new int[fieldNames.length];
+		int count = 0;
+		for (int i = 0; i < fieldNames.length; i++) {
+			if (!FieldTypes.getType(name, fieldNames[i], fieldsType[i]).nullSafeIsEqual(initValues[i], values[i])) {
+				indexes[count++] = i;
+			}
+		}
+		return Arrays.copyOf(indexes, count);
+	}
+
 	@Override
 	public Object[] getValues() {
 		return values;
@@ -0,0 +1,53 @@
+/*
+ * Copyright (C) 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gitlab.summercattle.commons.db.sqlparser;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * 解析后的SQL语句
+ */
+public class ParsedSQL implements Serializable {
+
+	private static final long serialVersionUID = 3120548876245193407L;
+
+	private final String sql;
+
+	private final Set<String> tables;
+
+	public ParsedSQL(String sql, Set<String> tables) {
+		this.sql = sql;
+		this.tables = Collections.unmodifiableSet(tables);
+	}
+
+	/**
+	 * 改写后的SQL语句
+	 * @return SQL语句
+	 */
+	public String getSql() {
+		return sql;
+	}
+
+	/**
+	 * 语句引用的表或视图名
+	 * @return 表或视图名
+	 */
+	public Set<String> getTables() {
+		return tables;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,181 @@
+/*
+ * Copyright (C) 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gitlab.summercattle.commons.db.utils;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * SQL语句执行统计,按规范化后的SQL语句(常量替换为?,空白合并)记录执行时间、记录数、批处理及异常次数,
+ * 并记录超过阈值的慢SQL语句
+ */
+public final class JdbcMetrics {
+
+	private static final Logger logger = LoggerFactory.getLogger(JdbcMetrics.class);
+
+	private static final int MAX_STATEMENTS = 1000;
+
+	private static final String OTHER_STATEMENTS = "其他";
+
+	private static final Pattern STRING_PATTERN = Pattern.compile("'(?:[^']|'')*'");
+
+	private static final Pattern NUMBER_PATTERN = Pattern.compile("(?<![\\w.])-?\\d+(?:\\.\\d+)?(?![\\w.])");
+
+	private static final Pattern WHITESPACE_PATTERN = Pattern.compile("\\s+");
+
+	private static final Pattern IN_LIST_PATTERN = Pattern.compile("(?i)\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+
+	private static final Pattern REPEATED_GROUP_PATTERN = Pattern.compile("(\\([^()]*\\))(?:\\s*,\\s*\\1)+");
+
+	private static final Cache<String, String> normalizedSQLs = Caffeine.newBuilder().maximumSize(2000).build();
+
+	private static final ConcurrentMap<String, StatementStats> statementStats = new ConcurrentHashMap<String, StatementStats>();
+
+	private static final List<StatementListener> listeners = new CopyOnWriteArrayList<StatementListener>();
+
+	private static volatile boolean enabled = true;
+
+	private static volatile long slowThreshold = 1000;
+
+	private JdbcMetrics() {
+	}
+
+	/**
+	 * 设置统计参数
+	 * @param enabled 是否统计
+	 * @param slowThreshold 慢SQL语句的阈值(毫秒),小于等于0不记录
+	 */
+	public static void configure(boolean enabled, long slowThreshold) {
+		JdbcMetrics.enabled = enabled;
+		JdbcMetrics.slowThreshold = slowThreshold;
+	}
+
+	public static boolean isEnabled() {
+		return enabled;
+	}
+
+	public static void addListener(StatementListener listener) {
+		listeners.add(listener);
+	}
+
+	public static void removeListener(StatementListener listener) {
+		listeners.remove(listener);
+	}
+
+	/**
+	 * 各SQL语句的执行统计
+	 * @return 执行统计,键为规范化后的SQL语句
+	 */
+	public static Map<String, StatementStats> getStatementStats() {
+		return Collections.unmodifiableMap(new HashMap<String, StatementStats>(statementStats));
+	}
+
+	/**
+	 * 清除执行统计
+	 */
+	public static void clear() {
+		statementStats.clear();
+	}
+
+	/**
+	 * 规范化SQL语句,常量替换为?,in列表及重复的值列表合并为一个,空白合并
+	 * @param sql SQL语句
+	 * @return 规范化后的SQL语句
+	 */
+	public static String normalize(String sql) {
+		if (null == sql) {
+			return OTHER_STATEMENTS;
+		}
+		return normalizedSQLs.get(sql, key -> {
+			String lSQL = STRING_PATTERN.matcher(key).replaceAll("?");
+			lSQL = NUMBER_PATTERN.matcher(lSQL).replaceAll("?");
+			lSQL = WHITESPACE_PATTERN.matcher(lSQL).replaceAll(" ").trim();
+			lSQL = IN_LIST_PATTERN.matcher(lSQL).replaceAll("in (?)");
+			return REPEATED_GROUP_PATTERN.matcher(lSQL).replaceAll("$1");
+		});
+	}
+
+	/**
+	 * 记录一次SQL语句执行,慢SQL语句的日志由调用方输出,以免为格式化执行信息而创建对象
+	 * @param type SQL语句类型
+	 * @param sql SQL语句
+	 * @param nanos 执行时间(纳秒)
+	 * @param rows 处理的记录数
+	 * @param batchSize 批处理的语句数
+	 * @param error 是否出现异常
+	 * @return 是否超过慢SQL语句的阈值
+	 */
+	static boolean record(StatementType type, String sql, long nanos, long rows, int batchSize, boolean error) {
+		if (!enabled) {
+			return false;
+		}
+		String key = normalize(sql);
+		StatementStats stats = statementStats.get(key);
+		if (null == stats) {
+			if (statementStats.size() >= MAX_STATEMENTS) {
+				key = OTHER_STATEMENTS;
+			}
+			stats = statementStats.computeIfAbsent(key, StatementStats::new);
+		}
+		stats.record(nanos, rows, batchSize, error);
+		for (StatementListener listener : listeners) {
+			try {
+				listener.onStatement(type, key, nanos, rows, batchSize, error);
+			}
+			catch (RuntimeException e) {
+				logger.error("SQL语句执行统计监听出现异常:" + e.getMessage(), e);
+			}
+		}
+		long lSlowThreshold = slowThreshold;
+		return lSlowThreshold > 0 && nanos >= lSlowThreshold * 1000000;
+	}
+
+	/**
+	 * SQL语句类型
+	 */
+	public enum StatementType {
+		Query, Update, Batch, Call
+	}
+
+	/**
+	 * SQL语句执行的监听
+	 */
+	public interface StatementListener {
+
+		/**
+		 * SQL语句执行完成
+		 * @param type SQL语句类型
+		 * @param sql 规范化后的SQL语句
+		 * @param nanos 执行时间(纳秒)
+		 * @param rows 处理的记录数,查询时为0
+		 * @param batchSize 批处理的语句数,非批处理时为0
+		 * @param error 是否出现异常
+		 */
+		void onStatement(StatementType type, String sql, long nanos, long rows, int batchSize, boolean error);
+	}
+}
\ No newline at end of file
@@ -15,6 +15,8 @@
  */
 package com.gitlab.summercattle.commons.db.utils;
 
+import java.io.InputStream;
+import java.io.Reader;
 import java.sql.CallableStatement;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
@@ -22,12 +24,12 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.sql.Types;
-import java.util.Date;
 
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.gitlab.summercattle.commons.db.utils.JdbcMetrics.StatementType;
 import com.gitlab.summercattle.commons.exception.CommonException;
 import com.gitlab.summercattle.commons.utils.exception.ExceptionWrapUtils;
 import com.gitlab.summercattle.commons.utils.reflect.ClassType;
@@ -37,18 +39,45 @@ public class JdbcUtils {
 
 	private static final Logger logger = LoggerFactory.getLogger(JdbcUtils.class);
 
-	private static final int BATCH_RECORDS = 1000;
+	public static final int BATCH_RECORDS = 1000;
 
-	public static ResultSet executeQuery(PreparedStatement ps, String info) throws CommonException {
+	/**
+	 * 执行查询,执行信息仅在需要输出日志时格式化
+	 * @param ps 语句
+	 * @param sql SQL语句
+	 * @param params 参数值
+	 * @return 结果集
+	 * @throws CommonException 异常
+	 */
+	public static ResultSet executeQuery(PreparedStatement ps, String sql, Object[] params) throws CommonException {
+		return doExecuteQuery(ps, sql, params, null);
+	}
+
+	/**
+	 * 执行查询,执行信息仅在需要输出日志时格式化
+	 * @param ps 语句
+	 * @param statement SQL语句执行信息
+	 * @return 结果集
+	 * @throws CommonException 异常
+	 */
+	public static ResultSet executeQuery(PreparedStatement ps, SqlStatement statement) throws CommonException {
+		return doExecuteQuery(ps, statement.getSql(), null, statement);
+	}
+
+	private static ResultSet doExecuteQuery(PreparedStatement ps, String sql, Object[] params, SqlStatement statement) throws CommonException {
+		long startTime = System.nanoTime();
 		try {
-			long startTime = (new Date()).getTime();
 			ResultSet rs = ps.executeQuery();
-			long endTime = (new Date()).getTime();
-			logger.debug(info + ",执行时间:" + (endTime - startTime) + "毫秒");
+			long elapsed = System.nanoTime() - startTime;
+			if (logger.isDebugEnabled()) {
+				logger.debug(getInfo(sql, params, statement) + ",执行时间:" + (elapsed / 1000000) + "毫秒");
+			}
+			record(StatementType.Query, sql, params, statement, elapsed, 0, 0, false);
 			return rs;
 		}
 		catch (SQLException e) {
-			logger.error(info + ",出现异常:" + e.getMessage());
+			record(StatementType.Query, sql, params, statement, System.nanoTime() - startTime, 0, 0, true);
+			logger.error(getInfo(sql, params, statement) + ",出现异常:" + e.getMessage());
 			throw ExceptionWrapUtils.wrap(e);
 		}
 	}
@@ -75,7 +104,13 @@ public class JdbcUtils {
 
 	public static void setDbObject(PreparedStatement ps, int index, Object value) throws CommonException {
 		try {
-			if (null != value) {
+			if (value instanceof InputStream) {
+				ps.setBinaryStream(index, (InputStream) value);
+			}
+			else if (value instanceof Reader) {
+				ps.setCharacterStream(index, (Reader) value);
+			}
+			else if (null != value) {
 				ClassType valueType = ReflectUtils.getClassType(value.getClass());
 				if (valueType == ClassType.Time || valueType == ClassType.Date) {
 					ps.setObject(index, ReflectUtils.convertValue(ClassType.Timestamp, value));
@@ -102,39 +137,85 @@ public class JdbcUtils {
 		}
 	}
 
-	public static int executeUpdate(PreparedStatement ps, String info) throws CommonException {
+	/**
+	 * 执行更新,执行信息仅在需要输出日志时格式化
+	 * @param ps 语句
+	 * @param sql SQL语句
+	 * @param params 参数值
+	 * @return 处理的记录数
+	 * @throws CommonException 异常
+	 */
+	public static int executeUpdate(PreparedStatement ps, String sql, Object[] params) throws CommonException {
+		return doExecuteUpdate(ps, sql, params, null);
+	}
+
+	/**
+	 * 执行更新,执行信息仅在需要输出日志时格式化
+	 * @param ps 语句
+	 * @param statement SQL语句执行信息
+	 * @return 处理的记录数
+	 * @throws CommonException 异常
+	 */
+	public static int executeUpdate(PreparedStatement ps, SqlStatement statement) throws CommonException {
+		return doExecuteUpdate(ps, statement.getSql(), null, statement);
+	}
+
+	private static int doExecuteUpdate(PreparedStatement ps, String sql, Object[] params, SqlStatement statement) throws CommonException {
+		long startTime = System.nanoTime();
 		try {
-			long startTime = (new Date()).getTime();
 			int records = ps.executeUpdate();
-			long endTime = (new Date()).getTime();
-			logger.debug(info + ",成功处理:" + records + "条数据,执行时间:" + (endTime - startTime) + "毫秒");
+			long elapsed = System.nanoTime() - startTime;
+			if (logger.isDebugEnabled()) {
+				logger.debug(getInfo(sql, params, statement) + ",成功处理:" + records + "条数据,执行时间:" + (elapsed / 1000000) + "毫秒");
+			}
+			record(StatementType.Update, sql, params, statement, elapsed, records, 0, false);
 			return records;
 		}
 		catch (SQLException e) {
-			logger.error(info + ",出现异常:" + e.getMessage());
+			record(StatementType.Update, sql, params, statement, System.nanoTime() - startTime, 0, 0, true);
+			logger.error(getInfo(sql, params, statement) + ",出现异常:" + e.getMessage());
 			throw ExceptionWrapUtils.wrap(e);
 		}
 	}
 
-	public static void execute(CallableStatement cs, String info) throws CommonException {
+	/**
+	 * 执行存储过程调用,执行信息仅在需要输出日志时格式化
+	 * @param cs 语句
+	 * @param sql SQL语句
+	 * @param params 参数值
+	 * @throws CommonException 异常
+	 */
+	public static void execute(CallableStatement cs, String sql, Object[] params) throws CommonException {
+		long startTime = System.nanoTime();
 		try {
-			long startTime = (new Date()).getTime();
 			cs.execute();
-			long endTime = (new Date()).getTime();
-			logger.debug(info + ",执行时间:" + (endTime - startTime) + "毫秒");
+			long elapsed = System.nanoTime() - startTime;
+			if (logger.isDebugEnabled()) {
+				logger.debug(SqlStatement.format(sql, params) + ",执行时间:" + (elapsed / 1000000) + "毫秒");
+			}
+			record(StatementType.Call, sql, params, null, elapsed, 0, 0, false);
 		}
 		catch (SQLException e) {
-			logger.error(info + ",出现异常:" + e.getMessage());
+			record(StatementType.Call, sql, params, null, System.nanoTime() - startTime, 0, 0, true);
+			logger.error(SqlStatement.format(sql, params) + ",出现异常:" + e.getMessage());
 			throw ExceptionWrapUtils.wrap(e);
 		}
 	}
 
-	public static int addBatch(PreparedStatement ps, String info, int currentFrequency) throws CommonException {
+	/**
+	 * 加入批处理,达到每批次的记录数时执行
+	 * @param ps 语句
+	 * @param sql SQL语句
+	 * @param currentFrequency 当前批次的记录数
+	 * @return 加入后当前批次的记录数
+	 * @throws CommonException 异常
+	 */
+	public static int addBatch(PreparedStatement ps, String sql, int currentFrequency) throws CommonException {
 		try {
 			ps.addBatch();
 			currentFrequency++;
 			if (currentFrequency == BATCH_RECORDS) {
-				completeBatch(ps, info, currentFrequency);
+				completeBatch(ps, sql, currentFrequency);
 				currentFrequency = 0;
 			}
 			return currentFrequency;
@@ -144,36 +225,88 @@ public class JdbcUtils {
 		}
 	}
 
-	public static void completeBatch(PreparedStatement ps, String info, int currentFrequency) throws CommonException {
+	public static void completeBatch(PreparedStatement ps, String sql, int currentFrequency) throws CommonException {
 		if (currentFrequency > 0) {
-			try {
-				long startTime = (new Date()).getTime();
-				int[] results = ps.executeBatch();
-				long endTime = (new Date()).getTime();
-				int success = 0;
-				int fail = 0;
-				for (int result : results) {
-					if (result == 1 || result == PreparedStatement.SUCCESS_NO_INFO) {
-						success++;
-					}
-					else if (result == 0 || result == PreparedStatement.EXECUTE_FAILED) {
-						fail++;
-					}
+			executeBatch(ps, sql);
+		}
+	}
+
+	/**
+	 * 执行批处理,驱动返回SUCCESS_NO_INFO的语句单独计数,不计入成功处理的记录数
+	 * @param ps 语句
+	 * @param sql SQL语句
+	 * @return 各语句处理的记录数
+	 * @throws CommonException 异常
+	 */
+	public static int[] executeBatch(PreparedStatement ps, String sql) throws CommonException {
+		return doExecuteBatch(ps, sql, null);
+	}
+
+	/**
+	 * 执行批处理,执行信息仅在需要输出日志时格式化,
+	 * 驱动返回SUCCESS_NO_INFO的语句单独计数,不计入成功处理的记录数
+	 * @param ps 语句
+	 * @param statement SQL语句执行信息
+	 * @return 各语句处理的记录数
+	 * @throws CommonException 异常
+	 */
+	public static int[] executeBatch(PreparedStatement ps, SqlStatement statement) throws CommonException {
+		return doExecuteBatch(ps, statement.getSql(), statement);
+	}
+
+	private static int[] doExecuteBatch(PreparedStatement ps, String sql, SqlStatement statement) throws CommonException {
+		long startTime = System.nanoTime();
+		try {
+			int[] results = ps.executeBatch();
+			long elapsed = System.nanoTime() - startTime;
+			int success = 0;
+			int noInfo = 0;
+			int fail = 0;
+			for (int result : results) {
+				if (result > 0) {
+					success += result;
 				}
-				logger.debug(info + ",成功处理:" + success + "条数据,失败:" + fail + "条数据,执行时间:" + (endTime - startTime) + "毫秒");
-			}
-			catch (SQLException e) {
-				throw ExceptionWrapUtils.wrap(e);
-			}
-			finally {
-				try {
-					ps.clearBatch();
+				else if (result == PreparedStatement.SUCCESS_NO_INFO) {
+					noInfo++;
 				}
-				catch (SQLException e) {
-					logger.error(e.getMessage(), e);
+				else {
+					fail++;
 				}
 			}
+			if (logger.isDebugEnabled()) {
+				logger.debug(getInfo(sql, null, statement) + ",成功处理:" + success + "条数据," + (noInfo > 0 ? "未返回处理记录数:" + noInfo + "条语句," : "")
+						+ "失败:" + fail + "条数据,执行时间:" + (elapsed / 1000000) + "毫秒");
+			}
+			record(StatementType.Batch, sql, null, statement, elapsed, success, results.length, fail > 0);
+			return results;
 		}
+		catch (SQLException e) {
+			record(StatementType.Batch, sql, null, statement, System.nanoTime() - startTime, 0, 0, true);
+			logger.error(getInfo(sql, null, statement) + ",出现异常:" + e.getMessage());
+			throw ExceptionWrapUtils.wrap(e);
+		}
+		finally {
+			try {
+				ps.clearBatch();
+			}
+			catch (SQLException e) {
+				logger.error(e.getMessage(), e);
+			}
+		}
+	}
+
+	/**
+	 * 记录执行统计,超过阈值时输出慢SQL语句日志
+	 */
+	private static void record(StatementType type, String sql, Object[] params, SqlStatement statement, long nanos, long rows, int batchSize,
+			boolean error) {
+		if (JdbcMetrics.record(type, sql, nanos, rows, batchSize, error) && logger.isWarnEnabled()) {
+			logger.warn("慢SQL语句," + getInfo(sql, params, statement) + ",执行时间:" + (nanos / 1000000) + "毫秒");
+		}
+	}
+
+	private static String getInfo(String sql, Object[] params, SqlStatement statement) {
+		return null != statement ? statement.toString() : SqlStatement.format(sql, params);
 	}
 
 	public static void executeSQL(Connection conn, String strSQL) throws CommonException {
@@ -184,10 +317,13 @@ public class JdbcUtils {
 					PreparedStatement ps = null;
 					try {
 						ps = conn.prepareStatement(sql);
-						long startTime = (new Date()).getTime();
+						long startTime = System.nanoTime();
 						ps.execute();
-						long endTime = (new Date()).getTime();
-						logger.debug("执行SQL语句:" + sql + ",执行时间:" + (endTime - startTime) + "毫秒");
+						long elapsed = System.nanoTime() - startTime;
+						if (logger.isDebugEnabled()) {
+							logger.debug(SqlStatement.format(sql, null) + ",执行时间:" + (elapsed / 1000000) + "毫秒");
+						}
+						record(StatementType.Update, sql, null, null, elapsed, 0, 0, false);
 					}
 					catch (SQLException e) {
 						logger.error("执行SQL语句:" + sql + ",出现异常:" + e.getMessage());
@@ -206,7 +342,7 @@ public class JdbcUtils {
 		PreparedStatement ps = null;
 		try {
 			ps = conn.prepareStatement(strSQL);
-			rs = executeQuery(ps, "执行SQL语句:" + strSQL);
+			rs = executeQuery(ps, strSQL, null);
 			if (rs.next()) {
 				return rs.getObject(1);
 			}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (C) 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gitlab.summercattle.commons.db.utils;
+
+import com.gitlab.summercattle.commons.utils.auxiliary.ArrayUtils;
+
+/**
+ * SQL语句执行信息,只保存SQL语句及参数值数组的引用,仅在输出日志或出现异常时格式化,
+ * 用于参数值需要延迟生成或需要自定义格式的语句,已有SQL语句及参数值数组时直接使用JdbcUtils对应的方法,不需要创建
+ */
+public class SqlStatement {
+
+	private static final String SQL_INFO_PREFIX = "执行SQL语句:";
+
+	private static final String PARAMS_INFO_PREFIX = ",参数值:";
+
+	private final String sql;
+
+	private final Object[] params;
+
+	private final boolean hasParams;
+
+	/**
+	 * 构造,没有参数值
+	 * @param sql SQL语句
+	 */
+	public SqlStatement(String sql) {
+		this.sql = sql;
+		this.params = null;
+		this.hasParams = false;
+	}
+
+	/**
+	 * 构造
+	 * @param sql SQL语句
+	 * @param params 参数值
+	 */
+	public SqlStatement(String sql, Object[] params) {
+		this.sql = sql;
+		this.params = params;
+		this.hasParams = true;
+	}
+
+	public String getSql() {
+		return sql;
+	}
+
+	/**
+	 * 参数值,子类可以延迟计算
+	 * @return 参数值
+	 */
+	public Object[] getParams() {
+		return params;
+	}
+
+	@Override
+	public String toString() {
+		if (!hasParams) {
+			return format(sql, null);
+		}
+		Object[] lParams = getParams();
+		return format(sql, null != lParams ? lParams : new Object[0]);
+	}
+
+	/**
+	 * 格式化执行信息
+	 * @param sql SQL语句
+	 * @param params 参数值,为null时不输出参数值
+	 * @return 执行信息
+	 */
+	public static String format(String sql, Object[] params) {
+		if (null == params) {
+			return SQL_INFO_PREFIX + sql;
+		}
+		return SQL_INFO_PREFIX + sql + PARAMS_INFO_PREFIX + (params.length > 0 ? ArrayUtils.toString(params) : "无");
+	}
+}
\ No newline at end of file
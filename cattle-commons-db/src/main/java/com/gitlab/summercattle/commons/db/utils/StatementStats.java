@@ -0,0 +1,202 @@
+/*
+ * Copyright (C) 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gitlab.summercattle.commons.db.utils;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * SQL语句的执行统计,执行时间按固定区间计数
+ */
+public final class StatementStats {
+
+	private static final long[] BUCKET_BOUNDS = { 1, 2, 5, 10, 20, 50, 100, 200, 500, 1000, 2000, 5000, 10000 };
+
+	private final String sql;
+
+	private final LongAdder count = new LongAdder();
+
+	private final LongAdder errorCount = new LongAdder();
+
+	private final LongAdder rows = new LongAdder();
+
+	private final LongAdder batchCount = new LongAdder();
+
+	private final LongAdder batchRecords = new LongAdder();
+
+	private final LongAdder totalNanos = new LongAdder();
+
+	private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+	private final LongAdder[] buckets = new LongAdder[BUCKET_BOUNDS.length + 1];
+
+	StatementStats(String sql) {
+		this.sql = sql;
+		for (int i = 0; i < buckets.length; i++) {
+			buckets[i] = new LongAdder();
+		}
+	}
+
+	void record(long nanos, long rows, int batchSize, boolean error) {
+		count.increment();
+		totalNanos.add(nanos);
+		maxNanos.accumulate(nanos);
+		if (error) {
+			errorCount.increment();
+		}
+		if (rows > 0) {
+			this.rows.add(rows);
+		}
+		if (batchSize > 0) {
+			batchCount.increment();
+			batchRecords.add(batchSize);
+		}
+		buckets[getBucketIndex(nanos / 1000000)].increment();
+	}
+
+	private static int getBucketIndex(long millis) {
+		for (int i = 0; i < BUCKET_BOUNDS.length; i++) {
+			if (millis < BUCKET_BOUNDS[i]) {
+				return i;
+			}
+		}
+		return BUCKET_BOUNDS.length;
+	}
+
+	/**
+	 * 各区间的上限(毫秒,不含),最后一个区间没有上限
+	 * @return 区间上限
+	 */
+	public static long[] getBucketBounds() {
+		return BUCKET_BOUNDS.clone();
+	}
+
+	/**
+	 * 规范化后的SQL语句
+	 * @return SQL语句
+	 */
+	public String getSql() {
+		return sql;
+	}
+
+	/**
+	 * 执行次数
+	 * @return 执行次数
+	 */
+	public long getCount() {
+		return count.sum();
+	}
+
+	/**
+	 * 出现异常的次数
+	 * @return 异常次数
+	 */
+	public long getErrorCount() {
+		return errorCount.sum();
+	}
+
+	/**
+	 * 处理的记录数
+	 * @return 记录数
+	 */
+	public long getRows() {
+		return rows.sum();
+	}
+
+	/**
+	 * 批处理的次数
+	 * @return 批处理次数
+	 */
+	public long getBatchCount() {
+		return batchCount.sum();
+	}
+
+	/**
+	 * 批处理的语句总数
+	 * @return 批处理语句总数
+	 */
+	public long getBatchRecords() {
+		return batchRecords.sum();
+	}
+
+	/**
+	 * 总执行时间(毫秒)
+	 * @return 总执行时间
+	 */
+	public double getTotalTime() {
+		return totalNanos.sum() / 1000000D;
+	}
+
+	/**
+	 * 最大执行时间(毫秒)
+	 * @return 最大执行时间
+	 */
+	public double getMaxTime() {
+		return maxNanos.get() / 1000000D;
+	}
+
+	/**
+	 * 平均执行时间(毫秒)
+	 * @return 平均执行时间
+	 */
+	public double getMeanTime() {
+		long lCount = count.sum();
+		return lCount > 0 ? totalNanos.sum() / 1000000D / lCount : 0;
+	}
+
+	/**
+	 * 各区间的执行次数
+	 * @return 执行次数
+	 */
+	public long[] getBuckets() {
+		long[] values = new long[buckets.length];
+		for (int i = 0; i < buckets.length; i++) {
+			values[i] = buckets[i].sum();
+		}
+		return values;
+	}
+
+	/**
+	 * 估计的百分位执行时间(毫秒),取所在区间的上限
+	 * @param percentile 百分位,0至1之间
+	 * @return 执行时间,落在最后一个区间时为最大执行时间
+	 */
+	public double getPercentile(double percentile) {
+		long[] values = getBuckets();
+		long total = 0;
+		for (long value : values) {
+			total += value;
+		}
+		if (total == 0) {
+			return 0;
+		}
+		long target = (long) Math.ceil(total * Math.min(Math.max(percentile, 0), 1));
+		long current = 0;
+		for (int i = 0; i < BUCKET_BOUNDS.length; i++) {
+			current += values[i];
+			if (current >= target) {
+				return BUCKET_BOUNDS[i];
+			}
+		}
+		return getMaxTime();
+	}
+
+	@Override
+	public String toString() {
+		return "StatementStats [sql=" + sql + ", count=" + getCount() + ", errorCount=" + getErrorCount() + ", rows=" + getRows() + ", meanTime="
+				+ getMeanTime() + ", maxTime=" + getMaxTime() + "]";
+	}
+}
\ No newline at end of file
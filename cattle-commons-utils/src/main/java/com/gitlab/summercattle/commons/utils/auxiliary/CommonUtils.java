@@ -15,6 +15,9 @@
  */
 package com.gitlab.summercattle.commons.utils.auxiliary;
 
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
 import com.fasterxml.uuid.Generators;
 import com.fasterxml.uuid.impl.RandomBasedGenerator;
 import com.gitlab.summercattle.commons.exception.CommonException;
@@ -23,6 +26,15 @@ public class CommonUtils {
 
 	private static RandomBasedGenerator randomBasedGenerator;
 
+	private static final char[] HEX_CHARS = "0123456789abcdef".toCharArray();
+
+	private static final char[] BASE32_CHARS = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+
+	/**
+	 * 最后生成的时间序号,高48位为毫秒时间戳,低12位为毫秒内计数
+	 */
+	private static final AtomicLong lastTimeSequence = new AtomicLong();
+
 	static {
 		if (randomBasedGenerator == null) {
 			synchronized (CommonUtils.class) {
@@ -54,4 +66,62 @@ public class CommonUtils {
 	public static String getUUID() {
 		return randomBasedGenerator.generate().toString().replace("-", "");
 	}
+
+	/**
+	 * 得到按时间递增的UUID(版本7),同一毫秒内单调递增,去掉分隔符
+	 * @return 32位小写十六进制字符串
+	 */
+	public static String getUUIDv7() {
+		long timeSequence = nextTimeSequence();
+		long msb = ((timeSequence >>> 12) << 16) | 0x7000L | (timeSequence & 0xFFFL);
+		long lsb = (ThreadLocalRandom.current().nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+		char[] chars = new char[32];
+		for (int i = 0; i < 16; i++) {
+			chars[i] = HEX_CHARS[(int) (msb >>> (60 - i * 4)) & 0xF];
+			chars[i + 16] = HEX_CHARS[(int) (lsb >>> (60 - i * 4)) & 0xF];
+		}
+		return new String(chars);
+	}
+
+	/**
+	 * 得到ULID,前48位为毫秒时间戳,同一毫秒内单调递增
+	 * @return 26位Crockford Base32字符串
+	 */
+	public static String getULID() {
+		long timeSequence = nextTimeSequence();
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		long msb = (timeSequence << 4) | random.nextInt(16);
+		long lsb = random.nextLong();
+		char[] chars = new char[26];
+		for (int i = 0; i < 26; i++) {
+			int shift = (25 - i) * 5;
+			long bits;
+			if (shift >= 64) {
+				bits = msb >>> (shift - 64);
+			}
+			else if (shift > 59) {
+				bits = (lsb >>> shift) | (msb << (64 - shift));
+			}
+			else {
+				bits = lsb >>> shift;
+			}
+			chars[i] = BASE32_CHARS[(int) bits & 0x1F];
+		}
+		return new String(chars);
+	}
+
+	/**
+	 * 得到下一个时间序号,进入新的毫秒时计数从随机值开始,时钟回拨或计数溢出时顺延,不加锁
+	 * @return 时间序号
+	 */
+	private static long nextTimeSequence() {
+		long now = System.currentTimeMillis() << 12;
+		while (true) {
+			long last = lastTimeSequence.get();
+			long next = now > (last | 0xFFFL) ? now | ThreadLocalRandom.current().nextInt(0x800) : last + 1;
+			if (lastTimeSequence.compareAndSet(last, next)) {
+				return next;
+			}
+		}
+	}
 }
\ No newline at end of file
@@ -0,0 +1,196 @@
+/*
+ * Copyright (C) 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gitlab.summercattle.commons.utils.httpclient;
+
+import java.io.IOException;
+import java.security.KeyStore;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import javax.net.ssl.SSLContext;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.gitlab.summercattle.commons.exception.CommonException;
+import com.gitlab.summercattle.commons.utils.auxiliary.SSLUtils;
+
+/**
+ * 共享的HttpClient注册表,按密钥库和信任库区分客户端,客户端使用连接池并缓存SSLContext,
+ * 空闲连接由后台线程定时关闭
+ */
+public final class HttpClientRegistry {
+
+	private static final Logger logger = LoggerFactory.getLogger(HttpClientRegistry.class);
+
+	private static final int MAX_TOTAL = 200;
+
+	private static final int DEFAULT_MAX_PER_ROUTE = 50;
+
+	private static final int IDLE_TIMEOUT_SECONDS = 60;
+
+	private static final int EVICT_INTERVAL_SECONDS = 30;
+
+	private static final int SSL_SESSION_TIMEOUT_SECONDS = 3600;
+
+	private static final String DEFAULT_KEY = "default";
+
+	private static final ConcurrentMap<String, PooledHttpClient> clients = new ConcurrentHashMap<String, PooledHttpClient>();
+
+	private static volatile ScheduledExecutorService evictor;
+
+	private HttpClientRegistry() {
+	}
+
+	/**
+	 * 得到共享的HttpClient,调用方不能关闭
+	 * @param keystoreURL 密钥库地址
+	 * @param keystorePassword 密钥库密码
+	 * @param keyPassword 密钥密码
+	 * @param truststoreURL 信任库地址
+	 * @param truststorePassword 信任库密码
+	 * @return HttpClient
+	 * @throws CommonException 异常
+	 */
+	public static CloseableHttpClient getHttpClient(String keystoreURL, String keystorePassword, String keyPassword, String truststoreURL,
+			String truststorePassword) throws CommonException {
+		String key = getKey(keystoreURL, keystorePassword, keyPassword, truststoreURL, truststorePassword);
+		PooledHttpClient client = clients.get(key);
+		if (null == client) {
+			synchronized (clients) {
+				client = clients.get(key);
+				if (null == client) {
+					SSLContext sslContext = createSSLContext(keystoreURL, keystorePassword, keyPassword, truststoreURL, truststorePassword);
+					client = new PooledHttpClient(getName(keystoreURL, truststoreURL), sslContext);
+					clients.put(key, client);
+					startEvictor();
+				}
+			}
+		}
+		return client.httpClient;
+	}
+
+	/**
+	 * 连接池使用情况,以密钥库和信任库地址区分
+	 * @return 连接池使用情况
+	 */
+	public static Map<String, PoolStats> getPoolStats() {
+		Map<String, PoolStats> stats = new LinkedHashMap<String, PoolStats>();
+		for (PooledHttpClient client : clients.values()) {
+			stats.put(client.name, client.connectionManager.getTotalStats());
+		}
+		return stats;
+	}
+
+	/**
+	 * 关闭全部客户端,密钥库变更后可调用以重新加载
+	 */
+	public static void clear() {
+		synchronized (clients) {
+			for (Entry<String, PooledHttpClient> entry : clients.entrySet()) {
+				try {
+					entry.getValue().httpClient.close();
+				}
+				catch (IOException e) {
+					logger.error(e.getMessage(), e);
+				}
+			}
+			clients.clear();
+		}
+	}
+
+	private static String getKey(String keystoreURL, String keystorePassword, String keyPassword, String truststoreURL, String truststorePassword) {
+		if (StringUtils.isBlank(keystoreURL) && StringUtils.isBlank(truststoreURL)) {
+			return DEFAULT_KEY;
+		}
+		return StringUtils.defaultString(keystoreURL) + "|" + StringUtils.defaultString(keystorePassword) + "|" + StringUtils.defaultString(keyPassword)
+				+ "|" + StringUtils.defaultString(truststoreURL) + "|" + StringUtils.defaultString(truststorePassword);
+	}
+
+	private static String getName(String keystoreURL, String truststoreURL) {
+		if (StringUtils.isBlank(keystoreURL) && StringUtils.isBlank(truststoreURL)) {
+			return DEFAULT_KEY;
+		}
+		return "keystore=" + StringUtils.defaultString(keystoreURL) + ",truststore=" + StringUtils.defaultString(truststoreURL);
+	}
+
+	private static SSLContext createSSLContext(String keystoreURL, String keystorePassword, String keyPassword, String truststoreURL,
+			String truststorePassword) throws CommonException {
+		KeyStore keyStore = null;
+		if (StringUtils.isNotBlank(keystoreURL)) {
+			keyStore = SSLUtils.createKeyStore(keystoreURL, keystorePassword);
+		}
+		KeyStore trustStore = null;
+		if (StringUtils.isNotBlank(truststoreURL)) {
+			trustStore = SSLUtils.createKeyStore(truststoreURL, truststorePassword);
+		}
+		SSLContext sslContext = SSLUtils.createSSLContext(keyStore, StringUtils.isNotBlank(keyPassword) ? keyPassword : keystorePassword, trustStore);
+		sslContext.getClientSessionContext().setSessionTimeout(SSL_SESSION_TIMEOUT_SECONDS);
+		return sslContext;
+	}
+
+	private static void startEvictor() {
+		if (null == evictor) {
+			evictor = Executors.newSingleThreadScheduledExecutor(r -> {
+				Thread thread = new Thread(r, "cattle-httpclient-evictor");
+				thread.setDaemon(true);
+				return thread;
+			});
+			evictor.scheduleWithFixedDelay(() -> {
+				for (PooledHttpClient client : clients.values()) {
+					client.connectionManager.closeExpiredConnections();
+					client.connectionManager.closeIdleConnections(IDLE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+				}
+			}, EVICT_INTERVAL_SECONDS, EVICT_INTERVAL_SECONDS, TimeUnit.SECONDS);
+		}
+	}
+
+	private static class PooledHttpClient {
+
+		private final String name;
+
+		private final PoolingHttpClientConnectionManager connectionManager;
+
+		private final CloseableHttpClient httpClient;
+
+		PooledHttpClient(String name, SSLContext sslContext) {
+			this.name = name;
+			Registry<ConnectionSocketFactory> socketFactoryRegistry = RegistryBuilder.<ConnectionSocketFactory> create()
+					.register("http", PlainConnectionSocketFactory.getSocketFactory())
+					.register("https", new SSLConnectionSocketFactory(sslContext)).build();
+			connectionManager = new PoolingHttpClientConnectionManager(socketFactoryRegistry);
+			connectionManager.setMaxTotal(MAX_TOTAL);
+			connectionManager.setDefaultMaxPerRoute(DEFAULT_MAX_PER_ROUTE);
+			httpClient = HttpClients.custom().setConnectionManager(connectionManager).build();
+		}
+	}
+}
\ No newline at end of file
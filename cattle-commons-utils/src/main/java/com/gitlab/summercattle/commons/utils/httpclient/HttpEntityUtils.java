@@ -21,15 +21,12 @@ import java.io.InputStream;
 import java.net.ConnectException;
 import java.net.HttpURLConnection;
 import java.nio.charset.Charset;
-import java.security.KeyStore;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Vector;
 
-import javax.net.ssl.SSLContext;
-
 import org.apache.commons.lang3.StringUtils;
 import org.apache.http.Consts;
 import org.apache.http.Header;
@@ -47,7 +44,6 @@ import org.apache.http.client.methods.HttpPut;
 import org.apache.http.client.methods.HttpRequestBase;
 import org.apache.http.entity.StringEntity;
 import org.apache.http.impl.client.CloseableHttpClient;
-import org.apache.http.impl.client.HttpClients;
 import org.apache.http.message.BasicNameValuePair;
 import org.apache.http.util.EntityUtils;
 import org.slf4j.Logger;
@@ -55,7 +51,6 @@ import org.slf4j.LoggerFactory;
 
 import com.gitlab.summercattle.commons.exception.CommonException;
 import com.gitlab.summercattle.commons.utils.auxiliary.HttpUtils;
-import com.gitlab.summercattle.commons.utils.auxiliary.SSLUtils;
 import com.gitlab.summercattle.commons.utils.exception.ExceptionWrapUtils;
 import com.gitlab.summercattle.commons.utils.reflect.ReflectUtils;
 
@@ -95,19 +90,9 @@ public class HttpEntityUtils {
 	private static HttpClientResult httpRequest(HttpRequestBase httpRequest, String url, Map<String, String> headers, Object entity,
 			ContentType contentType, CharsetType charsetType, int timeout, String keystoreURL, String keystorePassword, String keyPassword,
 			String truststoreURL, String truststorePassword) throws CommonException {
-		SSLContext sslContext = null;
-		if (HttpUtils.isSSL(url)) {
-			KeyStore keyStore = null;
-			if (StringUtils.isNotBlank(keystoreURL)) {
-				keyStore = SSLUtils.createKeyStore(keystoreURL, keystorePassword);
-			}
-			KeyStore trustStore = null;
-			if (StringUtils.isNotBlank(truststoreURL)) {
-				trustStore = SSLUtils.createKeyStore(truststoreURL, truststorePassword);
-			}
-			sslContext = SSLUtils.createSSLContext(keyStore, StringUtils.isNotBlank(keyPassword) ? keyPassword : keystorePassword, trustStore);
-		}
-		CloseableHttpClient httpClient = sslContext != null ? HttpClients.custom().setSSLContext(sslContext).build() : HttpClients.createDefault();
+		CloseableHttpClient httpClient = HttpUtils.isSSL(url)
+				? HttpClientRegistry.getHttpClient(keystoreURL, keystorePassword, keyPassword, truststoreURL, truststorePassword)
+				: HttpClientRegistry.getHttpClient(null, null, null, null, null);
 		CloseableHttpResponse response = null;
 		try {
 			if (headers != null) {
@@ -192,14 +177,6 @@ public class HttpEntityUtils {
 					logger.error(e.getMessage(), e);
 				}
 			}
-			if (httpClient != null) {
-				try {
-					httpClient.close();
-				}
-				catch (IOException e) {
-					logger.error(e.getMessage(), e);
-				}
-			}
 		}
 	}
 
@@ -277,6 +254,7 @@ public class HttpEntityUtils {
 			int lTimeout = timeout * 1000;
 			builder.setSocketTimeout(lTimeout);
 			builder.setConnectTimeout(lTimeout);
+			builder.setConnectionRequestTimeout(lTimeout);
 		}
 		return builder.build();
 	}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (C) 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gitlab.summercattle.commons.utils.redis;
+
+import java.util.Arrays;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import com.gitlab.summercattle.commons.exception.CommonException;
+
+/**
+ * 二进制Redis值序列化,数据头为1个标记字节和1个编码与压缩方式字节,超过阈值才压缩,
+ * 读取时没有数据头的值按原十六进制格式解析
+ */
+public class BinaryRedisSerializer implements RedisSerializer<Object> {
+
+	private static final byte MAGIC = (byte) 0xCA;
+
+	private static final int HEADER_LENGTH = 2;
+
+	private final RedisValueCodec[] codecs = new RedisValueCodec[16];
+
+	private final RedisValueCodec codec;
+
+	private final RedisCompression compression;
+
+	private final int compressThreshold;
+
+	private final CustomRedisSerializer legacySerializer = new CustomRedisSerializer();
+
+	public BinaryRedisSerializer() {
+		this(new CompactRedisValueCodec(), RedisCompression.LZ4, 1024);
+	}
+
+	public BinaryRedisSerializer(RedisValueCodec codec, RedisCompression compression, int compressThreshold) {
+		if (codec.getId() <= 0 || codec.getId() >= codecs.length) {
+			throw new IllegalArgumentException("编码标识'" + codec.getId() + "'超出范围");
+		}
+		registerCodec(new JavaRedisValueCodec());
+		registerCodec(new CompactRedisValueCodec());
+		registerCodec(codec);
+		this.codec = codec;
+		this.compression = compression;
+		this.compressThreshold = compressThreshold;
+	}
+
+	private void registerCodec(RedisValueCodec codec) {
+		codecs[codec.getId()] = codec;
+	}
+
+	@Override
+	public byte[] serialize(Object object) throws SerializationException {
+		try {
+			byte[] bytes = codec.encode(object);
+			RedisCompression usedCompression = RedisCompression.NONE;
+			if (compression != RedisCompression.NONE && bytes.length >= compressThreshold) {
+				byte[] compressed = compression.compress(bytes);
+				if (compressed.length < bytes.length) {
+					bytes = compressed;
+					usedCompression = compression;
+				}
+			}
+			byte[] result = new byte[HEADER_LENGTH + bytes.length];
+			result[0] = MAGIC;
+			result[1] = (byte) ((codec.getId() << 4) | usedCompression.getId());
+			System.arraycopy(bytes, 0, result, HEADER_LENGTH, bytes.length);
+			return result;
+		}
+		catch (CommonException e) {
+			throw new SerializationException(e.getMessage(), e);
+		}
+	}
+
+	@Override
+	public Object deserialize(byte[] bytes) throws SerializationException {
+		if (null == bytes || bytes.length == 0) {
+			return null;
+		}
+		if (bytes[0] != MAGIC) {
+			return legacySerializer.deserialize(bytes);
+		}
+		if (bytes.length < HEADER_LENGTH) {
+			throw new SerializationException("数据头不完整");
+		}
+		RedisValueCodec valueCodec = codecs[(bytes[1] >> 4) & 0x0F];
+		if (null == valueCodec) {
+			throw new SerializationException("编码标识'" + ((bytes[1] >> 4) & 0x0F) + "'不支持");
+		}
+		try {
+			RedisCompression valueCompression = RedisCompression.valueOf((byte) (bytes[1] & 0x0F));
+			byte[] datas = valueCompression.decompress(Arrays.copyOfRange(bytes, HEADER_LENGTH, bytes.length));
+			return valueCodec.decode(datas);
+		}
+		catch (CommonException e) {
+			throw new SerializationException(e.getMessage(), e);
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,401 @@
+/*
+ * Copyright (C) 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gitlab.summercattle.commons.utils.redis;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import com.gitlab.summercattle.commons.exception.CommonException;
+import com.gitlab.summercattle.commons.utils.auxiliary.ObjectUtils;
+
+/**
+ * 紧凑二进制编码,常用类型以类型标记加变长整数写入,其他类型以Java序列化写入
+ */
+public class CompactRedisValueCodec implements RedisValueCodec {
+
+	public static final byte ID = 2;
+
+	private static final byte TYPE_NULL = 0;
+
+	private static final byte TYPE_STRING = 1;
+
+	private static final byte TYPE_INTEGER = 2;
+
+	private static final byte TYPE_LONG = 3;
+
+	private static final byte TYPE_TRUE = 4;
+
+	private static final byte TYPE_FALSE = 5;
+
+	private static final byte TYPE_DOUBLE = 6;
+
+	private static final byte TYPE_FLOAT = 7;
+
+	private static final byte TYPE_SHORT = 8;
+
+	private static final byte TYPE_BYTE = 9;
+
+	private static final byte TYPE_CHARACTER = 10;
+
+	private static final byte TYPE_BIG_DECIMAL = 11;
+
+	private static final byte TYPE_BIG_INTEGER = 12;
+
+	private static final byte TYPE_DATE = 13;
+
+	private static final byte TYPE_BYTES = 14;
+
+	private static final byte TYPE_ARRAY_LIST = 15;
+
+	private static final byte TYPE_HASH_MAP = 16;
+
+	private static final byte TYPE_LINKED_HASH_MAP = 17;
+
+	private static final byte TYPE_HASH_SET = 18;
+
+	private static final byte TYPE_LINKED_HASH_SET = 19;
+
+	private static final byte TYPE_SERIALIZABLE = 20;
+
+	@Override
+	public byte getId() {
+		return ID;
+	}
+
+	@Override
+	public byte[] encode(Object object) throws CommonException {
+		Output output = new Output();
+		write(output, object);
+		return output.toByteArray();
+	}
+
+	@Override
+	public Object decode(byte[] bytes) throws CommonException {
+		Input input = new Input(bytes);
+		Object object = read(input);
+		if (input.position != bytes.length) {
+			throw new CommonException("数据解码后存在多余的" + (bytes.length - input.position) + "个字节");
+		}
+		return object;
+	}
+
+	private void write(Output output, Object object) throws CommonException {
+		if (null == object) {
+			output.writeByte(TYPE_NULL);
+			return;
+		}
+		Class<?> clazz = object.getClass();
+		if (clazz == String.class) {
+			output.writeByte(TYPE_STRING);
+			output.writeString((String) object);
+		}
+		else if (clazz == Integer.class) {
+			output.writeByte(TYPE_INTEGER);
+			output.writeVarLong((Integer) object);
+		}
+		else if (clazz == Long.class) {
+			output.writeByte(TYPE_LONG);
+			output.writeVarLong((Long) object);
+		}
+		else if (clazz == Boolean.class) {
+			output.writeByte((Boolean) object ? TYPE_TRUE : TYPE_FALSE);
+		}
+		else if (clazz == Double.class) {
+			output.writeByte(TYPE_DOUBLE);
+			output.writeFixedLong(Double.doubleToLongBits((Double) object));
+		}
+		else if (clazz == Float.class) {
+			output.writeByte(TYPE_FLOAT);
+			output.writeVarLong(Float.floatToIntBits((Float) object));
+		}
+		else if (clazz == Short.class) {
+			output.writeByte(TYPE_SHORT);
+			output.writeVarLong((Short) object);
+		}
+		else if (clazz == Byte.class) {
+			output.writeByte(TYPE_BYTE);
+			output.writeByte((Byte) object);
+		}
+		else if (clazz == Character.class) {
+			output.writeByte(TYPE_CHARACTER);
+			output.writeVarLong((Character) object);
+		}
+		else if (clazz == BigDecimal.class) {
+			BigDecimal value = (BigDecimal) object;
+			output.writeByte(TYPE_BIG_DECIMAL);
+			output.writeVarLong(value.scale());
+			output.writeBytes(value.unscaledValue().toByteArray());
+		}
+		else if (clazz == BigInteger.class) {
+			output.writeByte(TYPE_BIG_INTEGER);
+			output.writeBytes(((BigInteger) object).toByteArray());
+		}
+		else if (clazz == Date.class) {
+			output.writeByte(TYPE_DATE);
+			output.writeVarLong(((Date) object).getTime());
+		}
+		else if (clazz == byte[].class) {
+			output.writeByte(TYPE_BYTES);
+			output.writeBytes((byte[]) object);
+		}
+		else if (clazz == ArrayList.class) {
+			output.writeByte(TYPE_ARRAY_LIST);
+			writeCollection(output, (Collection<?>) object);
+		}
+		else if (clazz == HashSet.class) {
+			output.writeByte(TYPE_HASH_SET);
+			writeCollection(output, (Collection<?>) object);
+		}
+		else if (clazz == LinkedHashSet.class) {
+			output.writeByte(TYPE_LINKED_HASH_SET);
+			writeCollection(output, (Collection<?>) object);
+		}
+		else if (clazz == HashMap.class) {
+			output.writeByte(TYPE_HASH_MAP);
+			writeMap(output, (Map<?, ?>) object);
+		}
+		else if (clazz == LinkedHashMap.class) {
+			output.writeByte(TYPE_LINKED_HASH_MAP);
+			writeMap(output, (Map<?, ?>) object);
+		}
+		else {
+			output.writeByte(TYPE_SERIALIZABLE);
+			output.writeBytes(ObjectUtils.serialize(object));
+		}
+	}
+
+	private void writeCollection(Output output, Collection<?> collection) throws CommonException {
+		output.writeVarLong(collection.size());
+		for (Object item : collection) {
+			write(output, item);
+		}
+	}
+
+	private void writeMap(Output output, Map<?, ?> map) throws CommonException {
+		output.writeVarLong(map.size());
+		for (Entry<?, ?> entry : map.entrySet()) {
+			write(output, entry.getKey());
+			write(output, entry.getValue());
+		}
+	}
+
+	private Object read(Input input) throws CommonException {
+		byte type = input.readByte();
+		switch (type) {
+			case TYPE_NULL:
+				return null;
+			case TYPE_STRING:
+				return input.readString();
+			case TYPE_INTEGER:
+				return (int) input.readVarLong();
+			case TYPE_LONG:
+				return input.readVarLong();
+			case TYPE_TRUE:
+				return Boolean.TRUE;
+			case TYPE_FALSE:
+				return Boolean.FALSE;
+			case TYPE_DOUBLE:
+				return Double.longBitsToDouble(input.readFixedLong());
+			case TYPE_FLOAT:
+				return Float.intBitsToFloat((int) input.readVarLong());
+			case TYPE_SHORT:
+				return (short) input.readVarLong();
+			case TYPE_BYTE:
+				return input.readByte();
+			case TYPE_CHARACTER:
+				return (char) input.readVarLong();
+			case TYPE_BIG_DECIMAL: {
+				int scale = (int) input.readVarLong();
+				return new BigDecimal(new BigInteger(input.readBytes()), scale);
+			}
+			case TYPE_BIG_INTEGER:
+				return new BigInteger(input.readBytes());
+			case TYPE_DATE:
+				return new Date(input.readVarLong());
+			case TYPE_BYTES:
+				return input.readBytes();
+			case TYPE_ARRAY_LIST: {
+				int size = input.readSize();
+				return readCollection(input, new ArrayList<Object>(size), size);
+			}
+			case TYPE_HASH_SET: {
+				int size = input.readSize();
+				return readCollection(input, new HashSet<Object>(capacity(size)), size);
+			}
+			case TYPE_LINKED_HASH_SET: {
+				int size = input.readSize();
+				return readCollection(input, new LinkedHashSet<Object>(capacity(size)), size);
+			}
+			case TYPE_HASH_MAP: {
+				int size = input.readSize();
+				return readMap(input, new HashMap<Object, Object>(capacity(size)), size);
+			}
+			case TYPE_LINKED_HASH_MAP: {
+				int size = input.readSize();
+				return readMap(input, new LinkedHashMap<Object, Object>(capacity(size)), size);
+			}
+			case TYPE_SERIALIZABLE:
+				return ObjectUtils.deserialize(input.readBytes());
+			default:
+				throw new CommonException("数据类型标记'" + type + "'不支持");
+		}
+	}
+
+	private Collection<Object> readCollection(Input input, Collection<Object> collection, int size) throws CommonException {
+		for (int i = 0; i < size; i++) {
+			collection.add(read(input));
+		}
+		return collection;
+	}
+
+	private Map<Object, Object> readMap(Input input, Map<Object, Object> map, int size) throws CommonException {
+		for (int i = 0; i < size; i++) {
+			Object key = read(input);
+			map.put(key, read(input));
+		}
+		return map;
+	}
+
+	private int capacity(int size) {
+		return size < 3 ? size + 1 : (int) (size / 0.75f + 1.0f);
+	}
+
+	private static class Output {
+
+		private byte[] buffer = new byte[64];
+
+		private int position = 0;
+
+		private void ensure(int length) {
+			if (position + length > buffer.length) {
+				buffer = Arrays.copyOf(buffer, Math.max(buffer.length << 1, position + length));
+			}
+		}
+
+		void writeByte(int value) {
+			ensure(1);
+			buffer[position++] = (byte) value;
+		}
+
+		void writeVarLong(long value) {
+			ensure(10);
+			long zigzag = (value << 1) ^ (value >> 63);
+			while ((zigzag & ~0x7FL) != 0) {
+				buffer[position++] = (byte) ((zigzag & 0x7F) | 0x80);
+				zigzag >>>= 7;
+			}
+			buffer[position++] = (byte) zigzag;
+		}
+
+		void writeFixedLong(long value) {
+			ensure(8);
+			for (int i = 56; i >= 0; i -= 8) {
+				buffer[position++] = (byte) (value >>> i);
+			}
+		}
+
+		void writeBytes(byte[] bytes) {
+			writeVarLong(bytes.length);
+			ensure(bytes.length);
+			System.arraycopy(bytes, 0, buffer, position, bytes.length);
+			position += bytes.length;
+		}
+
+		void writeString(String value) {
+			writeBytes(value.getBytes(StandardCharsets.UTF_8));
+		}
+
+		byte[] toByteArray() {
+			return Arrays.copyOf(buffer, position);
+		}
+	}
+
+	private static class Input {
+
+		private final byte[] buffer;
+
+		private int position = 0;
+
+		Input(byte[] buffer) {
+			this.buffer = buffer;
+		}
+
+		private void require(int length) throws CommonException {
+			if (length < 0 || position + length > buffer.length) {
+				throw new CommonException("数据长度不足,不能够被解码");
+			}
+		}
+
+		byte readByte() throws CommonException {
+			require(1);
+			return buffer[position++];
+		}
+
+		long readVarLong() throws CommonException {
+			long zigzag = 0;
+			for (int shift = 0; shift < 64; shift += 7) {
+				byte b = readByte();
+				zigzag |= (long) (b & 0x7F) << shift;
+				if ((b & 0x80) == 0) {
+					return (zigzag >>> 1) ^ -(zigzag & 1);
+				}
+			}
+			throw new CommonException("变长整数格式错误");
+		}
+
+		long readFixedLong() throws CommonException {
+			require(8);
+			long value = 0;
+			for (int i = 0; i < 8; i++) {
+				value = (value << 8) | (buffer[position++] & 0xFF);
+			}
+			return value;
+		}
+
+		int readSize() throws CommonException {
+			long size = readVarLong();
+			if (size < 0 || size > buffer.length - position) {
+				throw new CommonException("数据长度'" + size + "'错误");
+			}
+			return (int) size;
+		}
+
+		byte[] readBytes() throws CommonException {
+			int length = readSize();
+			byte[] bytes = Arrays.copyOfRange(buffer, position, position + length);
+			position += length;
+			return bytes;
+		}
+
+		String readString() throws CommonException {
+			int length = readSize();
+			String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+			position += length;
+			return value;
+		}
+	}
+}
\ No newline at end of file
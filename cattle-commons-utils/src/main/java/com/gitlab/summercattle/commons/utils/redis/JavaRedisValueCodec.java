@@ -0,0 +1,42 @@
+/*
+ * Copyright (C) 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gitlab.summercattle.commons.utils.redis;
+
+import com.gitlab.summercattle.commons.exception.CommonException;
+import com.gitlab.summercattle.commons.utils.auxiliary.ObjectUtils;
+
+/**
+ * Java序列化编码
+ */
+public class JavaRedisValueCodec implements RedisValueCodec {
+
+	public static final byte ID = 1;
+
+	@Override
+	public byte getId() {
+		return ID;
+	}
+
+	@Override
+	public byte[] encode(Object object) throws CommonException {
+		return ObjectUtils.serialize(object);
+	}
+
+	@Override
+	public Object decode(byte[] bytes) throws CommonException {
+		return ObjectUtils.deserialize(bytes);
+	}
+}
\ No newline at end of file
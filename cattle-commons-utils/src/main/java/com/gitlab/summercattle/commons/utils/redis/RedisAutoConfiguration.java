@@ -24,22 +24,32 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @ConditionalOnClass(RedisOperations.class)
-@EnableConfigurationProperties(RedisProperties.class)
+@EnableConfigurationProperties({ RedisProperties.class, RedisSerializerProperties.class })
 public class RedisAutoConfiguration {
 
 	@Bean
-	public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory redisConnectionFactory) {
+	public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory redisConnectionFactory, RedisSerializerProperties serializerProperties) {
 		RedisTemplate<String, Object> redisTemplate = new RedisTemplate<String, Object>();
 		redisTemplate.setConnectionFactory(redisConnectionFactory);
-		CustomRedisSerializer customRedisSerializer = new CustomRedisSerializer();
-		redisTemplate.setValueSerializer(customRedisSerializer);
-		redisTemplate.setHashValueSerializer(customRedisSerializer);
+		RedisSerializer<Object> valueSerializer = createValueSerializer(serializerProperties);
+		redisTemplate.setValueSerializer(valueSerializer);
+		redisTemplate.setHashValueSerializer(valueSerializer);
 		StringRedisSerializer stringRedisSerializer = new StringRedisSerializer(StandardCharsets.UTF_8);
 		redisTemplate.setKeySerializer(stringRedisSerializer);
 		redisTemplate.setHashKeySerializer(stringRedisSerializer);
 		return redisTemplate;
 	}
+
+	private RedisSerializer<Object> createValueSerializer(RedisSerializerProperties serializerProperties) {
+		if (serializerProperties.isLegacy()) {
+			return new CustomRedisSerializer();
+		}
+		RedisValueCodec codec = serializerProperties.isCompact() ? new CompactRedisValueCodec() : new JavaRedisValueCodec();
+		RedisCompression compression = null != serializerProperties.getCompression() ? serializerProperties.getCompression() : RedisCompression.NONE;
+		return new BinaryRedisSerializer(codec, compression, serializerProperties.getCompressThreshold());
+	}
 }
\ No newline at end of file
@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gitlab.summercattle.commons.utils.redis;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.data.redis.core.RedisOperations;
+
+/**
+ * 管道批量命令,命令只在管道中排队,结果按调用顺序由{@link RedisTemplateUtils#pipeline}返回
+ */
+public class RedisBatch {
+
+	private final RedisOperations<String, Object> operations;
+
+	RedisBatch(RedisOperations<String, Object> operations) {
+		this.operations = operations;
+	}
+
+	public void set(String key, Object value) {
+		operations.opsForValue().set(key, value);
+	}
+
+	public void set(String key, Object value, long seconds) {
+		operations.opsForValue().set(key, value, seconds, TimeUnit.SECONDS);
+	}
+
+	public void get(String key) {
+		operations.opsForValue().get(key);
+	}
+
+	public void mget(Collection<String> keys) {
+		operations.opsForValue().multiGet(keys);
+	}
+
+	public void del(String key) {
+		operations.delete(key);
+	}
+
+	public void del(Collection<String> keys) {
+		operations.delete(keys);
+	}
+
+	public void expire(String key, long seconds) {
+		operations.expire(key, seconds, TimeUnit.SECONDS);
+	}
+
+	public void exists(String key) {
+		operations.hasKey(key);
+	}
+
+	public void hset(String key, Object hashKey, Object value) {
+		operations.opsForHash().put(key, hashKey, value);
+	}
+
+	public void hmset(String key, Map<String, Object> map) {
+		operations.opsForHash().putAll(key, map);
+	}
+
+	public void hget(String key, Object hashKey) {
+		operations.opsForHash().get(key, hashKey);
+	}
+
+	public void hgetall(String key) {
+		operations.opsForHash().entries(key);
+	}
+
+	public void hdel(String key, Object... hashKeys) {
+		operations.opsForHash().delete(key, hashKeys);
+	}
+
+	public void lpush(String key, Object... values) {
+		operations.opsForList().leftPushAll(key, values);
+	}
+
+	public void rpush(String key, Object... values) {
+		operations.opsForList().rightPushAll(key, values);
+	}
+
+	public void sadd(String key, Object... values) {
+		operations.opsForSet().add(key, values);
+	}
+
+	public void srem(String key, Object... values) {
+		operations.opsForSet().remove(key, values);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,59 @@
+/*
+ * Copyright (C) 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gitlab.summercattle.commons.utils.redis;
+
+import org.apache.commons.compress.compressors.CompressorStreamFactory;
+
+import com.gitlab.summercattle.commons.exception.CommonException;
+import com.gitlab.summercattle.commons.utils.auxiliary.CompressUtils;
+
+/**
+ * Redis值的压缩方式
+ */
+public enum RedisCompression {
+
+	NONE((byte) 0, null), LZ4((byte) 1, CompressorStreamFactory.LZ4_BLOCK), GZIP((byte) 2, CompressorStreamFactory.GZIP);
+
+	private final byte id;
+
+	private final String compressorName;
+
+	private RedisCompression(byte id, String compressorName) {
+		this.id = id;
+		this.compressorName = compressorName;
+	}
+
+	public byte getId() {
+		return id;
+	}
+
+	public byte[] compress(byte[] bytes) throws CommonException {
+		return null == compressorName ? bytes : CompressUtils.compress(compressorName, bytes);
+	}
+
+	public byte[] decompress(byte[] bytes) throws CommonException {
+		return null == compressorName ? bytes : CompressUtils.decompress(compressorName, bytes);
+	}
+
+	public static RedisCompression valueOf(byte id) throws CommonException {
+		for (RedisCompression compression : values()) {
+			if (compression.id == id) {
+				return compression;
+			}
+		}
+		throw new CommonException("压缩方式标识'" + id + "'不支持");
+	}
+}
\ No newline at end of file
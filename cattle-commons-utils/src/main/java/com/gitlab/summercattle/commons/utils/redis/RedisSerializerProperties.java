@@ -0,0 +1,73 @@
+/*
+ * Copyright (C) 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gitlab.summercattle.commons.utils.redis;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = RedisSerializerProperties.PREFIX)
+public class RedisSerializerProperties {
+
+	public static final String PREFIX = "cattle.redis.serializer";
+
+	/**
+	 * 是否使用原十六进制格式写入,滚动升级期间旧版本节点仍需读取时开启
+	 */
+	private boolean legacy;
+
+	/**
+	 * 是否使用紧凑二进制编码,否则使用Java序列化
+	 */
+	private boolean compact;
+
+	private RedisCompression compression;
+
+	/**
+	 * 编码后超过该字节数才压缩
+	 */
+	private int compressThreshold;
+
+	public boolean isLegacy() {
+		return legacy;
+	}
+
+	public void setLegacy(boolean legacy) {
+		this.legacy = legacy;
+	}
+
+	public boolean isCompact() {
+		return compact;
+	}
+
+	public void setCompact(boolean compact) {
+		this.compact = compact;
+	}
+
+	public RedisCompression getCompression() {
+		return compression;
+	}
+
+	public void setCompression(RedisCompression compression) {
+		this.compression = compression;
+	}
+
+	public int getCompressThreshold() {
+		return compressThreshold;
+	}
+
+	public void setCompressThreshold(int compressThreshold) {
+		this.compressThreshold = compressThreshold;
+	}
+}
\ No newline at end of file
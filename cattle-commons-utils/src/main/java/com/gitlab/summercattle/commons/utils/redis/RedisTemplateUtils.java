@@ -15,12 +15,16 @@
  */
 package com.gitlab.summercattle.commons.utils.redis;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 import org.apache.commons.codec.binary.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -30,12 +34,15 @@ import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.stereotype.Component;
 
 @ConditionalOnClass(RedisOperations.class)
 @Component
 public class RedisTemplateUtils {
 
+	private static final int DEFAULT_SCAN_BATCH_SIZE = 1000;
+
 	@Autowired
 	private RedisTemplate<String, Object> redisTemplate;
 
@@ -79,6 +86,26 @@ public class RedisTemplateUtils {
 		return redisTemplate.opsForHash().get(key, hashKey);
 	}
 
+	/**
+	 * 以管道获取多个哈希键的全部内容
+	 * @param keys 哈希键
+	 * @return 哈希键对应的内容,顺序与键相同
+	 */
+	@SuppressWarnings("unchecked")
+	public Map<String, Map<Object, Object>> hgetall(Collection<String> keys) {
+		List<String> keyList = new ArrayList<String>(keys);
+		List<Object> results = pipeline(batch -> {
+			for (String key : keyList) {
+				batch.hgetall(key);
+			}
+		});
+		Map<String, Map<Object, Object>> map = new LinkedHashMap<String, Map<Object, Object>>();
+		for (int i = 0; i < keyList.size(); i++) {
+			map.put(keyList.get(i), (Map<Object, Object>) results.get(i));
+		}
+		return map;
+	}
+
 	public void set(String key, Object value) {
 		redisTemplate.opsForValue().set(key, value);
 	}
@@ -91,6 +118,32 @@ public class RedisTemplateUtils {
 		return redisTemplate.opsForValue().get(key);
 	}
 
+	/**
+	 * 一次往返获取多个键的值
+	 * @param keys 键
+	 * @return 值,顺序与键相同,不存在的键为null
+	 */
+	public List<Object> mget(Collection<String> keys) {
+		return redisTemplate.opsForValue().multiGet(keys);
+	}
+
+	public void mset(Map<String, Object> map) {
+		redisTemplate.opsForValue().multiSet(map);
+	}
+
+	/**
+	 * 以管道设置多个键的值及过期时间
+	 * @param map 键值
+	 * @param seconds 过期秒数
+	 */
+	public void mset(Map<String, Object> map, long seconds) {
+		pipeline(batch -> {
+			for (Entry<String, Object> entry : map.entrySet()) {
+				batch.set(entry.getKey(), entry.getValue(), seconds);
+			}
+		});
+	}
+
 	public Boolean del(String key) {
 		return redisTemplate.delete(key);
 	}
@@ -219,15 +272,51 @@ public class RedisTemplateUtils {
 		return redisTemplate.hasKey(key);
 	}
 
+	/**
+	 * 以管道执行批量命令,只占用一次往返
+	 * @param consumer 批量命令
+	 * @return 各命令的结果,顺序与命令相同
+	 */
+	public List<Object> pipeline(Consumer<RedisBatch> consumer) {
+		return redisTemplate.executePipelined(new SessionCallback<Object>() {
+
+			@SuppressWarnings("unchecked")
+			@Override
+			public <K, V> Object execute(RedisOperations<K, V> operations) {
+				consumer.accept(new RedisBatch((RedisOperations<String, Object>) operations));
+				return null;
+			}
+		});
+	}
+
 	public Set<String> keys(String pattern) {
-		return redisTemplate.execute((RedisCallback<Set<String>>) connection -> {
-			Set<String> keys = new HashSet<String>();
-			try (Cursor<byte[]> cursor = connection.scan(ScanOptions.scanOptions().match(pattern).count(Long.MAX_VALUE).build())) {
+		Set<String> keys = new HashSet<String>();
+		scan(pattern, DEFAULT_SCAN_BATCH_SIZE, keys::addAll);
+		return keys;
+	}
+
+	/**
+	 * 游标遍历匹配的键,每批最多batchSize个键交给consumer处理,不在内存中保留全部键
+	 * @param pattern 匹配模式
+	 * @param batchSize 每批键数
+	 * @param consumer 每批键的处理
+	 */
+	public void scan(String pattern, int batchSize, Consumer<List<String>> consumer) {
+		redisTemplate.execute((RedisCallback<Void>) connection -> {
+			List<String> keys = new ArrayList<String>(batchSize);
+			try (Cursor<byte[]> cursor = connection.scan(ScanOptions.scanOptions().match(pattern).count(batchSize).build())) {
 				while (cursor.hasNext()) {
 					keys.add(StringUtils.newStringUtf8(cursor.next()));
+					if (keys.size() >= batchSize) {
+						consumer.accept(keys);
+						keys = new ArrayList<String>(batchSize);
+					}
 				}
 			}
-			return keys;
+			if (!keys.isEmpty()) {
+				consumer.accept(keys);
+			}
+			return null;
 		});
 	}
 }
\ No newline at end of file
@@ -0,0 +1,46 @@
+/*
+ * Copyright (C) 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gitlab.summercattle.commons.utils.redis;
+
+import com.gitlab.summercattle.commons.exception.CommonException;
+
+/**
+ * Redis值的编码
+ */
+public interface RedisValueCodec {
+
+	/**
+	 * 编码标识,写入数据头,取值范围1-15
+	 * @return 编码标识
+	 */
+	byte getId();
+
+	/**
+	 * 编码
+	 * @param object 对象
+	 * @return 字节数组
+	 * @throws CommonException 异常
+	 */
+	byte[] encode(Object object) throws CommonException;
+
+	/**
+	 * 解码
+	 * @param bytes 字节数组
+	 * @return 对象
+	 * @throws CommonException 异常
+	 */
+	Object decode(byte[] bytes) throws CommonException;
+}
\ No newline at end of file
@@ -27,6 +27,7 @@ import java.util.concurrent.ConcurrentMap;
 import org.apache.commons.lang3.StringUtils;
 import org.objenesis.Objenesis;
 import org.objenesis.ObjenesisStd;
+import org.objenesis.instantiator.ObjectInstantiator;
 
 import com.gitlab.summercattle.commons.exception.CommonException;
 import com.gitlab.summercattle.commons.utils.exception.ExceptionWrapUtils;
@@ -203,6 +204,10 @@ public class ClassUtils {
 		return objenesis.newInstance(type);
 	}
 
+	public static <T> ObjectInstantiator<T> getInstantiator(Class<T> type) {
+		return objenesis.getInstantiatorOf(type);
+	}
+
 	public static boolean implementsInterface(Class< ? > clazz, Class< ? > intf) {
 		if (!isAbstractClass(intf) && !isInterfaceClass(intf)) {
 			return false;
@@ -23,12 +23,10 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.math.BigDecimal;
 import java.math.BigInteger;
-import java.net.URI;
 import java.util.List;
 import java.util.Map;
 import java.util.Vector;
 
-import org.apache.commons.codec.binary.Base64;
 import org.apache.commons.lang3.StringUtils;
 
 import com.gitlab.summercattle.commons.exception.CommonException;
@@ -36,6 +34,14 @@ import com.gitlab.summercattle.commons.utils.exception.ExceptionWrapUtils;
 
 public class ReflectUtils {
 
+	private static final ClassValue<ClassType> CLASS_TYPES = new ClassValue<ClassType>() {
+
+		@Override
+		protected ClassType computeValue(Class< ? > type) {
+			return resolveClassType(type);
+		}
+	};
+
 	public static Field getField(Class< ? > clazz, String fieldName) throws CommonException {
 		return getField(clazz, fieldName, true);
 	}
@@ -85,6 +91,10 @@ public class ReflectUtils {
 	}
 
 	public static ClassType getClassType(Class< ? > typeCls) {
+		return CLASS_TYPES.get(typeCls);
+	}
+
+	private static ClassType resolveClassType(Class< ? > typeCls) {
 		ClassType type = null;
 		if (typeCls.isArray()) {
 			type = ClassType.Array;
@@ -163,151 +173,9 @@ public class ReflectUtils {
 				ClassType valueType = getClassType(value.getClass());
 				if (!(type != ClassType.String && valueType == ClassType.String && StringUtils.isBlank(value.toString()))) {
 					if (type != valueType) {
-						if (type == ClassType.Long) {
-							if (valueType == ClassType.BigDecimal) {
-								obj = ((BigDecimal) value).longValue();
-							}
-							else if (valueType == ClassType.String) {
-								obj = new Long(value.toString());
-							}
-							else if (valueType == ClassType.Int) {
-								obj = ((Integer) value).longValue();
-							}
-							else if (valueType == ClassType.BigInteger) {
-								obj = ((BigInteger) value).longValue();
-							}
-							else if (valueType == ClassType.Short) {
-								obj = ((Short) value).longValue();
-							}
-						}
-						else if (type == ClassType.BigDecimal) {
-							if (valueType == ClassType.Int) {
-								obj = new BigDecimal((Integer) value);
-							}
-							else if (valueType == ClassType.String) {
-								obj = new BigDecimal(value.toString());
-							}
-							else if (valueType == ClassType.Long) {
-								obj = new BigDecimal((Long) value);
-							}
-							else if (valueType == ClassType.Double) {
-								obj = new BigDecimal((Double) value);
-							}
-							else if (valueType == ClassType.Boolean) {
-								obj = ((Boolean) value) ? BigDecimal.ONE : BigDecimal.ZERO;
-							}
-						}
-						else if (type == ClassType.Int) {
-							if (valueType == ClassType.BigDecimal) {
-								obj = ((BigDecimal) value).intValue();
-							}
-							else if (valueType == ClassType.String) {
-								obj = new Integer(value.toString());
-							}
-							else if (valueType == ClassType.Boolean) {
-								obj = ((Boolean) value) ? 1 : 0;
-							}
-							else if (valueType == ClassType.BigInteger) {
-								obj = ((BigInteger) value).intValue();
-							}
-						}
-						else if (type == ClassType.Double) {
-							if (valueType == ClassType.BigDecimal) {
-								obj = ((BigDecimal) value).doubleValue();
-							}
-							else if (valueType == ClassType.String) {
-								obj = new Double(value.toString());
-							}
-						}
-						else if (type == ClassType.String) {
-							if (valueType == ClassType.Array) {
-								ClassType itemType = getClassType(value.getClass().getComponentType());
-								if (itemType == ClassType.Byte) {
-									obj = Base64.encodeBase64String((byte[]) value);
-								}
-							}
-							else {
-								obj = value.toString();
-							}
-						}
-						else if (type == ClassType.Array) {
-							if (valueType == ClassType.String) {
-								ClassType itemType = getClassType(typeClass);
-								if (itemType == ClassType.Byte) {
-									obj = Base64.decodeBase64((String) value);
-								}
-							}
-						}
-						else if (type == ClassType.Boolean) {
-							if (valueType == ClassType.BigDecimal) {
-								obj = ((BigDecimal) value).intValue() == 1 ? true : false;
-							}
-							else if (valueType == ClassType.String) {
-								obj = Boolean.parseBoolean((String) value);
-							}
-						}
-						else if (type == ClassType.Date) {
-							if (valueType == ClassType.Time) {
-								obj = new java.util.Date(((java.sql.Time) value).getTime());
-							}
-							else if (valueType == ClassType.Timestamp) {
-								obj = new java.util.Date(((java.sql.Timestamp) value).getTime());
-							}
-							else if (valueType == ClassType.SqlDate) {
-								obj = new java.util.Date(((java.sql.Date) value).getTime());
-							}
-							else if (valueType == ClassType.Long) {
-								obj = new java.util.Date((Long) value);
-							}
-						}
-						else if (type == ClassType.Timestamp) {
-							if (valueType == ClassType.Date) {
-								obj = new java.sql.Timestamp(((java.util.Date) value).getTime());
-							}
-							else if (valueType == ClassType.Time) {
-								obj = new java.sql.Timestamp(((java.sql.Time) value).getTime());
-							}
-							else if (valueType == ClassType.SqlDate) {
-								obj = new java.sql.Timestamp(((java.sql.Date) value).getTime());
-							}
-						}
-						else if (type == ClassType.Time) {
-							if (valueType == ClassType.Date) {
-								obj = new java.sql.Time(((java.util.Date) value).getTime());
-							}
-							else if (valueType == ClassType.SqlDate) {
-								obj = new java.sql.Time(((java.sql.Date) value).getTime());
-							}
-							else if (valueType == ClassType.Timestamp) {
-								obj = new java.sql.Time(((java.sql.Timestamp) value).getTime());
-							}
-						}
-						else if (type == ClassType.SqlDate) {
-							if (valueType == ClassType.Date) {
-								obj = new java.sql.Date(((java.util.Date) value).getTime());
-							}
-							else if (valueType == ClassType.Timestamp) {
-								obj = new java.sql.Date(((java.sql.Timestamp) value).getTime());
-							}
-							else if (valueType == ClassType.Time) {
-								obj = new java.sql.Date(((java.sql.Time) value).getTime());
-							}
-						}
-						else if (type == ClassType.Object) {
-							obj = value;
-						}
-						else if (type == ClassType.Enum) {
-							if (valueType == ClassType.String && typeClass != null) {
-								obj = setEnumValue(typeClass, (String) value);
-							}
-						}
-						else if (type == ClassType.ClassObject) {
-							if (valueType == ClassType.String && typeClass == URI.class) {
-								obj = new URI((String) value);
-							}
-						}
+						obj = ValueConverters.convert(type, valueType, typeClass, value);
 						if (obj == null) {
-							throw new CommonException("没有相应转换机制(数据类型:" + getClassType(value.getClass()).toString() + ",字段类型:" + type.toString()
+							throw new CommonException("没有相应转换机制(数据类型:" + valueType.toString() + ",字段类型:" + type.toString()
 									+ (type == ClassType.ClassObject ? "[类:" + typeClass.getCanonicalName() + "]" : "") + ")");
 						}
 					}
@@ -335,6 +203,74 @@ public class ReflectUtils {
 		}
 	}
 
+	/**
+	 * 转换为long,空值为0,常用的数值类型直接取值不经过装箱
+	 * @param value 值
+	 * @return long值
+	 * @throws CommonException 异常
+	 */
+	public static long convertLong(Object value) throws CommonException {
+		if (value instanceof Long) {
+			return ((Long) value).longValue();
+		}
+		else if (value instanceof BigDecimal || value instanceof Integer) {
+			return ((Number) value).longValue();
+		}
+		Object obj = convertValue(ClassType.Long, value);
+		return obj != null ? ((Long) obj).longValue() : 0;
+	}
+
+	/**
+	 * 转换为int,空值为0,常用的数值类型直接取值不经过装箱
+	 * @param value 值
+	 * @return int值
+	 * @throws CommonException 异常
+	 */
+	public static int convertInt(Object value) throws CommonException {
+		if (value instanceof Integer) {
+			return ((Integer) value).intValue();
+		}
+		else if (value instanceof BigDecimal) {
+			return ((BigDecimal) value).intValue();
+		}
+		Object obj = convertValue(ClassType.Int, value);
+		return obj != null ? ((Integer) obj).intValue() : 0;
+	}
+
+	/**
+	 * 转换为double,空值为0,常用的数值类型直接取值不经过装箱
+	 * @param value 值
+	 * @return double值
+	 * @throws CommonException 异常
+	 */
+	public static double convertDouble(Object value) throws CommonException {
+		if (value instanceof Double) {
+			return ((Double) value).doubleValue();
+		}
+		else if (value instanceof BigDecimal) {
+			return ((BigDecimal) value).doubleValue();
+		}
+		Object obj = convertValue(ClassType.Double, value);
+		return obj != null ? ((Double) obj).doubleValue() : 0;
+	}
+
+	/**
+	 * 转换为boolean,空值为false
+	 * @param value 值
+	 * @return boolean值
+	 * @throws CommonException 异常
+	 */
+	public static boolean convertBoolean(Object value) throws CommonException {
+		if (value instanceof Boolean) {
+			return ((Boolean) value).booleanValue();
+		}
+		else if (value instanceof BigDecimal) {
+			return ((BigDecimal) value).intValue() == 1;
+		}
+		Object obj = convertValue(ClassType.Boolean, value);
+		return obj != null ? ((Boolean) obj).booleanValue() : false;
+	}
+
 	public static Object setEnumValue(Class< ? > clazz, String value) throws CommonException {
 		if (!clazz.isEnum()) {
 			throw new CommonException("类'" + clazz.getCanonicalName() + "'不是枚举");
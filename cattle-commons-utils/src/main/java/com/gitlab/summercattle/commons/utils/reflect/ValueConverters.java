@@ -0,0 +1,121 @@
+/*
+ * Copyright (C) 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gitlab.summercattle.commons.utils.reflect;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+
+import org.apache.commons.codec.binary.Base64;
+
+/**
+ * 类型转换表,按(字段类型,数据类型)预先登记转换方法,转换时直接按下标取得
+ */
+final class ValueConverters {
+
+	@FunctionalInterface
+	interface ValueConverter {
+
+		/**
+		 * 转换值
+		 * @param value 值,不为空
+		 * @param typeClass 字段类,数组时为元素类
+		 * @return 转换后的值,为空时表示不支持转换
+		 * @throws Exception 异常
+		 */
+		Object convert(Object value, Class< ? > typeClass) throws Exception;
+	}
+
+	private static final ValueConverter[][] CONVERTERS = new ValueConverter[ClassType.values().length][ClassType.values().length];
+
+	static {
+		register(ClassType.Long, ClassType.BigDecimal, (value, typeClass) -> ((BigDecimal) value).longValue());
+		register(ClassType.Long, ClassType.String, (value, typeClass) -> Long.valueOf(value.toString()));
+		register(ClassType.Long, ClassType.Int, (value, typeClass) -> ((Integer) value).longValue());
+		register(ClassType.Long, ClassType.BigInteger, (value, typeClass) -> ((BigInteger) value).longValue());
+		register(ClassType.Long, ClassType.Short, (value, typeClass) -> ((Short) value).longValue());
+
+		register(ClassType.BigDecimal, ClassType.Int, (value, typeClass) -> BigDecimal.valueOf((Integer) value));
+		register(ClassType.BigDecimal, ClassType.String, (value, typeClass) -> new BigDecimal(value.toString()));
+		register(ClassType.BigDecimal, ClassType.Long, (value, typeClass) -> BigDecimal.valueOf((Long) value));
+		register(ClassType.BigDecimal, ClassType.Double, (value, typeClass) -> new BigDecimal((Double) value));
+		register(ClassType.BigDecimal, ClassType.Boolean, (value, typeClass) -> ((Boolean) value) ? BigDecimal.ONE : BigDecimal.ZERO);
+
+		register(ClassType.Int, ClassType.BigDecimal, (value, typeClass) -> ((BigDecimal) value).intValue());
+		register(ClassType.Int, ClassType.String, (value, typeClass) -> Integer.valueOf(value.toString()));
+		register(ClassType.Int, ClassType.Boolean, (value, typeClass) -> ((Boolean) value) ? 1 : 0);
+		register(ClassType.Int, ClassType.BigInteger, (value, typeClass) -> ((BigInteger) value).intValue());
+
+		register(ClassType.Double, ClassType.BigDecimal, (value, typeClass) -> ((BigDecimal) value).doubleValue());
+		register(ClassType.Double, ClassType.String, (value, typeClass) -> Double.valueOf(value.toString()));
+
+		for (ClassType valueType : ClassType.values()) {
+			register(ClassType.String, valueType, (value, typeClass) -> value.toString());
+			register(ClassType.Object, valueType, (value, typeClass) -> value);
+		}
+		register(ClassType.String, ClassType.Array,
+				(value, typeClass) -> ReflectUtils.getClassType(value.getClass().getComponentType()) == ClassType.Byte
+						? Base64.encodeBase64String((byte[]) value)
+						: null);
+		register(ClassType.Array, ClassType.String,
+				(value, typeClass) -> ReflectUtils.getClassType(typeClass) == ClassType.Byte ? Base64.decodeBase64((String) value) : null);
+
+		register(ClassType.Boolean, ClassType.BigDecimal, (value, typeClass) -> ((BigDecimal) value).intValue() == 1);
+		register(ClassType.Boolean, ClassType.String, (value, typeClass) -> Boolean.parseBoolean((String) value));
+
+		register(ClassType.Date, ClassType.Time, (value, typeClass) -> new java.util.Date(((java.sql.Time) value).getTime()));
+		register(ClassType.Date, ClassType.Timestamp, (value, typeClass) -> new java.util.Date(((java.sql.Timestamp) value).getTime()));
+		register(ClassType.Date, ClassType.SqlDate, (value, typeClass) -> new java.util.Date(((java.sql.Date) value).getTime()));
+		register(ClassType.Date, ClassType.Long, (value, typeClass) -> new java.util.Date((Long) value));
+
+		register(ClassType.Timestamp, ClassType.Date, (value, typeClass) -> new java.sql.Timestamp(((java.util.Date) value).getTime()));
+		register(ClassType.Timestamp, ClassType.Time, (value, typeClass) -> new java.sql.Timestamp(((java.sql.Time) value).getTime()));
+		register(ClassType.Timestamp, ClassType.SqlDate, (value, typeClass) -> new java.sql.Timestamp(((java.sql.Date) value).getTime()));
+
+		register(ClassType.Time, ClassType.Date, (value, typeClass) -> new java.sql.Time(((java.util.Date) value).getTime()));
+		register(ClassType.Time, ClassType.SqlDate, (value, typeClass) -> new java.sql.Time(((java.sql.Date) value).getTime()));
+		register(ClassType.Time, ClassType.Timestamp, (value, typeClass) -> new java.sql.Time(((java.sql.Timestamp) value).getTime()));
+
+		register(ClassType.SqlDate, ClassType.Date, (value, typeClass) -> new java.sql.Date(((java.util.Date) value).getTime()));
+		register(ClassType.SqlDate, ClassType.Timestamp, (value, typeClass) -> new java.sql.Date(((java.sql.Timestamp) value).getTime()));
+		register(ClassType.SqlDate, ClassType.Time, (value, typeClass) -> new java.sql.Date(((java.sql.Time) value).getTime()));
+
+		register(ClassType.Enum, ClassType.String,
+				(value, typeClass) -> typeClass != null ? ReflectUtils.setEnumValue(typeClass, (String) value) : null);
+		register(ClassType.ClassObject, ClassType.String, (value, typeClass) -> typeClass == URI.class ? new URI((String) value) : null);
+	}
+
+	private ValueConverters() {
+	}
+
+	private static void register(ClassType type, ClassType valueType, ValueConverter converter) {
+		CONVERTERS[type.ordinal()][valueType.ordinal()] = converter;
+	}
+
+	/**
+	 * 不同类型间的转换
+	 * @param type 字段类型
+	 * @param valueType 数据类型
+	 * @param typeClass 字段类,数组时为元素类
+	 * @param value 值,不为空
+	 * @return 转换后的值,为空时表示没有相应转换机制
+	 * @throws Exception 异常
+	 */
+	static Object convert(ClassType type, ClassType valueType, Class< ? > typeClass, Object value) throws Exception {
+		ValueConverter converter = CONVERTERS[type.ordinal()][valueType.ordinal()];
+		return converter != null ? converter.convert(value, typeClass) : null;
+	}
+}
\ No newline at end of file
@@ -19,17 +19,29 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
+import org.springframework.http.MediaType;
 import org.springframework.lang.Nullable;
 import org.springframework.util.MimeType;
 
 public class FastJsonCodecSupport {
 
-	static final List<MimeType> MIME_TYPES = Collections.unmodifiableList(Arrays.asList(new MimeType("application", "json")));
+	/**
+	 * 逐行输出的流式类型,每个值一行
+	 */
+	static final List<MediaType> STREAMING_MEDIA_TYPES = Collections
+			.unmodifiableList(Arrays.asList(MediaType.APPLICATION_NDJSON, new MediaType("application", "stream+json")));
+
+	static final List<MimeType> MIME_TYPES = Collections.unmodifiableList(
+			Arrays.asList(new MimeType("application", "json"), STREAMING_MEDIA_TYPES.get(0), STREAMING_MEDIA_TYPES.get(1)));
 
 	protected boolean supportsMimeType(@Nullable MimeType mimeType) {
 		return null == mimeType || MIME_TYPES.stream().anyMatch(m -> m.isCompatibleWith(mimeType));
 	}
 
+	protected boolean isStreamingMimeType(@Nullable MimeType mimeType) {
+		return null != mimeType && STREAMING_MEDIA_TYPES.stream().anyMatch(m -> m.equalsTypeAndSubtype(mimeType));
+	}
+
 	protected List<MimeType> getMimeTypes() {
 		return MIME_TYPES;
 	}
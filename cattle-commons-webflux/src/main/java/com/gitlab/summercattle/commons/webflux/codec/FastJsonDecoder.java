@@ -15,56 +15,98 @@
  */
 package com.gitlab.summercattle.commons.webflux.codec;
 
-import java.io.IOException;
-import java.io.InputStream;
 import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 
 import org.reactivestreams.Publisher;
 import org.springframework.core.ResolvableType;
 import org.springframework.core.codec.Decoder;
+import org.springframework.core.codec.DecodingException;
 import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.lang.Nullable;
 import org.springframework.util.MimeType;
 
 import com.alibaba.fastjson.JSON;
-import com.gitlab.summercattle.commons.utils.exception.ExceptionWrapUtils;
+import com.alibaba.fastjson.JSONException;
 
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public class FastJsonDecoder extends FastJsonCodecSupport implements Decoder<Object> {
 
+	private int maxInMemorySize = -1;
+
+	/**
+	 * 设置单个值最大缓冲字节数,-1为不限制
+	 * @param byteCount 最大缓冲字节数
+	 */
+	public void setMaxInMemorySize(int byteCount) {
+		this.maxInMemorySize = byteCount;
+	}
+
+	public int getMaxInMemorySize() {
+		return maxInMemorySize;
+	}
+
 	@Override
 	public boolean canDecode(ResolvableType elementType, MimeType mimeType) {
 		return (!CharSequence.class.isAssignableFrom(elementType.toClass()) && supportsMimeType(mimeType));
 	}
 
+	/**
+	 * 按值切分输入后逐个解析,顶层数组按元素输出,值可以跨越多个数据缓冲区
+	 */
 	@Override
 	public Flux<Object> decode(Publisher<DataBuffer> inputStream, ResolvableType elementType, MimeType mimeType, Map<String, Object> hints) {
-		return Flux.from(inputStream).map(buffer -> decode(buffer, elementType));
+		return Flux.defer(() -> {
+			FastJsonTokenizer tokenizer = new FastJsonTokenizer(true, maxInMemorySize);
+			Flux<byte[]> values = Flux.from(inputStream).concatMapIterable(tokenizer::tokenize)
+					.concatWith(Flux.defer(() -> Flux.fromIterable(tokenizer.endOfInput())));
+			return values.handle((bytes, sink) -> {
+				Object value = parse(bytes, elementType);
+				if (null != value) {
+					sink.next(value);
+				}
+			});
+		});
 	}
 
 	@Override
 	public Mono<Object> decodeToMono(Publisher<DataBuffer> inputStream, ResolvableType elementType, MimeType mimeType, Map<String, Object> hints) {
-		return DataBufferUtils.join(inputStream).map(dataBuffer -> decode(dataBuffer, elementType));
+		return DataBufferUtils.join(inputStream, maxInMemorySize).handle((dataBuffer, sink) -> {
+			Object value = decode(dataBuffer, elementType, mimeType, hints);
+			if (null != value) {
+				sink.next(value);
+			}
+		});
 	}
 
-	private Object decode(DataBuffer buffer, ResolvableType elementType) {
+	@Override
+	public Object decode(DataBuffer buffer, ResolvableType targetType, @Nullable MimeType mimeType, @Nullable Map<String, Object> hints)
+			throws DecodingException {
 		try {
-			InputStream is = buffer.asInputStream();
-			Class< ? > clazz = elementType.toClass();
-			return JSON.parseObject(is, (Type) clazz);
-		}
-		catch (IOException e) {
-			throw ExceptionWrapUtils.wrapRuntime(e);
+			byte[] bytes = new byte[buffer.readableByteCount()];
+			buffer.read(bytes);
+			return parse(bytes, targetType);
 		}
 		finally {
 			DataBufferUtils.release(buffer);
 		}
 	}
 
+	private Object parse(byte[] bytes, ResolvableType elementType) {
+		Type type = elementType.hasUnresolvableGenerics() ? elementType.toClass() : elementType.getType();
+		try {
+			return JSON.parseObject(bytes, 0, bytes.length, StandardCharsets.UTF_8, type);
+		}
+		catch (JSONException e) {
+			throw new DecodingException("JSON解析错误:" + e.getMessage(), e);
+		}
+	}
+
 	@Override
 	public List<MimeType> getDecodableMimeTypes() {
 		return getMimeTypes();
@@ -15,15 +15,20 @@
  */
 package com.gitlab.summercattle.commons.webflux.codec;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.reactivestreams.Publisher;
 import org.springframework.core.ResolvableType;
-import org.springframework.core.codec.Encoder;
 import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.core.io.buffer.DataBufferFactory;
 import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.HttpMessageEncoder;
 import org.springframework.lang.Nullable;
 import org.springframework.util.MimeType;
 
@@ -31,11 +36,20 @@ import com.alibaba.fastjson.JSON;
 import com.alibaba.fastjson.JSONArray;
 import com.alibaba.fastjson.JSONObject;
 import com.alibaba.fastjson.serializer.SerializerFeature;
+import com.gitlab.summercattle.commons.utils.exception.ExceptionWrapUtils;
 
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-public class FastJsonEncoder extends FastJsonCodecSupport implements Encoder<Object> {
+public class FastJsonEncoder extends FastJsonCodecSupport implements HttpMessageEncoder<Object> {
+
+	private static final byte[] NEWLINE_SEPARATOR = "\n".getBytes(StandardCharsets.UTF_8);
+
+	private static final byte[] ARRAY_START = "[".getBytes(StandardCharsets.UTF_8);
+
+	private static final byte[] ARRAY_SEPARATOR = ",".getBytes(StandardCharsets.UTF_8);
+
+	private static final byte[] ARRAY_END = "]".getBytes(StandardCharsets.UTF_8);
 
 	@Override
 	public boolean canEncode(ResolvableType elementType, @Nullable MimeType mimeType) {
@@ -44,30 +58,54 @@ public class FastJsonEncoder extends FastJsonCodecSupport implements Encoder<Obj
 				&& (JSONObject.class == elementType.resolve(clazz) || JSONArray.class == elementType.resolve(clazz))));
 	}
 
+	/**
+	 * 单值直接编码;多值按流式类型逐行输出,否则输出为JSON数组,每个值单独编码后即下发
+	 */
 	@Override
 	public Flux<DataBuffer> encode(Publisher< ? extends Object> inputStream, DataBufferFactory bufferFactory, ResolvableType elementType,
 			@Nullable MimeType mimeType, @Nullable Map<String, Object> hints) {
 		if (inputStream instanceof Mono) {
-			return Mono.from(inputStream).map(value -> encodeValue(value, bufferFactory)).flux();
+			return Mono.from(inputStream).map(value -> encodeValue(value, bufferFactory, null, null)).flux();
+		}
+		if (isStreamingMimeType(mimeType)) {
+			return Flux.from(inputStream).map(value -> encodeValue(value, bufferFactory, null, NEWLINE_SEPARATOR));
 		}
-		return null;
+		return Flux.defer(() -> {
+			AtomicBoolean first = new AtomicBoolean(true);
+			Flux<DataBuffer> values = Flux.from(inputStream)
+					.map(value -> encodeValue(value, bufferFactory, first.compareAndSet(true, false) ? null : ARRAY_SEPARATOR, null));
+			return Flux.concat(Mono.fromCallable(() -> bufferFactory.wrap(ARRAY_START)), values,
+					Mono.fromCallable(() -> bufferFactory.wrap(ARRAY_END)));
+		});
 	}
 
 	@Override
 	public DataBuffer encodeValue(Object value, DataBufferFactory bufferFactory, ResolvableType valueType, @Nullable MimeType mimeType,
 			@Nullable Map<String, Object> hints) {
-		return encodeValue(value, bufferFactory);
+		return encodeValue(value, bufferFactory, null, null);
 	}
 
-	private DataBuffer encodeValue(Object value, DataBufferFactory bufferFactory) {
+	/**
+	 * 直接写入数据缓冲区的输出流,不再生成中间字节数组
+	 */
+	private DataBuffer encodeValue(Object value, DataBufferFactory bufferFactory, @Nullable byte[] prefix, @Nullable byte[] suffix) {
 		DataBuffer buffer = bufferFactory.allocateBuffer();
 		boolean release = true;
 		try {
-			byte[] bytes = JSON.toJSONBytes(value, SerializerFeature.WriteMapNullValue, SerializerFeature.DisableCircularReferenceDetect);
-			buffer.write(bytes);
+			if (null != prefix) {
+				buffer.write(prefix);
+			}
+			OutputStream os = buffer.asOutputStream();
+			JSON.writeJSONString(os, value, SerializerFeature.WriteMapNullValue, SerializerFeature.DisableCircularReferenceDetect);
+			if (null != suffix) {
+				buffer.write(suffix);
+			}
 			release = false;
 			return buffer;
 		}
+		catch (IOException e) {
+			throw ExceptionWrapUtils.wrapRuntime(e);
+		}
 		finally {
 			if (release) {
 				DataBufferUtils.release(buffer);
@@ -79,4 +117,9 @@ public class FastJsonEncoder extends FastJsonCodecSupport implements Encoder<Obj
 	public List<MimeType> getEncodableMimeTypes() {
 		return getMimeTypes();
 	}
+
+	@Override
+	public List<MediaType> getStreamingMediaTypes() {
+		return STREAMING_MEDIA_TYPES;
+	}
 }
\ No newline at end of file
@@ -0,0 +1,200 @@
+/*
+ * Copyright (C) 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gitlab.summercattle.commons.webflux.codec;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+
+/**
+ * JSON值切分,按字节流跟踪字符串与嵌套层级,把跨越多个数据缓冲区的输入切分为完整的顶层值,
+ * 顶层为数组时可按元素切分,非数组时按值切分(逐行JSON或连续的多个值)
+ */
+class FastJsonTokenizer {
+
+	private final boolean tokenizeArrayElements;
+
+	private final int maxInMemorySize;
+
+	private byte[] value = new byte[256];
+
+	private int valueLength = 0;
+
+	/**
+	 * 当前值的嵌套层级,0表示不在对象或数组中
+	 */
+	private int depth = 0;
+
+	private boolean inValue = false;
+
+	private boolean inString = false;
+
+	private boolean escape = false;
+
+	/**
+	 * 是否在被拆分的顶层数组中
+	 */
+	private boolean inArray = false;
+
+	private boolean started = false;
+
+	FastJsonTokenizer(boolean tokenizeArrayElements, int maxInMemorySize) {
+		this.tokenizeArrayElements = tokenizeArrayElements;
+		this.maxInMemorySize = maxInMemorySize;
+	}
+
+	/**
+	 * 切分一个数据缓冲区,返回其中完整的值,缓冲区在处理后释放
+	 * @param buffer 数据缓冲区
+	 * @return 完整的值
+	 */
+	List<byte[]> tokenize(DataBuffer buffer) {
+		try {
+			byte[] bytes = new byte[buffer.readableByteCount()];
+			buffer.read(bytes);
+			List<byte[]> result = null;
+			int start = -1;
+			for (int i = 0; i < bytes.length; i++) {
+				byte b = bytes[i];
+				if (!inValue) {
+					if (isWhitespace(b)) {
+						continue;
+					}
+					if (tokenizeArrayElements && !started && b == '[') {
+						started = true;
+						inArray = true;
+						continue;
+					}
+					started = true;
+					if (inArray && (b == ',' || b == ']')) {
+						if (b == ']') {
+							inArray = false;
+						}
+						continue;
+					}
+					inValue = true;
+					start = i;
+					if (b == '{' || b == '[') {
+						depth = 1;
+					}
+					else if (b == '"') {
+						inString = true;
+					}
+					continue;
+				}
+				if (start < 0) {
+					start = i;
+				}
+				boolean complete = false;
+				boolean include = true;
+				if (inString) {
+					if (escape) {
+						escape = false;
+					}
+					else if (b == '\\') {
+						escape = true;
+					}
+					else if (b == '"') {
+						inString = false;
+						complete = depth == 0;
+					}
+				}
+				else if (depth > 0) {
+					if (b == '"') {
+						inString = true;
+					}
+					else if (b == '{' || b == '[') {
+						depth++;
+					}
+					else if (b == '}' || b == ']') {
+						depth--;
+						complete = depth == 0;
+					}
+				}
+				else if (isWhitespace(b) || b == ',' || b == ']' || b == '}') {
+					//数字、true、false、null等标量值以分隔符结束
+					complete = true;
+					include = false;
+				}
+				if (complete) {
+					append(bytes, start, include ? i + 1 : i);
+					if (null == result) {
+						result = new ArrayList<byte[]>();
+					}
+					result.add(takeValue());
+					start = -1;
+					if (!include) {
+						i--;
+					}
+				}
+			}
+			if (inValue && start >= 0) {
+				append(bytes, start, bytes.length);
+			}
+			return null != result ? result : Collections.emptyList();
+		}
+		finally {
+			DataBufferUtils.release(buffer);
+		}
+	}
+
+	/**
+	 * 输入结束,返回剩余的标量值
+	 * @return 剩余的值
+	 */
+	List<byte[]> endOfInput() {
+		if (inValue) {
+			if (depth > 0 || inString) {
+				throw new DecodingException("JSON输入不完整");
+			}
+			return Collections.singletonList(takeValue());
+		}
+		return Collections.emptyList();
+	}
+
+	private void append(byte[] bytes, int from, int to) {
+		int length = to - from;
+		if (length <= 0) {
+			return;
+		}
+		if (maxInMemorySize >= 0 && valueLength + length > maxInMemorySize) {
+			throw new DataBufferLimitException("JSON值超过最大缓冲字节数" + maxInMemorySize);
+		}
+		if (valueLength + length > value.length) {
+			value = Arrays.copyOf(value, Math.max(value.length * 2, valueLength + length));
+		}
+		System.arraycopy(bytes, from, value, valueLength, length);
+		valueLength += length;
+	}
+
+	private byte[] takeValue() {
+		byte[] result = Arrays.copyOf(value, valueLength);
+		valueLength = 0;
+		inValue = false;
+		depth = 0;
+		return result;
+	}
+
+	private static boolean isWhitespace(byte b) {
+		return b == ' ' || b == '\n' || b == '\r' || b == '\t';
+	}
+}
\ No newline at end of file